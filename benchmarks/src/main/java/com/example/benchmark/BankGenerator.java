@@ -0,0 +1,113 @@
+package com.example.benchmark;
+
+import com.example.model.Question;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates synthetic question banks for the benchmarks.
+ * Banks have five value tiers (100 to 500) per category, so a bank of {@code n} questions has {@code n / 5}
+ * categories and every category and value pair is unique, as in a real game file.
+ * @author Nicholas Grimes
+ */
+public final class BankGenerator{
+    private static final String[] LABELS = { "A", "B", "C", "D" };
+
+    private BankGenerator(){}
+
+    /**
+     * Builds a bank of questions in memory.
+     * @param size the number of questions
+     * @return the generated questions
+     */
+    public static List<Question> questions(int size){
+        List<Question> questions = new ArrayList<>(size);
+        for(int i = 0; i < size; i++){
+            questions.add(new Question(category(i), Integer.toString(value(i)), questionText(i), options(i),
+                    LABELS[i % 4]));
+        }
+        return questions;
+    }
+
+    /**
+     * Builds a bank in the given file format.
+     * @param format one of {@code csv}, {@code json} or {@code xml}
+     * @param size the number of questions
+     * @return the encoded file contents
+     */
+    public static byte[] bank(String format, int size){
+        return switch(format){
+            case "csv" -> csv(size);
+            case "json" -> json(size);
+            case "xml" -> xml(size);
+            default -> throw new IllegalArgumentException("Unsupported format: " + format);
+        };
+    }
+
+    private static byte[] csv(int size){
+        StringBuilder sb = new StringBuilder(size * 96);
+        sb.append("Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n");
+        for(int i = 0; i < size; i++){
+            String[] options = options(i);
+            sb.append(category(i)).append(',')
+              .append(value(i)).append(',')
+              .append('"').append(questionText(i)).append('"').append(',')
+              .append(options[0]).append(',')
+              .append(options[1]).append(',')
+              .append(options[2]).append(',')
+              .append(options[3]).append(',')
+              .append(LABELS[i % 4]).append('\n');
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] json(int size){
+        StringBuilder sb = new StringBuilder(size * 192);
+        sb.append("[\n");
+        for(int i = 0; i < size; i++){
+            String[] options = options(i);
+            if(i > 0) sb.append(",\n");
+            sb.append("{\"Category\":\"").append(category(i))
+              .append("\",\"Value\":").append(value(i))
+              .append(",\"Question\":\"").append(questionText(i))
+              .append("\",\"Options\":{\"A\":\"").append(options[0])
+              .append("\",\"B\":\"").append(options[1])
+              .append("\",\"C\":\"").append(options[2])
+              .append("\",\"D\":\"").append(options[3])
+              .append("\"},\"CorrectAnswer\":\"").append(LABELS[i % 4]).append("\"}");
+        }
+        sb.append("\n]\n");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] xml(int size){
+        StringBuilder sb = new StringBuilder(size * 320);
+        sb.append("<?xml version='1.0' encoding='utf-8'?>\n<JeopardyQuestions>");
+        for(int i = 0; i < size; i++){
+            String[] options = options(i);
+            sb.append("<QuestionItem><Category>").append(category(i))
+              .append("</Category><Value>").append(value(i))
+              .append("</Value><QuestionText>").append(questionText(i))
+              .append("</QuestionText><Options><OptionA>").append(options[0])
+              .append("</OptionA><OptionB>").append(options[1])
+              .append("</OptionB><OptionC>").append(options[2])
+              .append("</OptionC><OptionD>").append(options[3])
+              .append("</OptionD></Options><CorrectAnswer>").append(LABELS[i % 4])
+              .append("</CorrectAnswer></QuestionItem>");
+        }
+        sb.append("</JeopardyQuestions>\n");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String category(int i){return "Category " + (i / 5);}
+
+    private static int value(int i){return (i % 5 + 1) * 100;}
+
+    private static String questionText(int i){return "Which option is correct for question " + i + "?";}
+
+    private static String[] options(int i){
+        return new String[]{ "alpha " + i, "beta " + i, "gamma " + i, "delta " + i };
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.benchmark;
+
+import com.example.model.Question;
+import com.example.parser.binary.BankCompiler;
+import com.example.parser.binary.BinaryQuestionBank;
+import com.example.parser.factory.ParserFactory;
+import com.example.parser.strategy.ParallelCSVFileParser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading a bank file from disk: parsing the CSV text sequentially or in parallel chunks, versus
+ * memory-mapping the compiled {@code .jqb} form and looking one question up, which is what a game does before
+ * its first turn.
+ * @author Nicholas Grimes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BankLoadBenchmark{
+    @Param({ "1000", "100000", "500000" })
+    public int size;
+
+    private Path dir;
+    private Path csv;
+    private Path jqb;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException{
+        dir = Files.createTempDirectory("bank-load");
+        csv = dir.resolve("bank.csv");
+        jqb = dir.resolve("bank.jqb");
+        Files.write(csv, BankGenerator.bank("csv", size));
+        BankCompiler.compile(csv, jqb);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException{
+        Files.deleteIfExists(csv);
+        Files.deleteIfExists(jqb);
+        Files.deleteIfExists(dir);
+    }
+
+    @Benchmark
+    public List<Question> parseCsv() throws IOException{
+        try(InputStream in = Files.newInputStream(csv)){
+            return ParserFactory.createParser(csv.toString()).parse(in);
+        }
+    }
+
+    @Benchmark
+    public List<Question> parseCsvParallel() throws IOException{
+        return new ParallelCSVFileParser().parse(csv);
+    }
+
+    @Benchmark
+    public Question mapCompiled() throws IOException{
+        return BinaryQuestionBank.open(jqb).findQuestion("Category 0", 100);
+    }
+
+    @Benchmark
+    public Question mapCompiledUnverified() throws IOException{
+        return BinaryQuestionBank.open(jqb, false).findQuestion("Category 0", 100);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.benchmark;
+
+import com.example.model.BoardBuilder;
+import com.example.model.QuestionCatalog;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building a fresh six-category board per session out of a large catalog.
+ * The catalog and the builder's index are created once; every invocation draws a new board from a new seed.
+ * @author Nicholas Grimes
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class BoardBuilderBenchmark{
+    @Param({"1000000"})
+    public int size;
+
+    private BoardBuilder builder;
+    private long seed;
+
+    @Setup
+    public void setup(){
+        builder = new BoardBuilder(new QuestionCatalog(BankGenerator.questions(size)));
+    }
+
+    @Benchmark
+    public QuestionCatalog buildBoard(){
+        return builder.build(6, seed++);
+    }
+}
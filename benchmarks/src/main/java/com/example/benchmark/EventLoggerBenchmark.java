@@ -0,0 +1,80 @@
+package com.example.benchmark;
+
+import com.example.logging.AsyncCSVEventLogger;
+import com.example.logging.CSVEventLogger;
+import com.example.logging.EventListener;
+import com.example.logging.EventRecord;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link EventListener#onEvent(EventRecord)} throughput of the CSV event loggers.
+ * The asynchronous logger is measured from the publisher's side, which is what the game loop waits on.
+ * @author Mahaveer Ragbir
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventLoggerBenchmark{
+    @Param({ "CSVEventLogger", "AsyncCSVEventLogger" })
+    public String logger;
+
+    private EventListener listener;
+    private Path file;
+    private PrintStream stdout;
+    private final EventRecord event = new EventRecord("GAME-bench", "Alice", "SELECT_QUESTION",
+            Instant.now(), "Science", 100, null, null, 100);
+
+    @Setup(Level.Iteration)
+    public void setup() throws IOException{
+        file = Files.createTempFile("bench_event_log", ".csv");
+
+        // CSVEventLogger prints diagnostics from its constructor; keep them out of the benchmark output.
+        stdout = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try{
+            listener = logger.equals("CSVEventLogger")
+                    ? new CSVEventLogger(file.toString())
+                    : new AsyncCSVEventLogger(file.toString());
+        }
+        finally{
+            System.setOut(stdout);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException{
+        if(listener instanceof AsyncCSVEventLogger async){
+            async.close();
+        }
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void onEvent(){
+        listener.onEvent(event);
+    }
+}
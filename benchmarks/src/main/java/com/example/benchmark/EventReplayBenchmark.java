@@ -0,0 +1,74 @@
+package com.example.benchmark;
+
+import com.example.logging.EventReplayer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures replaying a CSV event log of many interleaved games, reported per event.
+ * The log is generated once in memory with the mix of activities a real game publishes, so only parsing and
+ * replaying are timed.
+ * @author Nicholas Grimes
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class EventReplayBenchmark{
+    private static final int GAMES = 1000;
+    private static final int TURNS = 25;
+    private static final String[] ACTIVITIES = {
+        "PLAYER_TURN_START", "SELECT_CATEGORY", "SELECT_QUESTION", "ASK_QUESTION", "ANSWER_QUESTION",
+        "CHECK_ANSWER", "SCORE_UPDATED"
+    };
+    private static final int EVENTS = GAMES * TURNS * 7; // one event per activity, as a constant for JMH
+
+    private String log;
+
+    @Setup
+    public void setup(){
+        StringBuilder csv = new StringBuilder(EVENTS * 80);
+        csv.append("Case_ID,Player_ID,Activity,Timestamp,Category,Question_Value,Answer_Given,Result,")
+                .append("Score_After_Play\n");
+        int[] scores = new int[GAMES * 2];
+        for(int turn = 0; turn < TURNS; turn++){
+            for(int game = 0; game < GAMES; game++){
+                int seat = game * 2 + turn % 2;
+                int value = 100 * (turn % 5 + 1);
+                boolean correct = (game + turn) % 3 != 0;
+                for(String activity : ACTIVITIES){
+                    boolean scored = activity.equals("SCORE_UPDATED");
+                    if(scored) scores[seat] += correct ? value : -value;
+                    csv.append("GAME-").append(game).append(",Player ").append(seat % 2 + 1).append(',')
+                            .append(activity).append(",2024-01-01T00:00:00.123456Z,Category ").append(turn / 5)
+                            .append(',').append(value).append(",B,")
+                            .append(scored ? (correct ? "CORRECT" : "INCORRECT") : "").append(',')
+                            .append(scores[seat]).append('\n');
+                }
+            }
+        }
+        log = csv.toString();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public EventReplayer replayCsv() throws IOException{
+        return new EventReplayer().replayCsv(new StringReader(log));
+    }
+}
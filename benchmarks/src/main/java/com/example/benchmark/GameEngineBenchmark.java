@@ -0,0 +1,69 @@
+package com.example.benchmark;
+
+import com.example.gameplay.input.ScriptedInputSource;
+import com.example.gameplay.state.GameEngine;
+import com.example.model.Player;
+import com.example.model.Question;
+import com.example.model.QuestionCatalog;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a full turn cycle through the game states
+ * (player turn, select, ask, accept, check and update score).
+ * Each invocation plays a scripted game of {@value #TURNS} turns on a fresh board over a shared catalog, and the score is reported per turn.
+ * @author Nicholas Grimes
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameEngineBenchmark{
+    static final int TURNS = 30;
+
+    private final PrintStream quiet = new PrintStream(OutputStream.nullOutputStream());
+    private List<String> script;
+    private QuestionCatalog catalog;
+
+    @Setup
+    public void setup(){
+        catalog = new QuestionCatalog(BankGenerator.questions(TURNS));
+        script = new ArrayList<>();
+        for(Question q : catalog.getQuestions()){
+            script.add(q.getCategory() + "," + q.getValue());
+            script.add(q.getCorrectAnswer());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TURNS)
+    public GameEngine turnCycle(){
+        List<Player> players = List.of(new Player(1, "Alice"), new Player(2, "Bob"));
+        GameEngine engine = new GameEngine(catalog, players, null, "bench",
+                new ScriptedInputSource(script), quiet);
+
+        while(engine.isRunning()){
+            engine.getGameState().loadGameState(engine);
+            engine.nextGameState();
+        }
+        return engine;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.benchmark;
+
+import com.example.model.Question;
+import com.example.parser.strategy.ByteCSVFileParser;
+import com.example.parser.strategy.CSVFileParser;
+import com.example.parser.strategy.FileParserStrategy;
+import com.example.parser.strategy.JSONFileParser;
+import com.example.parser.strategy.StAXXMLFileParser;
+import com.example.parser.strategy.StreamingJSONFileParser;
+import com.example.parser.strategy.XMLFileParser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long each {@link FileParserStrategy} takes to parse a generated bank held in memory,
+ * so the numbers reflect parsing only and not disk I/O.
+ * @author Nicholas Grimes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ParserBenchmark{
+    @Param({ "CSVFileParser", "ByteCSVFileParser", "JSONFileParser", "XMLFileParser", "StreamingJSONFileParser", "StAXXMLFileParser" })
+    public String parser;
+
+    @Param({ "1000", "100000", "1000000" })
+    public int size;
+
+    private FileParserStrategy strategy;
+    private byte[] bank;
+
+    @Setup
+    public void setup(){
+        strategy = switch(parser){
+            case "CSVFileParser" -> new CSVFileParser();
+            case "ByteCSVFileParser" -> new ByteCSVFileParser();
+            case "JSONFileParser" -> new JSONFileParser();
+            case "XMLFileParser" -> new XMLFileParser();
+            case "StreamingJSONFileParser" -> new StreamingJSONFileParser();
+            case "StAXXMLFileParser" -> new StAXXMLFileParser();
+            default -> throw new IllegalArgumentException("Unknown parser: " + parser);
+        };
+
+        String format = parser.contains("CSV") ? "csv" : parser.contains("JSON") ? "json" : "xml";
+        bank = BankGenerator.bank(format, size);
+    }
+
+    @Benchmark
+    public List<Question> parse(){
+        return strategy.parse(new ByteArrayInputStream(bank));
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.benchmark;
+
+import com.example.gameplay.state.GameEngine;
+import com.example.model.GameTurn;
+import com.example.model.Player;
+import com.example.model.Question;
+import com.example.report.DocxReportGenerator;
+import com.example.report.PDFReportGenerator;
+import com.example.report.ReportGenerationException;
+import com.example.report.ReportGenerator;
+import com.example.report.TXTReportGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures each {@link ReportGenerator} on a finished game of {@value #TURNS} turns.
+ * @author Shiann Noriega
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportBenchmark{
+    static final int TURNS = 30;
+
+    @Param({ "TXTReportGenerator", "PDFReportGenerator", "DocxReportGenerator" })
+    public String generator;
+
+    private ReportGenerator reportGenerator;
+    private GameEngine session;
+    private Path file;
+    private PrintStream stdout;
+
+    @Setup
+    public void setup() throws IOException{
+        reportGenerator = switch(generator){
+            case "TXTReportGenerator" -> new TXTReportGenerator();
+            case "PDFReportGenerator" -> new PDFReportGenerator();
+            case "DocxReportGenerator" -> new DocxReportGenerator();
+            default -> throw new IllegalArgumentException("Unknown generator: " + generator);
+        };
+
+        List<Player> players = List.of(new Player(1, "Alice"), new Player(2, "Bob"));
+        List<Question> questions = BankGenerator.questions(TURNS);
+        session = new GameEngine(questions, players, null, "bench");
+        for(int i = 0; i < TURNS; i++){
+            Player p = players.get(i % 2);
+            Question q = questions.get(i);
+            int points = i % 3 == 0 ? -q.getValue() : q.getValue();
+            p.updateScore(points);
+            session.recordTurn(new GameTurn(p, q.getCategory(), q.getValue(), q.getQuestionText(),
+                    q.getCorrectAnswer(), points > 0, points, p.getScore()));
+        }
+
+        String extension = generator.substring(0, generator.indexOf("Report")).toLowerCase();
+        file = Files.createTempFile("bench_report", "." + extension);
+
+        // Generators print a success line for every report; keep them out of the benchmark output.
+        stdout = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException{
+        System.setOut(stdout);
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void generateReport() throws ReportGenerationException{
+        reportGenerator.generateReport(session, file.toString());
+    }
+}
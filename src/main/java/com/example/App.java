@@ -1,21 +1,26 @@
 package com.example;
 
+import com.example.parser.DirectoryBankLoader;
 import com.example.parser.QuestionLoader;
 import com.example.report.ReportExecutor;
-import com.example.model.Question;
+import com.example.report.ReportGenerationException;
+import com.example.model.QuestionCatalog;
 import com.example.gameplay.state.GameEngine;
 import com.example.logging.SimpleEventPublisher;
-import com.example.logging.CSVEventLogger;
+import com.example.logging.AsyncCSVEventLogger;
 import com.example.logging.LogHelper;
 
-import java.util.List;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.UUID;
 
 /**
  * Main class to launch the Jeopardy application.
  * Initializes the game, loads questions, sets up logging, and runs the game engine.
  * 
- * Logging is handled using a CSVEventLogger registered with a SimpleEventPublisher.
+ * Logging is handled using an AsyncCSVEventLogger registered with a SimpleEventPublisher.
  * Game events are published at key points, such as game start, file loading, and game state changes.
  * 
  * @author Nicholas Grimes
@@ -28,7 +33,8 @@ public class App {
      * Main launching point of the Jeopardy application.
      * Initializes the event publisher, logger, and game engine, then runs the game loop.
      *
-     * @param args CLI arguments passed to the application
+     * @param args CLI arguments passed to the application; an optional bank file or
+     *             directory of bank files to play from
      */
     public static void main(String[] args) {
         try {
@@ -39,9 +45,13 @@ public class App {
 
             /**
              * Creates a CSV logger to record all events to "game_event_log.csv".
-             * This logger is responsible for writing headers and appending new event records.
+             * This logger writes the header and appends new event records on a background
+             * thread. If the disk falls behind and the queue fills up, the oldest queued events
+             * are dropped so the game loop never waits on the disk.
              */
-            CSVEventLogger csvLogger = new CSVEventLogger("game_event_log.csv");
+            AsyncCSVEventLogger csvLogger = new AsyncCSVEventLogger("game_event_log.csv",
+                    AsyncCSVEventLogger.DEFAULT_CAPACITY, AsyncCSVEventLogger.DEFAULT_FLUSH_INTERVAL_MILLIS,
+                    AsyncCSVEventLogger.OverflowPolicy.DROP_OLDEST);
 
             /**
              * Registers the CSV logger with the publisher so that all published events are logged.
@@ -66,8 +76,7 @@ public class App {
             LogHelper.publishEvent(publisher, caseId, null, "LOAD_FILE",
                     null, null, null, null, null);
 
-            QuestionLoader load = new QuestionLoader();
-            List<Question> questions = load.initQuestions();
+            QuestionCatalog catalog = loadCatalog(args);
 
             /**
              * Publishes FILE_LOADED_SUCCESSFULLY event to indicate that questions were loaded successfully.
@@ -78,10 +87,10 @@ public class App {
             System.out.println("\nWelcome to Jeopardy!\n");
 
             /**
-             * Creates the game engine with loaded questions, publisher, and case ID.
+             * Creates the game engine with the loaded catalog, publisher, and case ID.
              * The engine controls the flow of game states and gameplay.
              */
-            GameEngine engine = new GameEngine(questions, publisher, caseId);
+            GameEngine engine = new GameEngine(catalog, publisher, caseId);
 
             /**
              * Runs the game loop until the engine is no longer running.
@@ -96,11 +105,56 @@ public class App {
 
             /**
              * Executes any final reports at the end of the game.
+             * The generators run concurrently so the slowest one decides the wait.
              */
-            ReportExecutor.executeReports(engine);
+            try {
+                ReportExecutor.executeReportsConcurrently(engine, ReportExecutor.DEFAULT_TIMEOUT_MILLIS);
+            } catch (ReportGenerationException e) {
+                System.err.println("Error generating report: " + e.getMessage());
+                for (Throwable other : e.getSuppressed()) {
+                    System.err.println("Error generating report: " + other.getMessage());
+                }
+            }
+
+            /**
+             * Writes any queued events and closes the event log.
+             */
+            csvLogger.close();
+            if (csvLogger.getDroppedCount() > 0) {
+                System.err.println("Event log is missing " + csvLogger.getDroppedCount()
+                        + " events that were dropped while the disk was falling behind");
+            }
 
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
+
+    /**
+     * Loads the questions for the game. With no arguments one of the sample banks
+     * is picked from the classpath; otherwise the first argument names a bank file
+     * or a directory whose bank files are all loaded and merged.
+     *
+     * @param args CLI arguments passed to the application
+     * @return the catalog of the loaded questions
+     * @throws IOException if the directory cannot be listed
+     */
+    private static QuestionCatalog loadCatalog(String[] args) throws IOException {
+        if (args.length == 0) {
+            return new QuestionLoader().initCatalog();
+        }
+
+        Path path = Paths.get(args[0]);
+        if (!Files.isDirectory(path)) {
+            return new QuestionLoader().initCatalog(path);
+        }
+
+        DirectoryBankLoader.Report report = new DirectoryBankLoader().load(path);
+        for (DirectoryBankLoader.FileReport file : report.getFiles()) {
+            System.out.println(file);
+        }
+        System.out.println("\nSuccessfully loaded " + report.getCatalog().size() + " questions from "
+                + (report.getFiles().size() - report.getFailures().size()) + " files in " + path);
+        return report.getCatalog();
+    }
 }
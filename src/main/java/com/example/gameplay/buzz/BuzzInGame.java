@@ -0,0 +1,172 @@
+package com.example.gameplay.buzz;
+
+import com.example.logging.EventPublisher;
+import com.example.logging.LogHelper;
+import com.example.model.GameTurn;
+import com.example.model.Player;
+import com.example.model.Question;
+import com.example.model.QuestionCatalog;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A game in which there are no turns: every player in the room may answer the current question at any time, from
+ * any thread, and the first to buzz in answers it.
+ * Questions are asked one at a time in catalog order. Buzzing in is a compare-and-set on the current
+ * {@link BuzzInQuestion}, so arbitration is lock-free and exactly one buzz per question wins however many arrive
+ * at once; every other buzz for that question returns {@link BuzzResult#TOO_LATE} without touching the game.
+ *
+ * <p>
+ * Only the winning thread goes on to score the question. It adds or subtracts the question's value with an atomic
+ * update of the {@link Player}'s score, records the {@link GameTurn} and publishes the same {@code SCORE_UPDATED}
+ * event a turn-based game does, and then opens the next question. Since a question only opens once the previous
+ * one has been scored, turns are recorded and events published in question order. Instances are safe to use from
+ * multiple threads; the optional {@link EventPublisher} must be too.
+ * @author Nicholas Grimes
+ */
+public class BuzzInGame{
+    private final QuestionCatalog catalog;
+    private final List<Player> players;
+    private final EventPublisher publisher;
+    private final String caseId;
+    private final AtomicReference<BuzzInQuestion> current = new AtomicReference<>();
+    private final Queue<GameTurn> turns = new ConcurrentLinkedQueue<>();
+    private final LongAdder lateBuzzes = new LongAdder();
+    private final CompletableFuture<BuzzInGame> finished = new CompletableFuture<>();
+
+    /**
+     * Constructor to initialise a game and open its first question.
+     * @param catalog the questions of the game, asked in catalog order
+     * @param players the players in the room
+     * @param publisher the thread-safe event publisher, or {@code null} to disable logging
+     * @param caseId the unique case ID for this game
+     */
+    public BuzzInGame(QuestionCatalog catalog, List<Player> players, EventPublisher publisher, String caseId){
+        this.catalog = catalog;
+        this.players = List.copyOf(players);
+        this.publisher = publisher;
+        this.caseId = caseId;
+        open(0);
+    }
+
+    /**
+     * Returns the question that is open for buzzing.
+     * @return the current {@link BuzzInQuestion}, or {@code null} once the game is over
+     */
+    public BuzzInQuestion getCurrentQuestion(){return current.get();}
+
+    /**
+     * Buzzes in on a question and, if the buzz wins, answers and scores it.
+     * @param player the player buzzing in, who must be in this game
+     * @param questionNumber the {@link BuzzInQuestion#getNumber() number} of the question the player is answering
+     * @param answer the player's answer
+     * @return whether the buzz won and the answer was correct, or {@link BuzzResult#TOO_LATE} if the question was
+     *         already claimed or is not the current one
+     * @throws IllegalArgumentException if the player is not in this game
+     */
+    public BuzzResult answer(Player player, int questionNumber, String answer){
+        if(!isInGame(player)){
+            throw new IllegalArgumentException("Player is not in this game: " + player.getName());
+        }
+
+        BuzzInQuestion question = current.get();
+        if(question == null || question.getNumber() != questionNumber || !question.claim(player)){
+            lateBuzzes.increment();
+            return BuzzResult.TOO_LATE;
+        }
+
+        // only the thread that won the claim gets here, so the rest of the question is scored by one thread
+        Question q = question.getQuestion();
+        LogHelper.publishEvent(publisher, caseId, player.getName(), "BUZZ_IN", q.getCategory(), q.getValue(), null,
+                null, player.getScore());
+
+        boolean correct = answer != null && answer.equalsIgnoreCase(q.getCorrectAnswer());
+        int points = correct ? q.getValue() : -q.getValue();
+        int total = player.updateScore(points);
+
+        String result = correct ? "CORRECT" : "INCORRECT";
+        LogHelper.publishEvent(publisher, caseId, player.getName(), "SCORE_UPDATED", q.getCategory(), q.getValue(),
+                answer, result, total);
+        turns.add(new GameTurn(player, q.getCategory(), q.getValue(), q.getQuestionText(), answer, correct, points,
+                total));
+
+        BuzzResult outcome = correct ? BuzzResult.CORRECT : BuzzResult.INCORRECT;
+        question.resolve(outcome);
+        open(questionNumber + 1);
+        return outcome;
+    }
+
+    /**
+     * Returns the player in this game with the given name.
+     * @param name the player's name
+     * @return the {@link Player}, or {@code null} if no player has that name
+     */
+    public Player getPlayer(String name){
+        for(Player p : players){
+            if(p.getName().equals(name)) return p;
+        }
+        return null;
+    }
+
+    /**
+     * Accessor Method for {@code private final List<Player> players;}
+     * @return an unmodifiable list of the players in the room
+     */
+    public List<Player> getPlayers(){return players;}
+
+    /**
+     * Returns the turns scored so far.
+     * @return a snapshot of the turns, in question order
+     */
+    public List<GameTurn> getTurns(){return List.copyOf(turns);}
+
+    /**
+     * Returns the number of buzzes that lost the race for their question or arrived after it closed.
+     * @return the late buzz count
+     */
+    public long getLateBuzzCount(){return lateBuzzes.sum();}
+
+    /**
+     * Accessor Method for {@code private final String caseId;}
+     * @return the unique case ID of this game
+     */
+    public String getCaseId(){return caseId;}
+
+    /**
+     * Indicates whether every question has been scored.
+     * @return {@code true} once the game is over
+     */
+    public boolean isFinished(){return finished.isDone();}
+
+    /**
+     * Returns a future that completes with this game once every question has been scored.
+     * @return the completion of this game
+     */
+    public CompletableFuture<BuzzInGame> getCompletion(){return finished;}
+
+    private boolean isInGame(Player player){
+        for(Player p : players){
+            if(p == player) return true;
+        }
+        return false;
+    }
+
+    private void open(int number){
+        if(number < catalog.size()){
+            Question q = catalog.get(number);
+            LogHelper.publishEvent(publisher, caseId, null, "ASK_QUESTION", q.getCategory(), q.getValue(), null,
+                    null, null);
+            current.set(new BuzzInQuestion(q, number));
+        }
+        else{
+            current.set(null);
+            LogHelper.publishEvent(publisher, caseId, null, "GENERATE_REPORT", null, null, null, null, null);
+            finished.complete(this);
+        }
+    }
+}
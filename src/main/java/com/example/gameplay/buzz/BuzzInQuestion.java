@@ -0,0 +1,80 @@
+package com.example.gameplay.buzz;
+
+import com.example.model.Player;
+import com.example.model.Question;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A question that is open for buzzing in a {@link BuzzInGame}.
+ * The first player to claim it wins the right to answer; the claim is a single compare-and-set, so any number of
+ * players may buzz at the same moment and exactly one of them gets it, without a lock. Once the winner's answer has
+ * been scored the question is resolved and the game moves on to its next question.
+ * @author Nicholas Grimes
+ */
+public final class BuzzInQuestion{
+    private final Question question;
+    private final int number;
+    private final AtomicReference<Player> winner = new AtomicReference<>();
+    private volatile BuzzResult outcome;
+
+    /**
+     * Constructor to open a question for buzzing.
+     * @param question the question being asked
+     * @param number the position of the question in its game, counting from 0
+     */
+    BuzzInQuestion(Question question, int number){
+        this.question = question;
+        this.number = number;
+    }
+
+    /**
+     * Claims the question for a player.
+     * @param player the player who buzzed
+     * @return {@code true} if this player is the first to claim the question, otherwise {@code false}
+     */
+    boolean claim(Player player){
+        return winner.compareAndSet(null, player);
+    }
+
+    /**
+     * Records the scored outcome of the winner's answer.
+     * @param result whether the winner answered correctly
+     */
+    void resolve(BuzzResult result){
+        this.outcome = result;
+    }
+
+    /**
+     * Accessor Method for {@code private final Question question;}
+     * @return the question being asked
+     */
+    public Question getQuestion(){return question;}
+
+    /**
+     * Accessor Method for {@code private final int number;}
+     * Buzzes name the number of the question they answer, so a buzz that arrives after the game has moved on is
+     * never applied to the next question.
+     * @return the position of the question in its game, counting from 0
+     */
+    public int getNumber(){return number;}
+
+    /**
+     * Returns the player who claimed the question.
+     * @return the winner of the buzz, or {@code null} if nobody has buzzed yet
+     */
+    public Player getWinner(){return winner.get();}
+
+    /**
+     * Returns the outcome of the winner's answer.
+     * @return {@link BuzzResult#CORRECT} or {@link BuzzResult#INCORRECT}, or {@code null} while the question is
+     *         still open or being scored
+     */
+    public BuzzResult getOutcome(){return outcome;}
+
+    /**
+     * Indicates whether the winner's answer has been scored.
+     * @return {@code true} once the question is resolved
+     */
+    public boolean isResolved(){return outcome != null;}
+}
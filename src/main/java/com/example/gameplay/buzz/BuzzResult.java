@@ -0,0 +1,14 @@
+package com.example.gameplay.buzz;
+
+/**
+ * Outcome of one buzz in a {@link BuzzInGame}.
+ * @author Nicholas Grimes
+ */
+public enum BuzzResult{
+    /** The player buzzed first and answered correctly; the question's value was added to their score. */
+    CORRECT,
+    /** The player buzzed first and answered wrongly; the question's value was taken off their score. */
+    INCORRECT,
+    /** Another player buzzed first, or the question was no longer open; nothing changed. */
+    TOO_LATE
+}
@@ -1,8 +1,10 @@
 package com.example.gameplay.factory;
 
+import com.example.gameplay.input.ConsoleInputSource;
+import com.example.gameplay.input.InputSource;
 import com.example.model.Player;
 
-import java.util.Scanner;
+import java.io.PrintStream;
 import java.util.List;
 import java.util.ArrayList;
 
@@ -11,27 +13,35 @@ import java.util.ArrayList;
  * @author Nicholas Grimes
  */
 public class PlayerInitFactory{
-    private final static Scanner input = new Scanner(System.in);
-
     /**
-     * Prompts the user for the number of players and their names, creating and returning a list of initialised {@link Player} objects.
+     * Prompts the user on the console for the number of players and their names, creating and returning a list of initialised {@link Player} objects.
      * @return a list of fully initialised players
      */
     public static List<Player> createPlayers(){
+        return createPlayers(ConsoleInputSource.getInstance(), System.out);
+    }
+
+    /**
+     * Prompts for the number of players and their names, reading the answers from the given {@link InputSource}, creating and returning a list of initialised {@link Player} objects.
+     * @param input the source the answers are read from
+     * @param out the stream the prompts are written to
+     * @return a list of fully initialised players
+     */
+    public static List<Player> createPlayers(InputSource input, PrintStream out){
         List<Player> players = new ArrayList<>();
 
-        System.out.print("Enter number of players for this game (1-4): ");
+        out.print("Enter number of players for this game (1-4): ");
         int numPlayers = Integer.parseInt(input.nextLine());
 
         if(numPlayers < 1 || numPlayers > 4){
             while(numPlayers <= 0 || numPlayers > 4){
-                System.out.print("Enter number of players for this game (1-4): ");
+                out.print("Enter number of players for this game (1-4): ");
                 numPlayers = Integer.parseInt(input.nextLine());
             }
         }
 
         for(int i = 1; i <= numPlayers; i++){
-            System.out.print("Enter name for Player " + i + ": ");
+            out.print("Enter name for Player " + i + ": ");
             String name = input.nextLine();
 
             Player p = PlayerFactory.createPlayer(i, name);
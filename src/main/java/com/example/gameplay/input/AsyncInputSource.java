@@ -0,0 +1,109 @@
+package com.example.gameplay.input;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Concrete class of {@link InputSource} fed asynchronously through {@link CompletableFuture}s.
+ * Producers push lines with {@link #feed(String)} without ever blocking; consumers can either ask for a future
+ * with {@link #requestLine()} and react when it completes, or call {@link #nextLine()}, which waits on that
+ * future. When the game runs on a virtual thread, waiting only parks the virtual thread, so no platform thread is
+ * tied up per game. Lines fed before they are requested are buffered; requests made before a line arrives are
+ * completed in the order they were made. {@link #close()} completes every waiting request with {@code "quit"}.
+ * @author Nicholas Grimes
+ */
+public class AsyncInputSource implements InputSource, AutoCloseable{
+    private final Deque<String> buffered = new ArrayDeque<>();
+    private final Deque<CompletableFuture<String>> waiting = new ArrayDeque<>();
+    private boolean closed;
+
+    /**
+     * Supplies a line of input, completing the oldest waiting request or buffering the line if none is waiting.
+     * Lines fed after {@link #close()} are ignored.
+     * @param line the line to supply
+     */
+    public void feed(String line){
+        CompletableFuture<String> request;
+
+        synchronized(this){
+            if(closed) return;
+
+            request = waiting.poll();
+            if(request == null){
+                buffered.add(line);
+                return;
+            }
+        }
+
+        // Completed outside the lock so dependent stages never run while holding it.
+        request.complete(line);
+    }
+
+    /**
+     * Requests the next line of input without blocking.
+     * @return a future completed with the next line, which is already complete if a line was buffered
+     */
+    public CompletableFuture<String> requestLine(){
+        synchronized(this){
+            String line = buffered.poll();
+            if(line != null){
+                return CompletableFuture.completedFuture(line);
+            }
+            if(closed){
+                return CompletableFuture.completedFuture(QueueInputSource.QUIT);
+            }
+
+            CompletableFuture<String> request = new CompletableFuture<>();
+            waiting.add(request);
+            return request;
+        }
+    }
+
+    /**
+     * Returns the next line of input, waiting on {@link #requestLine()} until one is fed.
+     * @return the next line, or {@code "quit"} if the source is closed or the thread is interrupted
+     */
+    @Override
+    public String nextLine(){
+        CompletableFuture<String> request = requestLine();
+
+        try{
+            return request.get();
+        }
+        catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+            cancel(request);
+            return QueueInputSource.QUIT;
+        }
+        catch(CancellationException | ExecutionException e){
+            return QueueInputSource.QUIT;
+        }
+    }
+
+    /**
+     * Stops accepting input and completes every waiting request with {@code "quit"}.
+     */
+    @Override
+    public void close(){
+        Deque<CompletableFuture<String>> pending;
+
+        synchronized(this){
+            closed = true;
+            pending = new ArrayDeque<>(waiting);
+            waiting.clear();
+        }
+
+        for(CompletableFuture<String> request : pending){
+            request.complete(QueueInputSource.QUIT);
+        }
+    }
+
+    private synchronized void cancel(CompletableFuture<String> request){
+        if(waiting.remove(request)){
+            request.cancel(false);
+        }
+    }
+}
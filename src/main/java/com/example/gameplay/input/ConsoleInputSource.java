@@ -0,0 +1,35 @@
+package com.example.gameplay.input;
+
+import java.util.Scanner;
+
+/**
+ * Concrete class of {@link InputSource} that reads lines typed into the console.
+ * All console input goes through one shared {@link Scanner} so that separate readers of {@code System.in}
+ * do not buffer lines away from each other.
+ * @author Nicholas Grimes
+ */
+public class ConsoleInputSource implements InputSource{
+    private static final ConsoleInputSource INSTANCE = new ConsoleInputSource();
+
+    private Scanner scanner;
+
+    private ConsoleInputSource(){}
+
+    /**
+     * Returns the shared console input source.
+     * @return the console {@link InputSource}
+     */
+    public static ConsoleInputSource getInstance(){return INSTANCE;}
+
+    /**
+     * Reads the next line typed into the console.
+     * @return the player's raw text input
+     */
+    @Override
+    public synchronized String nextLine(){
+        if(scanner == null){
+            scanner = new Scanner(System.in);
+        }
+        return scanner.nextLine();
+    }
+}
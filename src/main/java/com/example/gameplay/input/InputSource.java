@@ -0,0 +1,15 @@
+package com.example.gameplay.input;
+
+/**
+ * Defines where a game reads player input from.
+ * Decouples the {@link com.example.gameplay.state.GameEngine} from the console so a game can also be driven
+ * from an in-memory queue, for example by a headless session host.
+ * @author Nicholas Grimes
+ */
+public interface InputSource{
+    /**
+     * Returns the next line of player input, waiting until one is available.
+     * @return the player's raw text input
+     */
+    String nextLine();
+}
@@ -0,0 +1,48 @@
+package com.example.gameplay.input;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Concrete class of {@link InputSource} backed by an in-memory queue.
+ * Lines are pushed in with {@link #submit(String)} from any thread and consumed in order by the game.
+ * If the reading thread is interrupted while waiting, {@code "quit"} is returned so the game ends cleanly.
+ * @author Nicholas Grimes
+ */
+public class QueueInputSource implements InputSource{
+    /**
+     * Input returned when the reading thread is interrupted.
+     */
+    public static final String QUIT = "quit";
+
+    private final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+
+    /**
+     * Adds a line of input to the end of the queue.
+     * @param line the line to add
+     */
+    public void submit(String line){
+        lines.add(line);
+    }
+
+    /**
+     * Returns the number of lines waiting to be read.
+     * @return the queued line count
+     */
+    public int pending(){return lines.size();}
+
+    /**
+     * Takes the next line from the queue, waiting until one is submitted.
+     * @return the next line, or {@code "quit"} if the thread is interrupted
+     */
+    @Override
+    public String nextLine(){
+        try{
+            return lines.take();
+        }
+        catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+            return QUIT;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.gameplay.input;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Concrete class of {@link InputSource} that replays a fixed script of lines.
+ * Useful for tests and automated play where all input is known up front. Once the script has been used up,
+ * {@code "quit"} is returned so the game always ends instead of waiting forever.
+ * @author Nicholas Grimes
+ */
+public class ScriptedInputSource implements InputSource{
+    private final Deque<String> lines;
+
+    /**
+     * Constructor to initialise the script from individual lines.
+     * @param lines the lines to replay, in order
+     */
+    public ScriptedInputSource(String... lines){
+        this(Arrays.asList(lines));
+    }
+
+    /**
+     * Constructor to initialise the script from a list of lines.
+     * @param lines the lines to replay, in order
+     */
+    public ScriptedInputSource(List<String> lines){
+        this.lines = new ArrayDeque<>(lines);
+    }
+
+    /**
+     * Returns the number of scripted lines that have not been read yet.
+     * @return the remaining line count
+     */
+    public synchronized int remaining(){return lines.size();}
+
+    /**
+     * Returns the next scripted line.
+     * @return the next line, or {@code "quit"} once the script is exhausted
+     */
+    @Override
+    public synchronized String nextLine(){
+        String line = lines.poll();
+        return line == null ? QueueInputSource.QUIT : line;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.gameplay.session;
+
+import com.example.gameplay.input.QueueInputSource;
+import com.example.gameplay.state.EngineSnapshot;
+import com.example.gameplay.state.GameEngine;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A single headless game hosted by a {@link GameSessionHost}.
+ * Each session owns its own {@link GameEngine}, players, questions and input queue, and is identified by the
+ * engine's case ID. Input submitted with {@link #submit(String)} is consumed by the engine in order, exactly as if
+ * it had been typed on the console.
+ * @author Nicholas Grimes
+ */
+public class GameSession{
+    private final GameEngine engine;
+    private final QueueInputSource input;
+    private final SessionCheckpointer checkpointer;
+    private final CompletableFuture<GameEngine> finished = new CompletableFuture<>();
+
+    /**
+     * Constructor to initialise a session around an engine and the queue it reads from.
+     * @param engine the engine that plays this session's game
+     * @param input the queue the engine reads player input from
+     * @param checkpointer where the session's snapshots are saved, or {@code null} to keep none
+     */
+    GameSession(GameEngine engine, QueueInputSource input, SessionCheckpointer checkpointer){
+        this.engine = engine;
+        this.input = input;
+        this.checkpointer = checkpointer;
+    }
+
+    /**
+     * Runs the state machine until the game is over. Called on the session's own thread.
+     * With a checkpointer, the engine is snapshotted before every state, so the saved game never lags behind the
+     * input the session is waiting for. The snapshot is discarded when the game ends, unless it ended because the
+     * session's thread was interrupted by the host shutting down, in which case it is kept for
+     * {@link GameSessionHost#restoreSessions}.
+     */
+    void run(){
+        try{
+            while(engine.isRunning()){
+                // once interrupted, the game only plays out the "quit" it was handed, which must not be saved
+                if(checkpointer != null && !Thread.currentThread().isInterrupted()){
+                    checkpointer.offer(engine.getCaseId(), EngineSnapshot.capture(engine));
+                }
+                engine.getGameState().loadGameState(engine);
+                engine.nextGameState();
+            }
+
+            engine.getGameState().loadGameState(engine);
+            if(checkpointer != null && !Thread.currentThread().isInterrupted()){
+                checkpointer.discard(engine.getCaseId());
+            }
+            finished.complete(engine);
+        }
+        catch(Throwable t){
+            finished.completeExceptionally(t);
+        }
+    }
+
+    /**
+     * Queues a line of player input for this session.
+     * @param line the player's raw text input
+     */
+    public void submit(String line){
+        input.submit(line);
+    }
+
+    /**
+     * Accessor Method for the engine's case ID.
+     * @return the unique case ID of this session
+     */
+    public String getCaseId(){return engine.getCaseId();}
+
+    /**
+     * Accessor Method for {@code private final GameEngine engine;}
+     * The engine should only be inspected once {@link #isFinished()} returns {@code true}, since it is otherwise
+     * being mutated by the session's thread.
+     * @return the session's {@link GameEngine}
+     */
+    public GameEngine getEngine(){return engine;}
+
+    /**
+     * Indicates whether the session's game has ended.
+     * @return {@code true} once the game is over or has failed
+     */
+    public boolean isFinished(){return finished.isDone();}
+
+    /**
+     * Returns a future that completes with the engine when the game is over.
+     * @return the completion of this session
+     */
+    public CompletableFuture<GameEngine> getCompletion(){return finished;}
+}
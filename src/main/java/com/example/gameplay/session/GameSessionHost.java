@@ -0,0 +1,321 @@
+package com.example.gameplay.session;
+
+import com.example.gameplay.buzz.BuzzInGame;
+import com.example.gameplay.buzz.BuzzResult;
+import com.example.gameplay.input.QueueInputSource;
+import com.example.gameplay.state.EngineSnapshot;
+import com.example.gameplay.state.GameEngine;
+import com.example.logging.EventPublisher;
+import com.example.logging.LogHelper;
+import com.example.model.Player;
+import com.example.model.Question;
+import com.example.model.QuestionCatalog;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Hosts many headless {@link GameSession}s in one JVM.
+ * Every session gets its own {@link GameEngine} that reads from an in-memory input queue instead of the console,
+ * and runs its state machine on its own virtual thread. A session that is waiting for input only parks its
+ * virtual thread, so thousands of concurrent games cost no more than a handful of platform threads.
+ *
+ * <p>
+ * Sessions are isolated: each has its own players, case ID and board of picked questions. The questions
+ * themselves are immutable, so sessions opened with the same {@link QuestionCatalog} share one copy of the bank
+ * and only pay for a picked-question bit mask each. The optional
+ * {@link EventPublisher} is shared by all sessions and must therefore be safe to call from several threads.
+ *
+ * <p>
+ * A host given a {@link SessionCheckpointer} keeps an {@link EngineSnapshot} of every open session on disk. When the
+ * host is closed, for example during a rolling restart, the interrupted sessions keep their snapshots, and the next
+ * host started on the same directory picks them up again with {@link #restoreSessions(QuestionCatalog, PrintStream)}.
+ *
+ * <p>
+ * The host also runs {@link BuzzInGame}s, which have no turns and no input queue: buzzes from any number of
+ * threads go straight to the game through {@link #buzz(String, String, int, String)}, and the game arbitrates
+ * between them itself.
+ * @author Nicholas Grimes
+ */
+public class GameSessionHost implements AutoCloseable{
+    private final Map<String, GameSession> sessions = new ConcurrentHashMap<>();
+    private final Map<String, BuzzInGame> buzzGames = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final EventPublisher publisher;
+    private final SessionCheckpointer checkpointer;
+
+    /**
+     * Constructor to initialise a host whose sessions do not publish events.
+     */
+    public GameSessionHost(){
+        this(null);
+    }
+
+    /**
+     * Constructor to initialise a host whose sessions publish events through a shared publisher.
+     * @param publisher the thread-safe publisher used by all sessions, or {@code null} to disable logging
+     */
+    public GameSessionHost(EventPublisher publisher){
+        this(publisher, null);
+    }
+
+    /**
+     * Constructor to initialise a host that saves snapshots of its sessions.
+     * The checkpointer is not closed by the host, so it can outlive it; the host only flushes it when it closes.
+     * @param publisher the thread-safe publisher used by all sessions, or {@code null} to disable logging
+     * @param checkpointer where session snapshots are saved, or {@code null} to keep none
+     */
+    public GameSessionHost(EventPublisher publisher, SessionCheckpointer checkpointer){
+        this.publisher = publisher;
+        this.checkpointer = checkpointer;
+    }
+
+    /**
+     * Opens a new session with a generated case ID and discards its console output.
+     * @param questions the questions of the game
+     * @param players the players for this session only
+     * @return the started {@link GameSession}
+     */
+    public GameSession openSession(List<Question> questions, List<Player> players){
+        return openSession(new QuestionCatalog(questions), players);
+    }
+
+    /**
+     * Opens a new session on a shared catalog with a generated case ID and discards its console output.
+     * @param catalog the questions of the game, which may be shared with other sessions
+     * @param players the players for this session only
+     * @return the started {@link GameSession}
+     */
+    public GameSession openSession(QuestionCatalog catalog, List<Player> players){
+        String caseId = "GAME-" + UUID.randomUUID().toString().substring(0, 8);
+        return openSession(caseId, catalog, players, new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    /**
+     * Opens a new session and starts its game on a virtual thread.
+     * @param caseId the unique case ID of the session
+     * @param questions the questions of the game
+     * @param players the players for this session only
+     * @param out the stream the session's game output is written to
+     * @return the started {@link GameSession}
+     * @throws IllegalArgumentException if a session with the same case ID is already open
+     * @throws IllegalStateException if the host has been closed
+     */
+    public GameSession openSession(String caseId, List<Question> questions, List<Player> players, PrintStream out){
+        return openSession(caseId, new QuestionCatalog(questions), players, out);
+    }
+
+    /**
+     * Opens a new session on a shared catalog and starts its game on a virtual thread.
+     * @param caseId the unique case ID of the session
+     * @param catalog the questions of the game, which may be shared with other sessions
+     * @param players the players for this session only
+     * @param out the stream the session's game output is written to
+     * @return the started {@link GameSession}
+     * @throws IllegalArgumentException if a session with the same case ID is already open, or the host saves
+     *         snapshots and the case ID cannot be used as a snapshot file name
+     * @throws IllegalStateException if the host has been closed
+     */
+    public GameSession openSession(String caseId, QuestionCatalog catalog, List<Player> players, PrintStream out){
+        QueueInputSource input = new QueueInputSource();
+        GameEngine engine = new GameEngine(catalog, players, publisher, caseId, input, out);
+        return start(new GameSession(engine, input, checkpointer), "START_GAME");
+    }
+
+    /**
+     * Opens a buzz-in game, in which every player may answer the current question and the first to buzz in does.
+     * @param caseId the unique case ID of the game
+     * @param catalog the questions of the game, asked in catalog order
+     * @param players the players in the room
+     * @return the started {@link BuzzInGame}
+     * @throws IllegalArgumentException if a session or buzz-in game with the same case ID is already open
+     * @throws IllegalStateException if the host has been closed
+     */
+    public BuzzInGame openBuzzInGame(String caseId, QuestionCatalog catalog, List<Player> players){
+        if(executor.isShutdown()){
+            throw new IllegalStateException("Host is closed");
+        }
+        if(sessions.containsKey(caseId) || buzzGames.containsKey(caseId)){
+            throw new IllegalArgumentException("Session already open: " + caseId);
+        }
+
+        LogHelper.publishEvent(publisher, caseId, null, "START_GAME", null, null, null, null, null);
+        BuzzInGame game = new BuzzInGame(catalog, players, publisher, caseId);
+        if(buzzGames.putIfAbsent(caseId, game) != null){
+            throw new IllegalArgumentException("Session already open: " + caseId);
+        }
+
+        game.getCompletion().whenComplete((g, t) -> buzzGames.remove(caseId, game));
+        return game;
+    }
+
+    /**
+     * Buzzes in on a question of an open buzz-in game. May be called from any thread.
+     * @param caseId the case ID of the game
+     * @param playerName the name of the player buzzing in
+     * @param questionNumber the number of the question the player is answering
+     * @param answer the player's answer
+     * @return the outcome of the buzz, or {@code null} if no buzz-in game with the case ID is open
+     * @throws IllegalArgumentException if the game has no player with that name
+     */
+    public BuzzResult buzz(String caseId, String playerName, int questionNumber, String answer){
+        BuzzInGame game = buzzGames.get(caseId);
+        if(game == null) return null;
+
+        Player player = game.getPlayer(playerName);
+        if(player == null){
+            throw new IllegalArgumentException("No player " + playerName + " in " + caseId);
+        }
+        return game.answer(player, questionNumber, answer);
+    }
+
+    /**
+     * Returns the open buzz-in game with the given case ID.
+     * @param caseId the case ID of the game
+     * @return the {@link BuzzInGame}, or {@code null} if no such game is open
+     */
+    public BuzzInGame getBuzzInGame(String caseId){return buzzGames.get(caseId);}
+
+    /**
+     * Restores every saved session that was played on the given catalog and starts it again.
+     * Each restored game resumes in the state it was saved in, so a player who was being asked for input is asked
+     * again. Snapshots of sessions that are already open, of other catalogs or that cannot be read are left on
+     * disk untouched.
+     * @param catalog the catalog the saved games were played on
+     * @param out the stream the restored sessions' game output is written to
+     * @return the restored sessions
+     * @throws IllegalStateException if the host has no checkpointer or has been closed
+     * @throws UncheckedIOException if the snapshot directory cannot be read
+     */
+    public List<GameSession> restoreSessions(QuestionCatalog catalog, PrintStream out){
+        if(checkpointer == null){
+            throw new IllegalStateException("Host has no checkpointer");
+        }
+
+        Map<String, byte[]> snapshots;
+        try{
+            snapshots = checkpointer.readAll();
+        }
+        catch(IOException e){
+            throw new UncheckedIOException(e);
+        }
+
+        List<GameSession> restored = new ArrayList<>();
+        for(Map.Entry<String, byte[]> e : snapshots.entrySet()){
+            if(sessions.containsKey(e.getKey())) continue;
+
+            QueueInputSource input = new QueueInputSource();
+            GameEngine engine;
+            try{
+                engine = EngineSnapshot.restore(e.getValue(), catalog, publisher, input, out);
+            }
+            catch(IOException ex){
+                continue;
+            }
+            if(!e.getKey().equals(engine.getCaseId())) continue;
+
+            try{
+                restored.add(start(new GameSession(engine, input, checkpointer), "RESUME_GAME"));
+            }
+            catch(IllegalArgumentException ex){
+                // opened by another caller in the meantime
+            }
+        }
+        return restored;
+    }
+
+    /**
+     * Registers a session and starts its game on a virtual thread, publishing the given activity first.
+     */
+    private GameSession start(GameSession session, String activity){
+        String caseId = session.getCaseId();
+        if(checkpointer != null) SessionCheckpointer.checkCaseId(caseId);
+        if(buzzGames.containsKey(caseId) || sessions.putIfAbsent(caseId, session) != null){
+            throw new IllegalArgumentException("Session already open: " + caseId);
+        }
+
+        session.getCompletion().whenComplete((e, t) -> sessions.remove(caseId, session));
+
+        try{
+            executor.execute(() -> {
+                LogHelper.publishEvent(publisher, caseId, null, activity, null, null, null, null, null);
+                session.run();
+            });
+        }
+        catch(RejectedExecutionException e){
+            sessions.remove(caseId, session);
+            throw new IllegalStateException("Host is closed", e);
+        }
+
+        return session;
+    }
+
+    /**
+     * Queues a line of input for the session with the given case ID.
+     * @param caseId the case ID of the session
+     * @param line the player's raw text input
+     * @return {@code true} if the session is open and the input was queued, otherwise {@code false}
+     */
+    public boolean submit(String caseId, String line){
+        GameSession session = sessions.get(caseId);
+        if(session == null) return false;
+
+        session.submit(line);
+        return true;
+    }
+
+    /**
+     * Returns the open session with the given case ID.
+     * @param caseId the case ID of the session
+     * @return the {@link GameSession}, or {@code null} if no such session is open
+     */
+    public GameSession getSession(String caseId){return sessions.get(caseId);}
+
+    /**
+     * Returns all sessions whose games have not finished yet.
+     * @return an unmodifiable view of the open sessions
+     */
+    public Collection<GameSession> getSessions(){
+        return Collections.unmodifiableCollection(sessions.values());
+    }
+
+    /**
+     * Returns the number of sessions whose games have not finished yet.
+     * @return the open session count
+     */
+    public int getActiveSessionCount(){return sessions.size();}
+
+    /**
+     * Ends every open session and stops accepting new ones.
+     * Session threads are interrupted, which their input queues turn into a "quit" so each game finishes normally.
+     * Blocks until every session thread has exited. With a checkpointer, the snapshots of the interrupted sessions
+     * are then written to disk so that they can be restored.
+     * @throws UncheckedIOException if the snapshots cannot be written
+     */
+    @Override
+    public void close(){
+        executor.shutdownNow();
+        executor.close();
+
+        if(checkpointer != null){
+            try{
+                checkpointer.flush();
+            }
+            catch(IOException e){
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
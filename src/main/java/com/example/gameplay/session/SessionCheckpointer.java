@@ -0,0 +1,225 @@
+package com.example.gameplay.session;
+
+import com.example.gameplay.state.EngineSnapshot;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Saves {@link EngineSnapshot}s of running sessions to a directory, one file per case ID, so a
+ * {@link GameSessionHost} can bring its games back after a restart.
+ * Sessions hand over a fresh snapshot whenever their state changes; that only replaces the pending snapshot of the
+ * session in memory. A background thread writes the pending snapshots to disk every interval, so a session that
+ * changes state many times between two flushes costs a single write, and a host with thousands of idle sessions
+ * writes nothing at all. Each file is written to a temporary name and then moved into place, so a crash mid-write
+ * leaves the previous snapshot intact.
+ *
+ * <p>
+ * A snapshot offered after the last flush is lost if the process dies without {@link #close()}, so the interval is
+ * the most progress a crash can undo. Instances are safe to use from multiple threads.
+ * @author Nicholas Grimes
+ */
+public class SessionCheckpointer implements AutoCloseable{
+    /** Default time between two flushes, in milliseconds. */
+    public static final long DEFAULT_INTERVAL_MILLIS = 1000;
+
+    /** File extension of saved snapshots. */
+    public static final String EXTENSION = ".jqs";
+
+    private static final Pattern SAFE_CASE_ID = Pattern.compile("[A-Za-z0-9._-]+");
+
+    private final Path directory;
+    private final Map<String, byte[]> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+    private final LongAdder writes = new LongAdder();
+
+    private volatile Exception lastFailure;
+
+    /**
+     * Constructor to save snapshots to a directory every {@link #DEFAULT_INTERVAL_MILLIS}.
+     * @param directory the directory the snapshot files are kept in, created if missing
+     * @throws IOException if the directory cannot be created
+     */
+    public SessionCheckpointer(Path directory) throws IOException{
+        this(directory, DEFAULT_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Constructor to save snapshots to a directory.
+     * @param directory the directory the snapshot files are kept in, created if missing
+     * @param intervalMillis the time between two flushes in milliseconds, or zero to only write snapshots when
+     *        {@link #flush()} is called
+     * @throws IOException if the directory cannot be created
+     */
+    public SessionCheckpointer(Path directory, long intervalMillis) throws IOException{
+        this.directory = Files.createDirectories(directory.toAbsolutePath().normalize());
+
+        if(intervalMillis > 0){
+            this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "session-checkpointer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+        else{
+            this.flusher = null;
+        }
+    }
+
+    /**
+     * Replaces the pending snapshot of a session. It is written to disk by the next flush.
+     * @param caseId the case ID of the session, made of letters, digits, '.', '_' and '-' only
+     * @param snapshot the session's latest snapshot
+     * @throws IllegalArgumentException if the case ID cannot be used as a file name
+     */
+    public void offer(String caseId, byte[] snapshot){
+        pending.put(checkCaseId(caseId), snapshot);
+    }
+
+    /**
+     * Forgets a session whose game has ended, removing its pending snapshot and its file.
+     * @param caseId the case ID of the session
+     * @throws IllegalArgumentException if the case ID cannot be used as a file name
+     */
+    public synchronized void discard(String caseId){
+        pending.remove(checkCaseId(caseId));
+        try{
+            Files.deleteIfExists(fileOf(caseId));
+        }
+        catch(IOException e){
+            lastFailure = e;
+        }
+    }
+
+    /**
+     * Writes every pending snapshot to disk now.
+     * A snapshot offered while its session is being written stays pending for the next flush.
+     * @return the number of snapshot files written
+     * @throws IOException if a snapshot cannot be written; it stays pending and the rest are still attempted
+     */
+    public synchronized int flush() throws IOException{
+        IOException failure = null;
+        int written = 0;
+
+        for(Map.Entry<String, byte[]> e : pending.entrySet()){
+            try{
+                write(e.getKey(), e.getValue());
+                pending.remove(e.getKey(), e.getValue());
+                written++;
+            }
+            catch(IOException ex){
+                if(failure == null) failure = ex;
+                else failure.addSuppressed(ex);
+            }
+        }
+
+        writes.add(written);
+        lastFailure = failure;
+        if(failure != null) throw failure;
+        return written;
+    }
+
+    /**
+     * Reads every snapshot saved in the directory.
+     * @return the snapshot bytes keyed by case ID
+     * @throws IOException if the directory or a snapshot file cannot be read
+     */
+    public Map<String, byte[]> readAll() throws IOException{
+        Map<String, byte[]> snapshots = new LinkedHashMap<>();
+        try(DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + EXTENSION)){
+            for(Path file : files){
+                String name = file.getFileName().toString();
+                snapshots.put(name.substring(0, name.length() - EXTENSION.length()), Files.readAllBytes(file));
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * Accessor Method for {@code private final Path directory;}
+     * @return the absolute path of the snapshot directory
+     */
+    public Path getDirectory(){return directory;}
+
+    /**
+     * Returns the number of sessions whose latest snapshot has not been written yet.
+     * @return the pending snapshot count
+     */
+    public int getPendingCount(){return pending.size();}
+
+    /**
+     * Returns the number of snapshot files written since this checkpointer was created.
+     * @return the write count
+     */
+    public long getWrites(){return writes.sum();}
+
+    /**
+     * Returns why the most recent flush or discard failed.
+     * @return the failure, or {@code null} if the most recent flush succeeded
+     */
+    public Exception getLastFailure(){return lastFailure;}
+
+    /**
+     * Stops the background flushes and writes every pending snapshot.
+     * @throws IOException if a pending snapshot cannot be written
+     */
+    @Override
+    public void close() throws IOException{
+        if(flusher != null){
+            flusher.shutdown();
+            try{
+                flusher.awaitTermination(1, TimeUnit.MINUTES);
+            }
+            catch(InterruptedException e){
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    private void write(String caseId, byte[] snapshot) throws IOException{
+        Path file = fileOf(caseId);
+        Path temp = directory.resolve(caseId + EXTENSION + ".tmp");
+        Files.write(temp, snapshot);
+        try{
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch(AtomicMoveNotSupportedException e){
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void flushQuietly(){
+        try{
+            flush();
+        }
+        catch(IOException | RuntimeException e){
+            System.err.println("Keeping unsaved session snapshots pending: " + e);
+        }
+    }
+
+    private Path fileOf(String caseId){
+        return directory.resolve(caseId + EXTENSION);
+    }
+
+    static String checkCaseId(String caseId){
+        if(caseId == null || !SAFE_CASE_ID.matcher(caseId).matches()){
+            throw new IllegalArgumentException("Case ID cannot be used as a snapshot file name: " + caseId);
+        }
+        return caseId;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.gameplay.simulation;
+
+import com.example.gameplay.input.InputSource;
+import com.example.gameplay.state.GameEngine;
+import com.example.gameplay.state.GameStates;
+import com.example.model.Question;
+import com.example.model.QuestionBoard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * {@link InputSource} that lets a {@link BotStrategy} play for every seat of one game.
+ * When the engine asks for input it looks at the engine's state to tell a question choice from an answer, asks
+ * the current player's strategy, and returns the line a person would have typed. Questions that cannot be chosen
+ * by typing their category and value (a category containing a comma, or a second question with the same category
+ * and value as an earlier one) are never offered to the strategy; once only such questions remain the bot types
+ * {@code quit}, so every simulated game ends.
+ * @author Nicholas Grimes
+ */
+class BotInputSource implements InputSource{
+    private final List<BotStrategy> bots;
+    private final RandomGenerator random;
+    private GameEngine engine;
+
+    BotInputSource(List<BotStrategy> bots, RandomGenerator random){
+        this.bots = bots;
+        this.random = random;
+    }
+
+    /**
+     * Attaches the engine this source types into. Must be called before the game starts.
+     */
+    void attach(GameEngine engine){
+        this.engine = engine;
+    }
+
+    @Override
+    public String nextLine(){
+        BotStrategy bot = bots.get(engine.getPlayers().indexOf(engine.getCurrentPlayer()));
+
+        if(engine.getGameState() == GameStates.SELECT_QUESTION){
+            List<Question> candidates = candidates(engine.getBoard());
+            if(candidates.isEmpty()) return "quit";
+
+            Question q = bot.select(candidates, engine.getCurrentPlayer(), random);
+            return q.getCategory() + "," + q.getValue();
+        }
+        if(engine.getGameState() == GameStates.ACCEPT_ANSWER){
+            return bot.answer(engine.getCurrentQuestion(), engine.getCurrentPlayer(), random);
+        }
+        throw new IllegalStateException("Unexpected input request in state " + engine.getGameState());
+    }
+
+    private static List<Question> candidates(QuestionBoard board){
+        List<Question> candidates = new ArrayList<>(board.getRemainingCount());
+        for(Question q : board.getAvailableQuestions()){
+            String category = q.getCategory();
+            if(category != null && category.indexOf(',') < 0 && category.equals(category.trim())
+                    && board.findQuestion(category, q.getValue()) == q){
+                candidates.add(q);
+            }
+        }
+        return candidates;
+    }
+}
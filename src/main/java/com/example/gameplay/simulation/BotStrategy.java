@@ -0,0 +1,42 @@
+package com.example.gameplay.simulation;
+
+import com.example.model.Player;
+import com.example.model.Question;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Decides how a simulated player picks and answers questions.
+ * A strategy replaces the person typing at the console: {@link BotInputSource} asks it for a question when the
+ * game is in the select state and for an answer when it is in the accept-answer state, and types the result into
+ * the {@link com.example.gameplay.state.GameEngine} exactly as a player would. Strategies are shared by every
+ * game of a simulation, so they must be stateless or thread-safe; all randomness should come from the
+ * {@code random} argument, which is seeded per game so that runs are reproducible.
+ * @author Nicholas Grimes
+ */
+public interface BotStrategy{
+    /**
+     * Returns a short name for the strategy, used in simulation results.
+     * @return the strategy name
+     */
+    String getName();
+
+    /**
+     * Chooses the next question to play.
+     * @param candidates the questions that are still available, never empty
+     * @param self the player this strategy is playing for
+     * @param random the game's random number generator
+     * @return one of {@code candidates}
+     */
+    Question select(List<Question> candidates, Player self, RandomGenerator random);
+
+    /**
+     * Chooses the answer to type for a question.
+     * @param question the question being asked
+     * @param self the player this strategy is playing for
+     * @param random the game's random number generator
+     * @return the answer as the player would type it, such as {@code "B"}
+     */
+    String answer(Question question, Player self, RandomGenerator random);
+}
@@ -0,0 +1,108 @@
+package com.example.gameplay.simulation;
+
+import com.example.model.Player;
+import com.example.model.Question;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Ready-made {@link BotStrategy} implementations.
+ * Every bot answers correctly with a fixed probability, its accuracy, and otherwise types one of the option labels
+ * that is not the correct answer; they differ in how they choose questions.
+ * @author Nicholas Grimes
+ */
+public final class Bots{
+    private static final String[] LABELS = { "A", "B", "C", "D" };
+
+    private Bots(){}
+
+    /**
+     * Returns a bot that picks uniformly among the available questions.
+     * @param accuracy the probability of answering correctly, between 0 and 1
+     * @return the strategy
+     */
+    public static BotStrategy random(double accuracy){
+        return new Bot("random@" + accuracy, accuracy, null);
+    }
+
+    /**
+     * Returns a bot that always picks the most valuable available question, first in board order among equals.
+     * @param accuracy the probability of answering correctly, between 0 and 1
+     * @return the strategy
+     */
+    public static BotStrategy highestValue(double accuracy){
+        return new Bot("highest@" + accuracy, accuracy, Comparator.comparingInt(Question::getValue).reversed());
+    }
+
+    /**
+     * Returns a bot that always picks the least valuable available question, first in board order among equals.
+     * @param accuracy the probability of answering correctly, between 0 and 1
+     * @return the strategy
+     */
+    public static BotStrategy lowestValue(double accuracy){
+        return new Bot("lowest@" + accuracy, accuracy, Comparator.comparingInt(Question::getValue));
+    }
+
+    /**
+     * Returns an answer to a question that is correct with the given probability.
+     * @param question the question being asked
+     * @param accuracy the probability of answering correctly
+     * @param random the game's random number generator
+     * @return the correct answer, or a label that does not match it
+     */
+    public static String answer(Question question, double accuracy, RandomGenerator random){
+        String correct = question.getCorrectAnswer();
+        if(correct != null && random.nextDouble() < accuracy){
+            return correct;
+        }
+
+        // start at a random label and take the first one that is wrong
+        int start = random.nextInt(LABELS.length);
+        for(int i = 0; i < LABELS.length; i++){
+            String label = LABELS[(start + i) % LABELS.length];
+            if(!label.equalsIgnoreCase(correct)) return label;
+        }
+        return "";
+    }
+
+    private static final class Bot implements BotStrategy{
+        private final String name;
+        private final double accuracy;
+        private final Comparator<Question> preference;
+
+        Bot(String name, double accuracy, Comparator<Question> preference){
+            if(accuracy < 0 || accuracy > 1){
+                throw new IllegalArgumentException("accuracy must be between 0 and 1: " + accuracy);
+            }
+            this.name = name;
+            this.accuracy = accuracy;
+            this.preference = preference;
+        }
+
+        @Override
+        public String getName(){return name;}
+
+        @Override
+        public Question select(List<Question> candidates, Player self, RandomGenerator random){
+            if(preference == null){
+                return candidates.get(random.nextInt(candidates.size()));
+            }
+
+            Question best = candidates.get(0);
+            for(Question q : candidates){
+                if(preference.compare(q, best) < 0) best = q;
+            }
+            return best;
+        }
+
+        @Override
+        public String answer(Question question, Player self, RandomGenerator random){
+            return Bots.answer(question, accuracy, random);
+        }
+
+        @Override
+        public String toString(){return name;}
+    }
+}
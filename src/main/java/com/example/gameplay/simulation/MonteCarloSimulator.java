@@ -0,0 +1,236 @@
+package com.example.gameplay.simulation;
+
+import com.example.gameplay.state.GameEngine;
+import com.example.model.GameTurn;
+import com.example.model.Player;
+import com.example.model.QuestionCatalog;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Plays a board many times with {@link BotStrategy} players and aggregates the outcomes.
+ * Every game is a real {@link GameEngine} running the normal state machine, with a {@link BotInputSource} typing
+ * for each seat and output discarded, so the simulation exercises the same rules as a human game. Games are split
+ * into batches on a {@link ForkJoinPool}; each batch tallies its games in plain local arrays and adds them to the
+ * shared {@link SimulationResult} accumulators once at the end, so workers never contend on a counter.
+ *
+ * <p>
+ * Game {@code i} draws its random numbers from a generator seeded from the run's seed and {@code i} alone, so a
+ * run with the same seed, board and bots gives the same result however the batches are scheduled.
+ * @author Nicholas Grimes
+ */
+public class MonteCarloSimulator{
+    /** Default number of games played by one task before its tallies are published. */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    /** Default width of the score histogram buckets. */
+    public static final int DEFAULT_BUCKET_WIDTH = 100;
+
+    private static final PrintStream DISCARD = new PrintStream(OutputStream.nullOutputStream());
+
+    private final QuestionCatalog catalog;
+    private final List<BotStrategy> bots;
+    private final ForkJoinPool pool;
+    private final int batchSize;
+    private final int bucketWidth;
+
+    /**
+     * Constructor to initialise a simulator that runs on the common fork-join pool.
+     * @param catalog the board to play
+     * @param bots one strategy per seat, in turn order
+     */
+    public MonteCarloSimulator(QuestionCatalog catalog, List<BotStrategy> bots){
+        this(catalog, bots, ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE, DEFAULT_BUCKET_WIDTH);
+    }
+
+    /**
+     * Constructor to initialise a simulator that runs on the given pool.
+     * @param catalog the board to play
+     * @param bots one strategy per seat, in turn order
+     * @param pool the pool games are played on
+     * @param batchSize the number of games one task plays before publishing its tallies
+     * @param bucketWidth the width of the score histogram buckets
+     * @throws IllegalArgumentException if there are no bots, or {@code batchSize} or {@code bucketWidth} is not
+     *         positive
+     */
+    public MonteCarloSimulator(QuestionCatalog catalog, List<BotStrategy> bots, ForkJoinPool pool, int batchSize,
+            int bucketWidth){
+        if(bots.isEmpty()){
+            throw new IllegalArgumentException("At least one bot is required");
+        }
+        if(batchSize <= 0 || bucketWidth <= 0){
+            throw new IllegalArgumentException("batchSize and bucketWidth must be positive: " + batchSize + ", "
+                    + bucketWidth);
+        }
+        this.catalog = catalog;
+        this.bots = List.copyOf(bots);
+        this.pool = pool;
+        this.batchSize = batchSize;
+        this.bucketWidth = bucketWidth;
+    }
+
+    /**
+     * Plays the given number of games and waits for them to finish.
+     * @param games the number of games to play
+     * @param seed the seed all random choices are derived from
+     * @return the aggregated results
+     * @throws IllegalArgumentException if {@code games} is negative
+     */
+    public SimulationResult run(long games, long seed){
+        if(games < 0){
+            throw new IllegalArgumentException("games must not be negative: " + games);
+        }
+
+        SimulationResult result = new SimulationResult(bots, catalog.size(), bucketWidth);
+        long start = System.nanoTime();
+        pool.invoke(new Batch(result, seed, 0, games));
+        result.setElapsedNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Plays one game and adds its outcome to the batch tallies.
+     */
+    private void play(long game, long seed, Tally tally){
+        SplittableRandom random = new SplittableRandom(mix(seed, game));
+        List<Player> players = new ArrayList<>(bots.size());
+        for(int i = 0; i < bots.size(); i++){
+            players.add(new Player(i + 1, "Bot " + (i + 1)));
+        }
+
+        BotInputSource input = new BotInputSource(bots, random);
+        GameEngine engine = new GameEngine(catalog, players, null, null, input, DISCARD);
+        input.attach(engine);
+
+        while(engine.isRunning()){
+            engine.getGameState().loadGameState(engine);
+            engine.nextGameState();
+        }
+
+        for(GameTurn turn : engine.getTurns()){
+            int position = catalog.findPosition(turn.getCategory(), turn.getQuestionValue());
+            tally.asked[position]++;
+            if(turn.isCorrect()) tally.correct[position]++;
+        }
+        if(!engine.areAllQuestionsAnswered()) tally.unfinished++;
+
+        int best = Integer.MIN_VALUE;
+        int winner = -1;
+        for(int seat = 0; seat < players.size(); seat++){
+            int score = players.get(seat).getScore();
+            tally.scores[seat].add(score);
+            if(score > best){
+                best = score;
+                winner = seat;
+            }
+            else if(score == best){
+                winner = -1;
+            }
+        }
+        if(winner >= 0){
+            tally.wins[winner]++;
+        }
+        else{
+            tally.ties++;
+        }
+        tally.games++;
+    }
+
+    /**
+     * Spreads the run's seed over the game number so neighbouring games get unrelated generators.
+     */
+    private static long mix(long seed, long game){
+        long z = seed + game * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Task that plays games {@code from} (inclusive) to {@code to} (exclusive), splitting in half until a piece is
+     * no larger than one batch.
+     */
+    private class Batch extends RecursiveAction{
+        private final SimulationResult result;
+        private final long seed;
+        private final long from;
+        private final long to;
+
+        Batch(SimulationResult result, long seed, long from, long to){
+            this.result = result;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute(){
+            if(to - from > batchSize){
+                long mid = (from + to) >>> 1;
+                invokeAll(new Batch(result, seed, from, mid), new Batch(result, seed, mid, to));
+                return;
+            }
+
+            Tally tally = new Tally(bots.size(), catalog.size(), bucketWidth);
+            for(long game = from; game < to; game++){
+                play(game, seed, tally);
+            }
+            result.add(tally);
+        }
+    }
+
+    /**
+     * Outcomes of one batch, kept in plain fields because only the batch's own thread touches them.
+     */
+    static final class Tally{
+        final long[] wins;
+        final long[] asked;
+        final long[] correct;
+        final ScoreTally[] scores;
+        long games;
+        long ties;
+        long unfinished;
+
+        Tally(int seats, int questions, int bucketWidth){
+            this.wins = new long[seats];
+            this.asked = new long[questions];
+            this.correct = new long[questions];
+            this.scores = new ScoreTally[seats];
+            for(int i = 0; i < seats; i++){
+                scores[i] = new ScoreTally(bucketWidth);
+            }
+        }
+    }
+
+    /**
+     * Score statistics of one seat within a batch.
+     */
+    static final class ScoreTally{
+        final Map<Integer, Long> histogram = new HashMap<>();
+        final int bucketWidth;
+        long sum;
+        long sumOfSquares;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+
+        ScoreTally(int bucketWidth){
+            this.bucketWidth = bucketWidth;
+        }
+
+        void add(int score){
+            histogram.merge(Math.floorDiv(score, bucketWidth) * bucketWidth, 1L, Long::sum);
+            sum += score;
+            sumOfSquares += (long) score * score;
+            min = Math.min(min, score);
+            max = Math.max(max, score);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.gameplay.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated outcome of a {@link MonteCarloSimulator} run: win rates and score distributions per seat, and how
+ * often each question was asked and answered correctly.
+ * The counters are {@link LongAdder}s and {@link LongAccumulator}s, which spread concurrent updates over
+ * per-thread cells, so the batches of a run can publish their tallies at the same time without contending.
+ * @author Nicholas Grimes
+ */
+public class SimulationResult{
+    private final List<BotStrategy> bots;
+    private final int bucketWidth;
+
+    private final LongAdder games = new LongAdder();
+    private final LongAdder ties = new LongAdder();
+    private final LongAdder unfinished = new LongAdder();
+    private final LongAdder[] wins;
+    private final LongAdder[] scoreSums;
+    private final LongAdder[] scoreSquares;
+    private final LongAccumulator[] minScores;
+    private final LongAccumulator[] maxScores;
+    private final List<Map<Integer, LongAdder>> histograms;
+    private final LongAdder[] asked;
+    private final LongAdder[] correct;
+    private volatile long elapsedNanos;
+
+    SimulationResult(List<BotStrategy> bots, int questions, int bucketWidth){
+        this.bots = bots;
+        this.bucketWidth = bucketWidth;
+
+        int seats = bots.size();
+        this.wins = adders(seats);
+        this.scoreSums = adders(seats);
+        this.scoreSquares = adders(seats);
+        this.minScores = new LongAccumulator[seats];
+        this.maxScores = new LongAccumulator[seats];
+        for(int i = 0; i < seats; i++){
+            minScores[i] = new LongAccumulator(Math::min, Long.MAX_VALUE);
+            maxScores[i] = new LongAccumulator(Math::max, Long.MIN_VALUE);
+        }
+        this.histograms = new ArrayList<>(seats);
+        for(int i = 0; i < seats; i++){
+            histograms.add(new ConcurrentHashMap<>());
+        }
+        this.asked = adders(questions);
+        this.correct = adders(questions);
+    }
+
+    private static LongAdder[] adders(int n){
+        LongAdder[] adders = new LongAdder[n];
+        for(int i = 0; i < n; i++){
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * Adds the tallies of one finished batch.
+     */
+    void add(MonteCarloSimulator.Tally tally){
+        games.add(tally.games);
+        ties.add(tally.ties);
+        unfinished.add(tally.unfinished);
+
+        for(int seat = 0; seat < wins.length; seat++){
+            MonteCarloSimulator.ScoreTally scores = tally.scores[seat];
+            wins[seat].add(tally.wins[seat]);
+            scoreSums[seat].add(scores.sum);
+            scoreSquares[seat].add(scores.sumOfSquares);
+            minScores[seat].accumulate(scores.min);
+            maxScores[seat].accumulate(scores.max);
+            for(Map.Entry<Integer, Long> bucket : scores.histogram.entrySet()){
+                histograms.get(seat).computeIfAbsent(bucket.getKey(), k -> new LongAdder()).add(bucket.getValue());
+            }
+        }
+
+        for(int i = 0; i < asked.length; i++){
+            if(tally.asked[i] != 0) asked[i].add(tally.asked[i]);
+            if(tally.correct[i] != 0) correct[i].add(tally.correct[i]);
+        }
+    }
+
+    void setElapsedNanos(long elapsedNanos){
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the number of games played.
+     * @return the game count
+     */
+    public long getGames(){return games.sum();}
+
+    /**
+     * Returns the number of seats in each game.
+     * @return the seat count
+     */
+    public int getSeats(){return bots.size();}
+
+    /**
+     * Returns the strategy that played a seat.
+     * @param seat the seat, starting at 0 for the player who moves first
+     * @return the seat's strategy
+     */
+    public BotStrategy getBot(int seat){return bots.get(seat);}
+
+    /**
+     * Returns the number of games a seat won outright.
+     * @param seat the seat
+     * @return the win count
+     */
+    public long getWins(int seat){return wins[seat].sum();}
+
+    /**
+     * Returns the fraction of games a seat won outright.
+     * @param seat the seat
+     * @return the win rate between 0 and 1, or 0 if no games were played
+     */
+    public double getWinRate(int seat){return ratio(getWins(seat), getGames());}
+
+    /**
+     * Returns the number of games in which two or more seats shared the highest score.
+     * @return the tie count
+     */
+    public long getTies(){return ties.sum();}
+
+    /**
+     * Returns the number of games that ended with questions left because none of them could still be chosen,
+     * such as duplicate category and value pairs.
+     * @return the count of games that did not clear the board
+     */
+    public long getUnfinishedGames(){return unfinished.sum();}
+
+    /**
+     * Returns a seat's mean final score.
+     * @param seat the seat
+     * @return the mean score, or 0 if no games were played
+     */
+    public double getMeanScore(int seat){return ratio(scoreSums[seat].sum(), getGames());}
+
+    /**
+     * Returns the standard deviation of a seat's final score.
+     * @param seat the seat
+     * @return the population standard deviation, or 0 if no games were played
+     */
+    public double getScoreStdDev(int seat){
+        double mean = getMeanScore(seat);
+        double variance = ratio(scoreSquares[seat].sum(), getGames()) - mean * mean;
+        return Math.sqrt(Math.max(0, variance));
+    }
+
+    /**
+     * Returns a seat's lowest final score.
+     * @param seat the seat
+     * @return the lowest score, or {@link Long#MAX_VALUE} if no games were played
+     */
+    public long getMinScore(int seat){return minScores[seat].get();}
+
+    /**
+     * Returns a seat's highest final score.
+     * @param seat the seat
+     * @return the highest score, or {@link Long#MIN_VALUE} if no games were played
+     */
+    public long getMaxScore(int seat){return maxScores[seat].get();}
+
+    /**
+     * Returns the distribution of a seat's final scores.
+     * @param seat the seat
+     * @return the number of games per score bucket, keyed by the lowest score in the bucket
+     */
+    public NavigableMap<Integer, Long> getScoreHistogram(int seat){
+        NavigableMap<Integer, Long> histogram = new TreeMap<>();
+        histograms.get(seat).forEach((bucket, count) -> histogram.put(bucket, count.sum()));
+        return histogram;
+    }
+
+    /**
+     * Returns the width of the score histogram buckets.
+     * @return the bucket width
+     */
+    public int getBucketWidth(){return bucketWidth;}
+
+    /**
+     * Returns how many times the question at a catalog position was asked.
+     * @param position the position of the question in the catalog
+     * @return the number of times it was asked
+     */
+    public long getTimesAsked(int position){return asked[position].sum();}
+
+    /**
+     * Returns how many times the question at a catalog position was answered correctly.
+     * @param position the position of the question in the catalog
+     * @return the number of correct answers
+     */
+    public long getTimesCorrect(int position){return correct[position].sum();}
+
+    /**
+     * Returns the fraction of the times the question at a catalog position was asked that it was answered
+     * correctly.
+     * @param position the position of the question in the catalog
+     * @return the correct rate between 0 and 1, or 0 if it was never asked
+     */
+    public double getCorrectRate(int position){return ratio(getTimesCorrect(position), getTimesAsked(position));}
+
+    /**
+     * Returns the wall-clock time of the run.
+     * @return the elapsed time in nanoseconds
+     */
+    public long getElapsedNanos(){return elapsedNanos;}
+
+    private static double ratio(long numerator, long denominator){
+        return denominator == 0 ? 0 : (double) numerator / denominator;
+    }
+
+    @Override
+    public String toString(){
+        StringBuilder sb = new StringBuilder();
+        sb.append(getGames()).append(" games in ").append(elapsedNanos / 1_000_000).append(" ms, ")
+          .append(getTies()).append(" ties\n");
+        for(int seat = 0; seat < getSeats(); seat++){
+            sb.append(String.format("Seat %d (%s): win rate %.3f, mean score %.1f, std dev %.1f%n", seat + 1,
+                    getBot(seat).getName(), getWinRate(seat), getMeanScore(seat), getScoreStdDev(seat)));
+        }
+        return sb.toString();
+    }
+}
@@ -13,7 +13,7 @@ public class AcceptAnswerState implements GameState{
      */
     @Override
     public void loadGameState(GameEngine gameEngine) {
-        System.out.print("\nWhat is your answer? ");
+        gameEngine.getOutput().print("\nWhat is your answer? ");
         String input = gameEngine.getPlayerInput();
         gameEngine.setInput(input);
 
@@ -42,9 +42,9 @@ public class AcceptAnswerState implements GameState{
         String input = gameEngine.getInput();
 
         if (input.equalsIgnoreCase("quit")) {
-            gameEngine.setGameState(new GameOverState());
+            gameEngine.setGameState(GameStates.GAME_OVER);
         } else {
-            gameEngine.setGameState(new CheckAnswerState());
+            gameEngine.setGameState(GameStates.CHECK_ANSWER);
         }
     }
 }
@@ -16,13 +16,13 @@ public class AskQuestionState implements GameState{
     public void loadGameState(GameEngine gameEngine) {
         Question q = gameEngine.getCurrentQuestion();
 
-        System.out.println("\n" + q.getCategory() + " for " + q.getValue());
-        System.out.println("Question: " + q.getQuestionText());
+        gameEngine.getOutput().println("\n" + q.getCategory() + " for " + q.getValue());
+        gameEngine.getOutput().println("Question: " + q.getQuestionText());
 
         String[] options = q.getOptions();
         String[] labels = { "A", "B", "C", "D" };
         for (int i = 0; i < options.length; i++) {
-            System.out.println(labels[i] + ") " + options[i]);
+            gameEngine.getOutput().println(labels[i] + ") " + options[i]);
         }
 
         /**
@@ -45,6 +45,6 @@ public class AskQuestionState implements GameState{
      */
     @Override
     public void nextGameState(GameEngine gameEngine) {
-        gameEngine.setGameState(new AcceptAnswerState());
+        gameEngine.setGameState(GameStates.ACCEPT_ANSWER);
     }
 }
@@ -17,10 +17,10 @@ public class CheckAnswerState implements GameState{
         String correctAnswer = gameEngine.getCurrentQuestion().getCorrectAnswer();
 
         if (playerInput.equalsIgnoreCase(correctAnswer)) {
-            System.out.println("\nCORRECT!");
+            gameEngine.getOutput().println("\nCORRECT!");
             gameEngine.setAnswerCorrect(true);
         } else {
-            System.out.println("\nWRONG! The correct answer was: " + correctAnswer);
+            gameEngine.getOutput().println("\nWRONG! The correct answer was: " + correctAnswer);
             gameEngine.setAnswerCorrect(false);
         }
 
@@ -45,6 +45,6 @@ public class CheckAnswerState implements GameState{
      */
     @Override
     public void nextGameState(GameEngine gameEngine) {
-        gameEngine.setGameState(new UpdateScoreState());
+        gameEngine.setGameState(GameStates.UPDATE_SCORE);
     }
 }
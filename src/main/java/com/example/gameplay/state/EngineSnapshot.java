@@ -0,0 +1,342 @@
+package com.example.gameplay.state;
+
+import com.example.gameplay.input.InputSource;
+import com.example.logging.EventPublisher;
+import com.example.model.GameTurn;
+import com.example.model.Player;
+import com.example.model.Question;
+import com.example.model.QuestionBoard;
+import com.example.model.QuestionCatalog;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * Compact, versioned binary snapshots of a {@link GameEngine}, so that a game can outlive the JVM it runs in.
+ * A snapshot holds everything the engine keeps on the heap: its {@link GameState}, case ID, players and scores,
+ * whose turn it is, the current question, the last player input, the answer flag, the picked questions of its
+ * {@link QuestionBoard} and the full turn history.
+ *
+ * <p>
+ * Questions are never copied. They are written as positions in the engine's {@link QuestionCatalog}, and the
+ * catalog's {@link QuestionCatalog#getFingerprint() fingerprint} is recorded so that a snapshot is only restored
+ * against the same catalog. Picked questions are written as the words of a bit mask and counts as variable-length
+ * integers, which keeps a snapshot of a typical game to a few hundred bytes. Every snapshot starts with a magic
+ * number and a format version and ends with a CRC-32 of its content, so a torn or foreign file is rejected instead
+ * of restoring a corrupt game.
+ *
+ * <p>
+ * A snapshot must be taken on the thread that runs the engine, between two state transitions. Restoring gives an
+ * engine in the saved state; running the usual {@code loadGameState}/{@code nextGameState} loop on it carries on
+ * from there, repeating the output of the saved state and, if that state reads input, asking for it again.
+ * @author Nicholas Grimes
+ */
+public final class EngineSnapshot{
+    /** First four bytes of every snapshot: "JQSS". */
+    public static final int MAGIC = 0x4A515353;
+
+    /** Format version written by this class. */
+    public static final int VERSION = 1;
+
+    /** States in the order of their snapshot codes; new states may only be appended. */
+    private static final GameState[] STATES = {
+        GameStates.PLAYER_TURN,
+        GameStates.SELECT_QUESTION,
+        GameStates.ASK_QUESTION,
+        GameStates.ACCEPT_ANSWER,
+        GameStates.CHECK_ANSWER,
+        GameStates.UPDATE_SCORE,
+        GameStates.GAME_OVER
+    };
+
+    private EngineSnapshot(){}
+
+    /**
+     * Takes a snapshot of an engine.
+     * @param engine the engine, which must not be running a transition on another thread
+     * @return the snapshot bytes
+     * @throws IllegalArgumentException if the engine is in a state that is not one of the {@link GameStates}
+     */
+    public static byte[] capture(GameEngine engine){
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try{
+            write(engine, out);
+            out.flush();
+        }
+        catch(IOException e){
+            throw new UncheckedIOException(e);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        long checksum = crc.getValue();
+        for(int shift = 24; shift >= 0; shift -= 8){
+            bytes.write((int) (checksum >>> shift));
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Restores an engine from a snapshot taken by {@link #capture(GameEngine)}.
+     * @param snapshot the snapshot bytes
+     * @param catalog the catalog the snapshotted game was played on
+     * @param publisher the event publisher of the restored engine, or {@code null} to disable logging
+     * @param input the source the restored engine reads player input from
+     * @param out the stream the restored engine writes its output to
+     * @return an engine in the saved state
+     * @throws IOException if the snapshot is truncated, corrupt, of an unknown version or from another catalog
+     */
+    public static GameEngine restore(byte[] snapshot, QuestionCatalog catalog, EventPublisher publisher,
+            InputSource input, PrintStream out) throws IOException{
+        int length = snapshot.length - Integer.BYTES;
+        if(length < Integer.BYTES){
+            throw new IOException("Snapshot is truncated");
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(snapshot, 0, length);
+        DataInputStream trailer = new DataInputStream(new ByteArrayInputStream(snapshot, length, Integer.BYTES));
+        if((int) crc.getValue() != trailer.readInt()){
+            throw new IOException("Snapshot checksum does not match");
+        }
+
+        return read(new DataInputStream(new ByteArrayInputStream(snapshot, 0, length)), catalog, publisher, input,
+                out);
+    }
+
+    /**
+     * Reads the case ID of a snapshot without restoring it.
+     * @param snapshot the snapshot bytes
+     * @return the case ID of the snapshotted game, or {@code null} if it had none
+     * @throws IOException if the snapshot does not start with a known header
+     */
+    public static String readCaseId(byte[] snapshot) throws IOException{
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot));
+        readHeader(in);
+        in.readLong();
+        return readNullableString(in);
+    }
+
+    private static void write(GameEngine engine, DataOutput out) throws IOException{
+        QuestionCatalog catalog = engine.getBoard().getCatalog();
+        List<Player> players = engine.getPlayers();
+
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeLong(catalog.getFingerprint());
+        writeNullableString(out, engine.getCaseId());
+
+        out.writeByte(stateCode(engine.getGameState()));
+        writeVarInt(out, engine.getCurrentPlayerIndex());
+        Question current = engine.getCurrentQuestion();
+        writeVarInt(out, current == null ? 0 : catalog.indexOf(current) + 1);
+        writeNullableString(out, engine.getInput());
+        out.writeBoolean(engine.isAnswerCorrect());
+
+        writeVarInt(out, players.size());
+        for(Player player : players){
+            out.writeInt(player.getPlayerID());
+            out.writeUTF(player.getName());
+            writeVarInt(out, zigZag(player.getScore()));
+        }
+
+        long[] picked = engine.getBoard().getPicked().toLongArray();
+        writeVarInt(out, picked.length);
+        for(long word : picked){
+            out.writeLong(word);
+        }
+
+        List<GameTurn> turns = engine.getTurns();
+        writeVarInt(out, turns.size());
+        for(GameTurn turn : turns){
+            writeVarInt(out, seat(players, turn.getPlayer()));
+
+            // a turn's question is normally the one its category and value lead to, so the position is enough
+            int position = catalog.findPosition(turn.getCategory(), turn.getQuestionValue());
+            boolean byPosition = position >= 0
+                    && Objects.equals(catalog.get(position).getCategory(), turn.getCategory())
+                    && Objects.equals(catalog.get(position).getQuestionText(), turn.getQuestionText());
+            writeVarInt(out, byPosition ? position + 1 : 0);
+            if(!byPosition){
+                writeNullableString(out, turn.getCategory());
+                out.writeInt(turn.getQuestionValue());
+                writeNullableString(out, turn.getQuestionText());
+            }
+
+            writeNullableString(out, turn.getGivenAnswer());
+            out.writeBoolean(turn.isCorrect());
+            writeVarInt(out, zigZag(turn.getPointsEarned()));
+            writeVarInt(out, zigZag(turn.getRunningTotal()));
+        }
+    }
+
+    private static GameEngine read(DataInput in, QuestionCatalog catalog, EventPublisher publisher,
+            InputSource input, PrintStream out) throws IOException{
+        readHeader(in);
+        if(in.readLong() != catalog.getFingerprint()){
+            throw new IOException("Snapshot was taken on a different catalog");
+        }
+        String caseId = readNullableString(in);
+
+        int stateCode = in.readUnsignedByte();
+        if(stateCode >= STATES.length){
+            throw new IOException("Unknown game state code: " + stateCode);
+        }
+        int currentPlayer = readCount(in);
+        int currentQuestion = readCount(in) - 1;
+        String playerInput = readNullableString(in);
+        boolean answerCorrect = in.readBoolean();
+
+        int playerCount = readCount(in);
+        List<Player> players = new ArrayList<>(playerCount);
+        for(int i = 0; i < playerCount; i++){
+            Player player = new Player(in.readInt(), in.readUTF());
+            player.updateScore(unZigZag(readVarInt(in)));
+            players.add(player);
+        }
+
+        GameEngine engine = new GameEngine(catalog, players, publisher, caseId, input, out);
+        engine.setGameState(STATES[stateCode]);
+        try{
+            engine.setCurrentPlayerIndex(currentPlayer);
+            if(currentQuestion >= 0){
+                engine.setCurrentQuestion(catalog.get(currentQuestion));
+            }
+        }
+        catch(IndexOutOfBoundsException e){
+            throw new IOException("Snapshot refers to a missing player or question", e);
+        }
+        engine.setInput(playerInput);
+        engine.setAnswerCorrect(answerCorrect);
+
+        long[] words = new long[readCount(in)];
+        for(int i = 0; i < words.length; i++){
+            words[i] = in.readLong();
+        }
+        BitSet picked = BitSet.valueOf(words);
+        if(picked.length() > catalog.size()){
+            throw new IOException("Snapshot picks questions beyond the catalog");
+        }
+        for(int i = picked.nextSetBit(0); i >= 0; i = picked.nextSetBit(i + 1)){
+            engine.markPicked(catalog.get(i));
+        }
+
+        int turnCount = readCount(in);
+        for(int i = 0; i < turnCount; i++){
+            int seat = readCount(in);
+            if(seat >= players.size()){
+                throw new IOException("Snapshot refers to a missing player");
+            }
+
+            int position = readCount(in) - 1;
+            String category;
+            int value;
+            String questionText;
+            if(position >= 0){
+                if(position >= catalog.size()){
+                    throw new IOException("Snapshot refers to a missing question");
+                }
+                Question q = catalog.get(position);
+                category = q.getCategory();
+                value = q.getValue();
+                questionText = q.getQuestionText();
+            }
+            else{
+                category = readNullableString(in);
+                value = in.readInt();
+                questionText = readNullableString(in);
+            }
+
+            String givenAnswer = readNullableString(in);
+            boolean correct = in.readBoolean();
+            int pointsEarned = unZigZag(readVarInt(in));
+            int runningTotal = unZigZag(readVarInt(in));
+            engine.recordTurn(new GameTurn(players.get(seat), category, value, questionText, givenAnswer, correct,
+                    pointsEarned, runningTotal));
+        }
+        return engine;
+    }
+
+    private static void readHeader(DataInput in) throws IOException{
+        if(in.readInt() != MAGIC){
+            throw new IOException("Not a game snapshot");
+        }
+        int version = in.readUnsignedShort();
+        if(version != VERSION){
+            throw new IOException("Unsupported snapshot version: " + version);
+        }
+    }
+
+    private static int stateCode(GameState state){
+        for(int i = 0; i < STATES.length; i++){
+            if(STATES[i] == state) return i;
+        }
+        throw new IllegalArgumentException("Cannot snapshot state " + state.getClass().getName());
+    }
+
+    private static int seat(List<Player> players, Player player){
+        for(int i = 0; i < players.size(); i++){
+            if(players.get(i) == player) return i;
+        }
+        throw new IllegalArgumentException("Turn was taken by a player who is not in the game: " + player.getName());
+    }
+
+    private static void writeNullableString(DataOutput out, String s) throws IOException{
+        out.writeBoolean(s != null);
+        if(s != null) out.writeUTF(s);
+    }
+
+    private static String readNullableString(DataInput in) throws IOException{
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /**
+     * Writes an int as an unsigned value in 7-bit groups, low group first, so small counts and positions take one byte.
+     */
+    private static void writeVarInt(DataOutput out, int value) throws IOException{
+        while((value & ~0x7F) != 0){
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInput in) throws IOException{
+        int value = 0;
+        for(int shift = 0; shift < 35; shift += 7){
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    private static int readCount(DataInput in) throws IOException{
+        int count = readVarInt(in);
+        if(count < 0){
+            throw new IOException("Negative count or position in snapshot");
+        }
+        return count;
+    }
+
+    private static int zigZag(int value){
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unZigZag(int value){
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
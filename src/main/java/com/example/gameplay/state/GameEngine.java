@@ -1,16 +1,21 @@
 package com.example.gameplay.state;
 
 import com.example.gameplay.factory.PlayerInitFactory;
+import com.example.gameplay.input.ConsoleInputSource;
+import com.example.gameplay.input.InputSource;
 import com.example.model.Player;
 import com.example.model.Question;
+import com.example.model.QuestionBoard;
+import com.example.model.QuestionCatalog;
 import com.example.model.GameTurn;
 import com.example.logging.EventPublisher;
 import com.example.logging.LogHelper;
 
+import java.io.PrintStream;
 import java.util.List;
-import java.util.Scanner;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Objects;
 
 /**
  * The controller for the game and Context Class in the State Design Pattern.
@@ -23,9 +28,10 @@ import java.util.Collections;
  */
 public class GameEngine {
     private GameState game;
-    private Scanner scanner;
+    private InputSource input;
+    private PrintStream out;
     private List<Player> players;
-    private List<Question> questions;
+    private QuestionBoard board;
     private List<GameTurn> turnHistory = new ArrayList<>();
     private int currentPlayer;
     private Question currentQuestion;
@@ -53,13 +59,38 @@ public class GameEngine {
      * @param caseId    the unique case ID for this game session
      */
     public GameEngine(List<Question> questions, EventPublisher publisher, String caseId) {
-        this.scanner = new Scanner(System.in);
-        this.players = PlayerInitFactory.createPlayers();
-        this.currentPlayer = 0;
-        this.questions = questions;
-        this.publisher = publisher;
-        this.caseId = caseId;
-        this.game = new PlayerTurnState();
+        this(questions, publisher, caseId, ConsoleInputSource.getInstance(), System.out);
+    }
+
+    /**
+     * Constructor to initialise input handling and players for a game played from
+     * a shared {@link QuestionCatalog}, such as a cached bank.
+     * 
+     * @param catalog   the shared questions that make up the current jeopardy
+     *                  game.
+     * @param publisher the event publisher for logging
+     * @param caseId    the unique case ID for this game session
+     */
+    public GameEngine(QuestionCatalog catalog, EventPublisher publisher, String caseId) {
+        this(catalog, PlayerInitFactory.createPlayers(), publisher, caseId, ConsoleInputSource.getInstance(),
+                System.out);
+    }
+
+    /**
+     * Constructor to initialise players from the given input source, along with
+     * questions and logging. The player set-up prompts are answered from
+     * {@code input} just like the rest of the game.
+     * 
+     * @param questions the list of questions that make up the current jeopardy
+     *                  game.
+     * @param publisher the event publisher for logging
+     * @param caseId    the unique case ID for this game session
+     * @param input     the source of player input
+     * @param out       the stream game output is written to
+     */
+    public GameEngine(List<Question> questions, EventPublisher publisher, String caseId, InputSource input,
+            PrintStream out) {
+        this(questions, PlayerInitFactory.createPlayers(input, out), publisher, caseId, input, out);
     }
 
     /**
@@ -72,13 +103,51 @@ public class GameEngine {
      * @param caseId    the unique case ID for this game session
      */
     public GameEngine(List<Question> questions, List<Player> players, EventPublisher publisher, String caseId) {
-        this.scanner = new Scanner(System.in);
+        this(questions, players, publisher, caseId, ConsoleInputSource.getInstance(), System.out);
+    }
+
+    /**
+     * Constructor for games that are not played on the console, such as headless
+     * sessions. Player input is read from {@code input} and all game output is
+     * written to {@code out}.
+     * 
+     * @param questions the list of questions that make up the current jeopardy
+     *                  game.
+     * @param players   the list of players to use
+     * @param publisher the event publisher for logging
+     * @param caseId    the unique case ID for this game session
+     * @param input     the source of player input
+     * @param out       the stream game output is written to
+     */
+    public GameEngine(List<Question> questions, List<Player> players, EventPublisher publisher, String caseId,
+            InputSource input, PrintStream out) {
+        this(new QuestionCatalog(questions), players, publisher, caseId, input, out);
+    }
+
+    /**
+     * Constructor for games played from a shared {@link QuestionCatalog}. The
+     * catalog is never modified; this game tracks the questions it has picked on
+     * its own {@link QuestionBoard}, so any number of engines can share one
+     * catalog.
+     * 
+     * @param catalog   the shared questions that make up the current jeopardy
+     *                  game.
+     * @param players   the list of players to use
+     * @param publisher the event publisher for logging
+     * @param caseId    the unique case ID for this game session
+     * @param input     the source of player input
+     * @param out       the stream game output is written to
+     */
+    public GameEngine(QuestionCatalog catalog, List<Player> players, EventPublisher publisher, String caseId,
+            InputSource input, PrintStream out) {
+        this.input = input;
+        this.out = out;
         this.players = players;
         this.currentPlayer = 0;
-        this.questions = questions;
+        this.board = new QuestionBoard(catalog);
         this.publisher = publisher;
         this.caseId = caseId;
-        this.game = new PlayerTurnState();
+        this.game = GameStates.PLAYER_TURN;
     }
 
     /**
@@ -131,13 +200,43 @@ public class GameEngine {
     }
 
     /**
-     * Accessor Method for {@code private List<Question> questions;}
-     * Returns all questions stored in list.
+     * Accessor Method for {@code private int currentPlayer;}
+     * Returns the position of the active player in the player list.
      * 
-     * @return the list of {@link Question} objects
+     * @return the index of the current player
+     */
+    int getCurrentPlayerIndex() {
+        return currentPlayer;
+    }
+
+    /**
+     * Mutator Method for {@code private int currentPlayer;}
+     * Used when an engine is restored from an {@link EngineSnapshot}.
+     * 
+     * @param index the index of the player whose turn it is
+     * @throws IndexOutOfBoundsException if there is no player at {@code index}
+     */
+    void setCurrentPlayerIndex(int index) {
+        this.currentPlayer = Objects.checkIndex(index, players.size());
+    }
+
+    /**
+     * Returns all questions of this game, picked or not, in board order.
+     * 
+     * @return an unmodifiable list of {@link Question} objects
      */
     public List<Question> getQuestions() {
-        return this.questions;
+        return board.getCatalog().getQuestions();
+    }
+
+    /**
+     * Accessor Method for {@code private QuestionBoard board;}
+     * Returns this game's board, which records the questions picked so far.
+     * 
+     * @return the {@link QuestionBoard} for the current game
+     */
+    public QuestionBoard getBoard() {
+        return this.board;
     }
 
     /**
@@ -147,13 +246,7 @@ public class GameEngine {
      *         {@code false}
      */
     public boolean areAllQuestionsAnswered() {
-        for (Question q : questions) {
-            if (!q.hasBeenPicked()) {
-                return false;
-            }
-        }
-
-        return true;
+        return board.getRemainingCount() == 0;
     }
 
     /**
@@ -164,13 +257,27 @@ public class GameEngine {
      * @return the matching {@link Question}, or {@code null} if it is not found
      */
     public Question findQuestion(String category, int value) {
-        for (Question q : questions) {
-            if (q.getCategory().equalsIgnoreCase(category) && q.getValue() == value) {
-                return q;
-            }
-        }
+        return board.findQuestion(category, value);
+    }
 
-        return null;
+    /**
+     * Indicates whether a question has already been picked in this game.
+     * 
+     * @param q a question of this game
+     * @return {@code true} if the question has been picked, otherwise
+     *         {@code false}
+     */
+    public boolean isPicked(Question q) {
+        return board.isPicked(q);
+    }
+
+    /**
+     * Marks a question as picked in this game only.
+     * 
+     * @param q a question of this game
+     */
+    public void markPicked(Question q) {
+        board.markPicked(q);
     }
 
     /**
@@ -194,12 +301,32 @@ public class GameEngine {
     }
 
     /**
-     * Reads input from the console for the active player.
+     * Reads input for the active player from this game's {@link InputSource}.
      * 
      * @return the player's raw text input
      */
     public String getPlayerInput() {
-        return scanner.nextLine();
+        return input.nextLine();
+    }
+
+    /**
+     * Accessor Method for {@code private InputSource input;}
+     * Returns the source this game reads player input from.
+     * 
+     * @return the {@link InputSource} for this game
+     */
+    public InputSource getInputSource() {
+        return input;
+    }
+
+    /**
+     * Accessor Method for {@code private PrintStream out;}
+     * Returns the stream that game states write their output to.
+     * 
+     * @return the output {@link PrintStream}
+     */
+    public PrintStream getOutput() {
+        return out;
     }
 
     /**
@@ -254,15 +381,12 @@ public class GameEngine {
     /**
      * Indicates whether the game should continue running. The game is considered
      * finished
-     * when the current state is an instance of {@link GameOverState}.
+     * when the current state is terminal, i.e. the {@link GameOverState}.
      * 
      * @return {@code true} if the game is still active, {@code false} otherwise
      */
     public boolean isRunning() {
-        if (this.game instanceof GameOverState)
-            return false;
-        else
-            return true;
+        return !this.game.isTerminal();
     }
 
     /**
@@ -14,17 +14,17 @@ public class GameOverState implements GameState{
      */
     @Override
     public void loadGameState(GameEngine gameEngine) {
-        System.out.println("\n--------------------------------");
-        System.out.println("           GAME OVER");
-        System.out.println("--------------------------------");
+        gameEngine.getOutput().println("\n--------------------------------");
+        gameEngine.getOutput().println("           GAME OVER");
+        gameEngine.getOutput().println("--------------------------------");
 
         int maxScore = Integer.MIN_VALUE;
         Player winner = null;
 
-        System.out.println("Final Scores:");
+        gameEngine.getOutput().println("Final Scores:");
 
         for (Player p : gameEngine.getPlayers()) {
-            System.out.println(p.getName() + ": $" + p.getScore());
+            gameEngine.getOutput().println(p.getName() + ": $" + p.getScore());
 
             if (p.getScore() > maxScore) {
                 maxScore = p.getScore();
@@ -33,7 +33,7 @@ public class GameOverState implements GameState{
         }
 
         if (winner != null){
-            System.out.println("\nThe Winner is: " + winner.getName() + "!\n");
+            gameEngine.getOutput().println("\nThe Winner is: " + winner.getName() + "!\n");
         }
 
         // Log report generation
@@ -57,6 +57,15 @@ public class GameOverState implements GameState{
                 null);
     }
 
+    /**
+     * The game over state is the only final state.
+     * @return {@code true}
+     */
+    @Override
+    public boolean isTerminal() {
+        return true;
+    }
+
     /**
      * Displays a closing message and terminates the program.
      * @param gameEngine the {@link GameEngine} used to transition states
@@ -73,7 +82,7 @@ public class GameOverState implements GameState{
                 null,
                 null);
 
-        System.out.println("\nThank you for playing Jeopardy!");
+        gameEngine.getOutput().println("\nThank you for playing Jeopardy!");
         System.exit(0);
     }
 }
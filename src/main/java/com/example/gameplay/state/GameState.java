@@ -18,4 +18,12 @@ public interface GameState{
      * @param gameEngine the GameEngine context controlling the game flow
      */
     public void nextGameState(GameEngine gameEngine);
+
+    /**
+     * Indicates whether the game ends once this state has been reached.
+     * @return {@code true} if this is a final state, otherwise {@code false}
+     */
+    public default boolean isTerminal(){
+        return false;
+    }
 }
\ No newline at end of file
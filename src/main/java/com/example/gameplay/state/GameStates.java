@@ -0,0 +1,27 @@
+package com.example.gameplay.state;
+
+/**
+ * Registry of the shared {@link GameState} instances.
+ * Every concrete state is stateless (all game data lives in the {@link GameEngine}), so one instance of each can be
+ * shared by every engine, following the Flyweight Design Pattern. States transition by handing the engine one of
+ * these constants, which means changing state never allocates.
+ * @author Nicholas Grimes
+ */
+public final class GameStates{
+    /** Start of a player's turn. */
+    public static final GameState PLAYER_TURN = new PlayerTurnState();
+    /** Player chooses a category and value. */
+    public static final GameState SELECT_QUESTION = new SelectQuestionState();
+    /** The chosen question is displayed. */
+    public static final GameState ASK_QUESTION = new AskQuestionState();
+    /** The player's answer is read. */
+    public static final GameState ACCEPT_ANSWER = new AcceptAnswerState();
+    /** The answer is compared with the correct one. */
+    public static final GameState CHECK_ANSWER = new CheckAnswerState();
+    /** The player's score is adjusted and the turn recorded. */
+    public static final GameState UPDATE_SCORE = new UpdateScoreState();
+    /** Final scores are shown; the only terminal state. */
+    public static final GameState GAME_OVER = new GameOverState();
+
+    private GameStates(){}
+}
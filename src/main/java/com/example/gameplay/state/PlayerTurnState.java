@@ -13,8 +13,8 @@ public class PlayerTurnState implements GameState{
      */
     @Override
     public void loadGameState(GameEngine gameEngine) {
-        System.out.println("\nIt is " + gameEngine.getCurrentPlayer().getName() + "'s turn");
-        System.out.println("Score: $" + gameEngine.getCurrentPlayer().getScore());
+        gameEngine.getOutput().println("\nIt is " + gameEngine.getCurrentPlayer().getName() + "'s turn");
+        gameEngine.getOutput().println("Score: $" + gameEngine.getCurrentPlayer().getScore());
 
         /**
          * Log player turn start
@@ -37,9 +37,9 @@ public class PlayerTurnState implements GameState{
     @Override
     public void nextGameState(GameEngine gameEngine) {
         if (gameEngine.areAllQuestionsAnswered()) {
-            gameEngine.setGameState(new GameOverState());
+            gameEngine.setGameState(GameStates.GAME_OVER);
         } else {
-            gameEngine.setGameState(new SelectQuestionState());
+            gameEngine.setGameState(GameStates.SELECT_QUESTION);
         }
     }
 }
@@ -2,7 +2,7 @@ package com.example.gameplay.state;
 
 import com.example.model.Question;
 
-import java.util.List;
+import java.util.Collection;
 
 /**
  * Concrete class displays a list of all available questions and waits for the player's choice.
@@ -17,17 +17,15 @@ public class SelectQuestionState implements GameState{
      */
     @Override
     public void loadGameState(GameEngine gameEngine) {
-        System.out.println("\n--- Available Questions ---");
-        List<Question> questions = gameEngine.getQuestions();
+        gameEngine.getOutput().println("\n--- Available Questions ---");
+        Collection<Question> available = gameEngine.getBoard().getAvailableQuestions();
 
-        for (Question q : questions) {
-            if (!q.hasBeenPicked()) {
-                System.out.println("[" + q.getCategory() + " " + q.getValue() + "]");
-            }
+        for (Question q : available) {
+            gameEngine.getOutput().println("[" + q.getCategory() + " " + q.getValue() + "]");
         }
 
-        System.out.println("\nType 'quit' to end the game\n");
-        System.out.print("Choose a Category and Value (e.g., 'Variables & Data Types,200'): ");
+        gameEngine.getOutput().println("\nType 'quit' to end the game\n");
+        gameEngine.getOutput().print("Choose a Category and Value (e.g., 'Variables & Data Types,200'): ");
     }
 
     /**
@@ -42,14 +40,14 @@ public class SelectQuestionState implements GameState{
         String input = gameEngine.getPlayerInput();
 
         if (input.equalsIgnoreCase("quit")) {
-            gameEngine.setGameState(new GameOverState());
+            gameEngine.setGameState(GameStates.GAME_OVER);
             return;
         }
 
         String[] parts = input.split(",");
         if (parts.length < 2) {
-            System.out.println("\nInvalid format. Please try again.");
-            gameEngine.setGameState(new SelectQuestionState());
+            gameEngine.getOutput().println("\nInvalid format. Please try again.");
+            gameEngine.setGameState(GameStates.SELECT_QUESTION);
             return;
         }
 
@@ -59,8 +57,8 @@ public class SelectQuestionState implements GameState{
         try {
             value = Integer.parseInt(parts[1].trim()); // Added trim() here too
         } catch (NumberFormatException e) {
-            System.out.println("Invalid number. Please try again.");
-            gameEngine.setGameState(new SelectQuestionState());
+            gameEngine.getOutput().println("Invalid number. Please try again.");
+            gameEngine.setGameState(GameStates.SELECT_QUESTION);
             return;
         }
 
@@ -78,7 +76,7 @@ public class SelectQuestionState implements GameState{
 
         Question selected = gameEngine.findQuestion(category, value);
 
-        if (selected != null && !selected.hasBeenPicked()) {
+        if (selected != null && !gameEngine.isPicked(selected)) {
             /**
              * Log question selection
              */
@@ -92,10 +90,10 @@ public class SelectQuestionState implements GameState{
                     gameEngine.getCurrentPlayer().getScore());
 
             gameEngine.setCurrentQuestion(selected);
-            gameEngine.setGameState(new AskQuestionState());
+            gameEngine.setGameState(GameStates.ASK_QUESTION);
         } else {
-            System.out.println("\nQuestion not found or already played.");
-            gameEngine.setGameState(new SelectQuestionState());
+            gameEngine.getOutput().println("\nQuestion not found or already played.");
+            gameEngine.setGameState(GameStates.SELECT_QUESTION);
         }
     }
 }
@@ -13,7 +13,7 @@ import com.example.model.Player;
 public class UpdateScoreState implements GameState{
     /**
      * Updates the player's score by adding or subtracting the question's value depending on correctness.
-     * The current question is then marked as picked and the {@link GameEngine} advances to the next player.
+     * The current question is then marked as picked on this game's board and the {@link GameEngine} advances to the next player.
      * @param gameEngine the {@link GameEngine} providing question data and player turn management
      */
     @Override
@@ -30,9 +30,9 @@ public class UpdateScoreState implements GameState{
             player.updateScore(-points);
         }
 
-        gameEngine.getCurrentQuestion().markPicked();
+        gameEngine.markPicked(gameEngine.getCurrentQuestion());
 
-        System.out.println(player.getName() + " now has $" + player.getScore());
+        gameEngine.getOutput().println(player.getName() + " now has $" + player.getScore());
 
         /**
          * Log the updated score (post updates)
@@ -70,6 +70,6 @@ public class UpdateScoreState implements GameState{
      */
     @Override
     public void nextGameState(GameEngine gameEngine) {
-        gameEngine.setGameState(new PlayerTurnState());
+        gameEngine.setGameState(GameStates.PLAYER_TURN);
     }
 }
@@ -0,0 +1,292 @@
+package com.example.logging;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Event listener implementation that logs events to a CSV file on a background thread.
+ * Unlike {@link CSVEventLogger}, which opens and closes the file for every event, this logger keeps a single
+ * {@link BufferedWriter} open for its whole lifetime. {@link #onEvent(EventRecord)} only places the record on a
+ * bounded queue; a writer thread drains the queue in batches and flushes the file at most once per flush interval
+ * (and whenever it goes idle). The output format is identical to {@link CSVEventLogger}.
+ *
+ * <p>
+ * What happens when the queue is full is decided by the {@link OverflowPolicy}. Calling {@link #close()} writes
+ * and flushes every queued event before the file is closed; a JVM shutdown hook does the same if the logger
+ * was never closed explicitly.
+ *
+ * @author Mahaveer Ragbir
+ */
+public class AsyncCSVEventLogger implements EventListener, AutoCloseable {
+    /**
+     * Default number of events that may be queued before the overflow policy applies.
+     */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    /**
+     * Default maximum time, in milliseconds, between a write and the flush that makes it durable.
+     */
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 200;
+
+    /**
+     * Default maximum time, in milliseconds, that {@link OverflowPolicy#BLOCK} waits for room in the queue.
+     */
+    public static final long DEFAULT_BLOCK_TIMEOUT_MILLIS = 5000;
+
+    /**
+     * Behaviour of {@link #onEvent(EventRecord)} when the queue is full.
+     */
+    public enum OverflowPolicy {
+        /** Wait up to the block timeout for the writer thread to make room, then discard the event. */
+        BLOCK,
+        /** Discard the event being published. */
+        DROP_NEWEST,
+        /** Discard the oldest queued event to make room for the new one. */
+        DROP_OLDEST
+    }
+
+    private static final int MAX_BATCH = 512;
+
+    private final BlockingQueue<EventRecord> queue;
+    private final long flushIntervalMillis;
+    private final long blockTimeoutMillis;
+    private final OverflowPolicy policy;
+    private final BufferedWriter writer;
+    private final Thread worker;
+    private final Thread shutdownHook;
+    private final AtomicLong dropped = new AtomicLong();
+    private final ReadWriteLock state = new ReentrantReadWriteLock();
+    private volatile boolean running = true;
+
+    /**
+     * Constructs a logger with the default capacity, flush interval and the {@link OverflowPolicy#BLOCK} policy.
+     *
+     * @param filename the path and name of the CSV file to create
+     * @throws IOException if the file cannot be created
+     */
+    public AsyncCSVEventLogger(String filename) throws IOException {
+        this(filename, DEFAULT_CAPACITY, DEFAULT_FLUSH_INTERVAL_MILLIS, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Constructs a logger that waits at most {@link #DEFAULT_BLOCK_TIMEOUT_MILLIS} for room in a full queue.
+     *
+     * @param filename            the path and name of the CSV file to create
+     * @param capacity            the maximum number of queued events
+     * @param flushIntervalMillis the maximum time between a write and the following flush
+     * @param policy              what to do when the queue is full
+     * @throws IOException if the file cannot be created
+     */
+    public AsyncCSVEventLogger(String filename, int capacity, long flushIntervalMillis, OverflowPolicy policy)
+            throws IOException {
+        this(filename, capacity, flushIntervalMillis, policy, DEFAULT_BLOCK_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Constructs a new logger, writes the CSV header and starts the writer thread.
+     * If the file already exists, it will be overwritten.
+     *
+     * @param filename            the path and name of the CSV file to create
+     * @param capacity            the maximum number of queued events
+     * @param flushIntervalMillis the maximum time between a write and the following flush
+     * @param policy              what to do when the queue is full
+     * @param blockTimeoutMillis  the maximum time {@link OverflowPolicy#BLOCK} waits for room in the queue
+     * @throws IOException if the file cannot be created
+     */
+    public AsyncCSVEventLogger(String filename, int capacity, long flushIntervalMillis, OverflowPolicy policy,
+            long blockTimeoutMillis) throws IOException {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        if (flushIntervalMillis < 1) {
+            throw new IllegalArgumentException("Flush interval must be positive: " + flushIntervalMillis);
+        }
+        if (blockTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Block timeout must not be negative: " + blockTimeoutMillis);
+        }
+
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.blockTimeoutMillis = blockTimeoutMillis;
+        this.policy = policy;
+        this.writer = Files.newBufferedWriter(Paths.get(filename), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        this.writer.write(CSVEventLogger.HEADER);
+        this.writer.flush();
+
+        this.worker = new Thread(this::drain, "csv-event-logger");
+        this.worker.setDaemon(true);
+        this.worker.start();
+
+        this.shutdownHook = new Thread(this::stop, "csv-event-logger-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Queues an event record to be written by the background thread.
+     * Events published after {@link #close()} are counted as dropped.
+     * Enqueuing holds the read side of the state lock, so {@link #close()} cannot stop the writer thread between
+     * the running check and the enqueue; every event is either written or counted as dropped.
+     *
+     * @param event the event record to log
+     */
+    @Override
+    public void onEvent(EventRecord event) {
+        state.readLock().lock();
+        try {
+            if (!running) {
+                dropped.incrementAndGet();
+                return;
+            }
+            enqueue(event);
+        } finally {
+            state.readLock().unlock();
+        }
+    }
+
+    private void enqueue(EventRecord event) {
+        switch (policy) {
+            case BLOCK -> {
+                try {
+                    if (!queue.offer(event, blockTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                        dropped.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped.incrementAndGet();
+                }
+            }
+            case DROP_NEWEST -> {
+                if (!queue.offer(event)) {
+                    dropped.incrementAndGet();
+                }
+            }
+            case DROP_OLDEST -> {
+                while (!queue.offer(event)) {
+                    if (queue.poll() != null) {
+                        dropped.incrementAndGet();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of events that were discarded because the queue was full or the logger was closed.
+     *
+     * @return the dropped event count
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Stops accepting events, writes everything still queued, flushes and closes the file.
+     * Blocks until the writer thread has finished.
+     */
+    @Override
+    public void close() {
+        stop();
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // JVM is already shutting down; the hook is running or has run.
+        }
+    }
+
+    private void stop() {
+        // waits for in-flight enqueues, so nothing can be queued after the writer thread's final drain
+        state.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            state.writeLock().unlock();
+        }
+
+        boolean interrupted = false;
+        while (worker.isAlive()) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Body of the writer thread. Writes queued events in batches until the logger is stopped and the queue is
+     * empty, then flushes and closes the file.
+     */
+    private void drain() {
+        List<EventRecord> batch = new ArrayList<>(MAX_BATCH);
+        long lastFlush = System.nanoTime();
+        boolean dirty = false;
+
+        try {
+            while (running || !queue.isEmpty()) {
+                EventRecord first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, MAX_BATCH - 1);
+                    dirty |= write(batch);
+                    batch.clear();
+                }
+
+                long now = System.nanoTime();
+                if (dirty && (first == null || now - lastFlush >= TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis))) {
+                    flush();
+                    dirty = false;
+                    lastFlush = now;
+                }
+            }
+        } catch (InterruptedException e) {
+            queue.drainTo(batch);
+            write(batch);
+        } finally {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                System.err.println("Error closing event log: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private boolean write(List<EventRecord> batch) {
+        try {
+            for (EventRecord event : batch) {
+                writer.write(CSVEventLogger.toCsvLine(event));
+            }
+            return true;
+        } catch (IOException e) {
+            System.err.println("Error writing event: " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    private void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            System.err.println("Error flushing event log: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+}
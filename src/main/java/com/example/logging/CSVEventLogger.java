@@ -12,6 +12,12 @@ import java.io.File;
  * @author Mahaveer Ragbir
  */
 public class CSVEventLogger implements EventListener {
+    /**
+     * Header row shared by all CSV event log writers.
+     */
+    static final String HEADER =
+            "Case_ID,Player_ID,Activity,Timestamp,Category,Question_Value,Answer_Given,Result,Score_After_Play\n";
+
     private String filename;
 
     /**
@@ -50,8 +56,7 @@ public class CSVEventLogger implements EventListener {
             FileWriter writer = new FileWriter(filename, false);
             System.out.println("FileWriter created successfully");
 
-            writer.write(
-                    "Case_ID,Player_ID,Activity,Timestamp,Category,Question_Value,Answer_Given,Result,Score_After_Play\n");
+            writer.write(HEADER);
             System.out.println("Header written to buffer");
 
             writer.flush();
@@ -83,23 +88,7 @@ public class CSVEventLogger implements EventListener {
         try {
             FileWriter writer = new FileWriter(filename, true);
 
-            String caseId = event.getCaseId() != null ? event.getCaseId() : "";
-            String playerId = event.getPlayerId() != null ? event.getPlayerId() : "";
-            String activity = event.getActivity() != null ? event.getActivity() : "";
-
-            String timestamp = "";
-            if (event.getTimestamp() != null) {
-                timestamp = event.getTimestamp().toString();
-            }
-
-            String category = event.getCategory() != null ? event.getCategory() : "";
-            String questionValue = event.getQuestionValue() != null ? event.getQuestionValue().toString() : "";
-            String answerGiven = event.getAnswerGiven() != null ? event.getAnswerGiven() : "";
-            String result = event.getResult() != null ? event.getResult() : "";
-            String score = event.getScoreAfterPlay() != null ? event.getScoreAfterPlay().toString() : "";
-
-            String line = caseId + "," + playerId + "," + activity + "," + timestamp + "," +
-                    category + "," + questionValue + "," + answerGiven + "," + result + "," + score + "\n";
+            String line = toCsvLine(event);
 
             writer.write(line);
             writer.flush();
@@ -110,4 +99,31 @@ public class CSVEventLogger implements EventListener {
             e.printStackTrace();
         }
     }
+
+    /**
+     * Formats an event record as a single CSV line terminated by a newline.
+     * Null values are converted to empty strings.
+     * 
+     * @param event the event record to format
+     * @return the CSV line for the event
+     */
+    static String toCsvLine(EventRecord event) {
+        String caseId = event.getCaseId() != null ? event.getCaseId() : "";
+        String playerId = event.getPlayerId() != null ? event.getPlayerId() : "";
+        String activity = event.getActivity() != null ? event.getActivity() : "";
+
+        String timestamp = "";
+        if (event.getTimestamp() != null) {
+            timestamp = event.getTimestamp().toString();
+        }
+
+        String category = event.getCategory() != null ? event.getCategory() : "";
+        String questionValue = event.getQuestionValue() != null ? event.getQuestionValue().toString() : "";
+        String answerGiven = event.getAnswerGiven() != null ? event.getAnswerGiven() : "";
+        String result = event.getResult() != null ? event.getResult() : "";
+        String score = event.getScoreAfterPlay() != null ? event.getScoreAfterPlay().toString() : "";
+
+        return caseId + "," + playerId + "," + activity + "," + timestamp + "," +
+                category + "," + questionValue + "," + answerGiven + "," + result + "," + score + "\n";
+    }
 }
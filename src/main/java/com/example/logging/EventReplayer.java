@@ -0,0 +1,296 @@
+package com.example.logging;
+
+import com.example.model.GameTurn;
+import com.example.model.Player;
+import com.example.model.Question;
+import com.example.model.QuestionCatalog;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Rebuilds the players, scores and turn histories of games from their event log, without running a game engine.
+ * Events can be fed one at a time (the replayer is itself an {@link EventListener}, so it can follow a live
+ * {@link EventPublisher}), from any collection of {@link EventRecord}s, or straight from a CSV log written by
+ * {@link CSVEventLogger} or {@link AsyncCSVEventLogger}. Events of different games may be interleaved; each game
+ * gets its own {@link SessionReplay}, keyed by case ID.
+ *
+ * <p>
+ * Only {@code SCORE_UPDATED} events change a game: each one becomes a {@link GameTurn} and adds or subtracts the
+ * question's value from the player's recomputed score. {@code PLAYER_TURN_START} registers players,
+ * {@code RESUME_GAME} counts restarts and {@code GENERATE_REPORT} or {@code EXIT_GAME} mark the game as finished;
+ * every other event is only counted. Replaying the same events therefore always gives the same result.
+ *
+ * <p>
+ * The CSV reader is written for logs of millions of events. It splits each line by hand and only creates strings
+ * for the fields of the events that change a game, so most events cost a few character comparisons. The loggers
+ * do not quote fields, so a category or answer that contains a comma is recovered by taking the question value
+ * to be the first whole-number column after the category.
+ *
+ * @author Mahaveer Ragbir
+ */
+public class EventReplayer implements EventListener {
+    private static final String HEADER_START = "Case_ID,";
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final QuestionCatalog catalog;
+    private final Map<String, SessionReplay> sessions = new LinkedHashMap<>();
+    private SessionReplay lastSession;
+    private long eventCount;
+
+    /**
+     * Constructs a replayer that leaves the question text of rebuilt turns empty.
+     */
+    public EventReplayer() {
+        this(null);
+    }
+
+    /**
+     * Constructs a replayer that looks up the question text of rebuilt turns in the catalog the games were
+     * played on.
+     *
+     * @param catalog the questions of the replayed games, or {@code null} to leave question text empty
+     */
+    public EventReplayer(QuestionCatalog catalog) {
+        this.catalog = catalog;
+    }
+
+    /**
+     * Replays a single event.
+     *
+     * @param event the event record to apply
+     */
+    @Override
+    public synchronized void onEvent(EventRecord event) {
+        SessionReplay session = session(event.getCaseId());
+        session.countEvent();
+        eventCount++;
+
+        String activity = event.getActivity();
+        if ("SCORE_UPDATED".equals(activity)) {
+            scoreUpdated(session, event.getPlayerId(), event.getCategory(), event.getQuestionValue(),
+                    event.getAnswerGiven(), event.getResult(), event.getScoreAfterPlay());
+        } else if ("PLAYER_TURN_START".equals(activity)) {
+            if (event.getPlayerId() != null) {
+                session.player(event.getPlayerId());
+            }
+        } else if ("RESUME_GAME".equals(activity)) {
+            session.resumed();
+        } else if ("GENERATE_REPORT".equals(activity) || "EXIT_GAME".equals(activity)) {
+            session.finish();
+        }
+    }
+
+    /**
+     * Replays a sequence of events in order.
+     *
+     * @param events the events to apply
+     * @return this replayer
+     */
+    public synchronized EventReplayer replay(Iterable<? extends EventRecord> events) {
+        for (EventRecord event : events) {
+            onEvent(event);
+        }
+        return this;
+    }
+
+    /**
+     * Replays every event of a CSV log file.
+     *
+     * @param file the log written by {@link CSVEventLogger} or {@link AsyncCSVEventLogger}
+     * @return this replayer
+     * @throws IOException if the file cannot be read
+     * @throws UncheckedIOException if a line is not a valid event
+     */
+    public EventReplayer replayCsv(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return replayCsv(reader);
+        }
+    }
+
+    /**
+     * Replays every event of a CSV log. A header row, if present, is skipped.
+     *
+     * @param log the log in the format written by {@link CSVEventLogger}
+     * @return this replayer
+     * @throws IOException if the log cannot be read
+     * @throws UncheckedIOException if a line is not a valid event
+     */
+    public synchronized EventReplayer replayCsv(Reader log) throws IOException {
+        BufferedReader reader = log instanceof BufferedReader b ? b : new BufferedReader(log, BUFFER_SIZE);
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isEmpty() || (lineNumber == 1 && line.startsWith(HEADER_START))) {
+                continue;
+            }
+            try {
+                replayLine(line);
+            } catch (IllegalArgumentException e) {
+                throw new UncheckedIOException(new IOException("Malformed event on line " + lineNumber + ": "
+                        + line, e));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the replay of the game with the given case ID.
+     *
+     * @param caseId the case ID of the game
+     * @return the {@link SessionReplay}, or {@code null} if no event of the game was replayed
+     */
+    public synchronized SessionReplay getSession(String caseId) {
+        return sessions.get(caseId);
+    }
+
+    /**
+     * Returns the replays of every game seen so far, in the order their first events were replayed.
+     *
+     * @return an unmodifiable view of the replayed games
+     */
+    public synchronized Collection<SessionReplay> getSessions() {
+        return Collections.unmodifiableCollection(sessions.values());
+    }
+
+    /**
+     * Returns the total number of events replayed.
+     *
+     * @return the event count
+     */
+    public synchronized long getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Applies one CSV line. Columns are: case ID, player ID, activity, timestamp, category, question value,
+     * answer given, result and score after play.
+     */
+    private void replayLine(String line) {
+        int caseEnd = line.indexOf(',');
+        int playerEnd = caseEnd < 0 ? -1 : line.indexOf(',', caseEnd + 1);
+        int activityEnd = playerEnd < 0 ? -1 : line.indexOf(',', playerEnd + 1);
+        int timestampEnd = activityEnd < 0 ? -1 : line.indexOf(',', activityEnd + 1);
+        int scoreStart = line.lastIndexOf(',') + 1;
+        int resultStart = line.lastIndexOf(',', scoreStart - 2) + 1;
+        if (timestampEnd < 0 || resultStart <= timestampEnd + 1) {
+            throw new IllegalArgumentException("Expected 9 columns");
+        }
+
+        SessionReplay session = session(line, caseEnd);
+        session.countEvent();
+        eventCount++;
+
+        int activityStart = playerEnd + 1;
+        if (is(line, activityStart, activityEnd, "SCORE_UPDATED")) {
+            // category, question value and answer lie between the timestamp and the result
+            int valueStart = timestampEnd + 1;
+            int valueEnd;
+            do {
+                valueStart = line.indexOf(',', valueStart) + 1;
+                valueEnd = line.indexOf(',', valueStart);
+                if (valueStart <= 0 || valueEnd >= resultStart - 1 || valueEnd < 0) {
+                    throw new IllegalArgumentException("No question value");
+                }
+            } while (!isInteger(line, valueStart, valueEnd));
+
+            scoreUpdated(session,
+                    field(line, caseEnd + 1, playerEnd),
+                    field(line, timestampEnd + 1, valueStart - 1),
+                    Integer.parseInt(line, valueStart, valueEnd, 10),
+                    field(line, valueEnd + 1, resultStart - 1),
+                    field(line, resultStart, scoreStart - 1),
+                    scoreStart == line.length() ? null : Integer.parseInt(line, scoreStart, line.length(), 10));
+        } else if (is(line, activityStart, activityEnd, "PLAYER_TURN_START")) {
+            if (playerEnd > caseEnd + 1) {
+                session.player(line.substring(caseEnd + 1, playerEnd));
+            }
+        } else if (is(line, activityStart, activityEnd, "RESUME_GAME")) {
+            session.resumed();
+        } else if (is(line, activityStart, activityEnd, "GENERATE_REPORT")
+                || is(line, activityStart, activityEnd, "EXIT_GAME")) {
+            session.finish();
+        }
+    }
+
+    /**
+     * Turns a {@code SCORE_UPDATED} event into a turn of its game.
+     */
+    private void scoreUpdated(SessionReplay session, String playerId, String category, Integer value,
+            String answer, String result, Integer reportedScore) {
+        if (playerId == null || value == null) {
+            return;
+        }
+
+        Player player = session.player(playerId);
+        boolean correct = "CORRECT".equals(result);
+        int points = correct ? value : -value;
+        player.updateScore(points);
+
+        String questionText = null;
+        if (catalog != null) {
+            Question q = catalog.findQuestion(category, value);
+            questionText = q == null ? null : q.getQuestionText();
+        }
+
+        session.addTurn(new GameTurn(player, category, value, questionText, answer, correct, points,
+                player.getScore()), reportedScore);
+    }
+
+    private SessionReplay session(String caseId) {
+        if (lastSession != null && Objects.equals(lastSession.getCaseId(), caseId)) {
+            return lastSession;
+        }
+        lastSession = sessions.computeIfAbsent(caseId, SessionReplay::new);
+        return lastSession;
+    }
+
+    /**
+     * Looks up the game of a CSV line, reusing the previous game without creating a string when the case ID is the
+     * same, as it is for most consecutive events.
+     */
+    private SessionReplay session(String line, int caseEnd) {
+        if (lastSession != null) {
+            String last = lastSession.getCaseId();
+            if (last == null ? caseEnd == 0 : last.length() == caseEnd && line.startsWith(last)) {
+                return lastSession;
+            }
+        }
+        return session(caseEnd == 0 ? null : line.substring(0, caseEnd));
+    }
+
+    private static boolean is(String line, int start, int end, String activity) {
+        return end - start == activity.length() && line.startsWith(activity, start);
+    }
+
+    private static String field(String line, int start, int end) {
+        return start >= end ? null : line.substring(start, end);
+    }
+
+    private static boolean isInteger(String line, int start, int end) {
+        if (start < end && line.charAt(start) == '-') {
+            start++;
+        }
+        if (start >= end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char c = line.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
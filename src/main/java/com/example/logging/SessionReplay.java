@@ -0,0 +1,158 @@
+package com.example.logging;
+
+import com.example.model.GameTurn;
+import com.example.model.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The players, scores and turn history of one game, rebuilt from its events by an {@link EventReplayer}.
+ * Players are numbered from 1 in the order they first appear in the log, which is the order they took their
+ * first turns. Every turn comes from a {@code SCORE_UPDATED} event and the scores are recomputed from those
+ * turns alone; the score the log reported is only used to count {@link #getScoreMismatches() mismatches}, so a
+ * replay can also be used to audit a log.
+ *
+ * @author Mahaveer Ragbir
+ */
+public class SessionReplay {
+    private final String caseId;
+    private final List<Player> players = new ArrayList<>(4);
+    private final List<GameTurn> turns = new ArrayList<>();
+    private long eventCount;
+    private int scoreMismatches;
+    private int resumes;
+    private boolean finished;
+
+    /**
+     * Constructs an empty replay for one game.
+     *
+     * @param caseId the case ID of the game
+     */
+    SessionReplay(String caseId) {
+        this.caseId = caseId;
+    }
+
+    /**
+     * Returns the player with the given name, adding them if they have not appeared yet.
+     *
+     * @param name the player's name as logged
+     * @return the replayed {@link Player}
+     */
+    Player player(String name) {
+        for (int i = 0; i < players.size(); i++) {
+            Player p = players.get(i);
+            if (p.getName().equals(name)) {
+                return p;
+            }
+        }
+        Player p = new Player(players.size() + 1, name);
+        players.add(p);
+        return p;
+    }
+
+    /**
+     * Applies one scored turn.
+     *
+     * @param turn          the rebuilt turn, whose running total is the recomputed score
+     * @param reportedScore the score the log reported after the turn, or {@code null} if it was missing
+     */
+    void addTurn(GameTurn turn, Integer reportedScore) {
+        turns.add(turn);
+        if (reportedScore != null && reportedScore != turn.getRunningTotal()) {
+            scoreMismatches++;
+        }
+    }
+
+    void countEvent() {
+        eventCount++;
+    }
+
+    void resumed() {
+        resumes++;
+    }
+
+    void finish() {
+        finished = true;
+    }
+
+    /**
+     * Returns the case ID of the replayed game.
+     *
+     * @return the case ID
+     */
+    public String getCaseId() {
+        return caseId;
+    }
+
+    /**
+     * Returns the players of the game with their replayed scores.
+     *
+     * @return an unmodifiable list of players, in order of first appearance
+     */
+    public List<Player> getPlayers() {
+        return Collections.unmodifiableList(players);
+    }
+
+    /**
+     * Returns the replayed player with the given name.
+     *
+     * @param name the player's name
+     * @return the {@link Player}, or {@code null} if no event mentioned them
+     */
+    public Player getPlayer(String name) {
+        for (Player p : players) {
+            if (p.getName().equals(name)) {
+                return p;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the rebuilt turn history of the game.
+     *
+     * @return an unmodifiable list of {@link GameTurn} objects, in the order they were played
+     */
+    public List<GameTurn> getTurns() {
+        return Collections.unmodifiableList(turns);
+    }
+
+    /**
+     * Returns the number of events of this game that were replayed.
+     *
+     * @return the event count
+     */
+    public long getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Returns the number of turns whose logged score differs from the recomputed one.
+     * A non-zero count means events are missing from the log or were logged out of order.
+     *
+     * @return the mismatch count
+     */
+    public int getScoreMismatches() {
+        return scoreMismatches;
+    }
+
+    /**
+     * Returns how many times the game was resumed from a snapshot after a restart.
+     *
+     * @return the number of {@code RESUME_GAME} events
+     */
+    public int getResumeCount() {
+        return resumes;
+    }
+
+    /**
+     * Indicates whether the log contains the end of the game.
+     *
+     * @return {@code true} if a game-over event was replayed, otherwise {@code false}
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+}
@@ -1,7 +1,6 @@
 package com.example.logging;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * A straightforward implementation of {@link EventPublisher} that maintains
@@ -10,13 +9,14 @@ import java.util.List;
  * <p>
  * This publisher performs basic operations: registering listeners,
  * unregistering them, and broadcasting {@link EventRecord} instances to all
- * listeners currently stored. A snapshot of the listener list is used during
- * publishing to avoid {@link java.util.ConcurrentModificationException}.
+ * listeners currently stored. The listener list is copy-on-write, so each
+ * publish iterates over a snapshot and the publisher can be shared by games
+ * running on different threads.
  * 
  * @author Mahaveer Ragbir
  */
 public class SimpleEventPublisher implements EventPublisher {
-    private final List<EventListener> listeners = new ArrayList<>();
+    private final CopyOnWriteArrayList<EventListener> listeners = new CopyOnWriteArrayList<>();
 
     /**
      * Registers the specified listener if it is non-null and not already
@@ -26,8 +26,8 @@ public class SimpleEventPublisher implements EventPublisher {
      */
     @Override
     public void registerListener(EventListener listener) {
-        if (listener != null && !listeners.contains(listener)) {
-            listeners.add(listener);
+        if (listener != null) {
+            listeners.addIfAbsent(listener);
         }
     }
 
@@ -50,10 +50,8 @@ public class SimpleEventPublisher implements EventPublisher {
      */
     @Override
     public void publish(EventRecord event) {
-        // Create a snapshot to avoid ConcurrentModificationException
-        List<EventListener> listenersSnapshot = new ArrayList<>(listeners);
-
-        for (EventListener listener : listenersSnapshot) {
+        // Iteration over a CopyOnWriteArrayList always sees a snapshot
+        for (EventListener listener : listeners) {
             listener.onEvent(event);
         }
     }
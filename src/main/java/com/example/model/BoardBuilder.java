@@ -0,0 +1,191 @@
+package com.example.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Builds random game boards of a fixed shape out of a large {@link QuestionCatalog}.
+ * A board has a number of categories, each with one question for every value tier (for example 100 to 500). The
+ * builder indexes the catalog once, grouping the positions of the questions of each category and tier into a
+ * stratum; a category is eligible when it has at least one question in every tier.
+ *
+ * <p>
+ * Building a board then only touches the questions it returns: the categories are drawn without replacement from
+ * the eligible ones with Floyd's sampling algorithm, which needs as many random numbers as categories are drawn,
+ * and each cell is a uniform pick from its stratum. Nothing proportional to the size of the bank is copied or
+ * shuffled, so a fresh board costs microseconds even over millions of questions. Every draw comes from the
+ * {@link SplittableRandom} passed in, so a session that keeps its seed can rebuild the same board. Builders are
+ * immutable and safe to share between threads.
+ * @author Nicholas Grimes
+ */
+public final class BoardBuilder{
+    /** Standard value tiers of a board. */
+    public static final int[] DEFAULT_TIERS = { 100, 200, 300, 400, 500 };
+
+    private final QuestionCatalog catalog;
+    private final int[] tiers;
+    private final int[][][] strata;
+    private final int[] eligible;
+
+    /**
+     * Indexes a catalog for boards with the {@link #DEFAULT_TIERS}.
+     * @param catalog the catalog boards are drawn from
+     */
+    public BoardBuilder(QuestionCatalog catalog){
+        this(catalog, DEFAULT_TIERS);
+    }
+
+    /**
+     * Indexes a catalog for boards with the given value tiers.
+     * @param catalog the catalog boards are drawn from
+     * @param tiers the values every category of a board has one question for, in board order
+     * @throws IllegalArgumentException if {@code tiers} is empty or contains a value twice
+     */
+    public BoardBuilder(QuestionCatalog catalog, int[] tiers){
+        if(tiers.length == 0){
+            throw new IllegalArgumentException("At least one tier is required");
+        }
+        Map<Integer, Integer> tierIndex = new HashMap<>();
+        for(int i = 0; i < tiers.length; i++){
+            if(tierIndex.putIfAbsent(tiers[i], i) != null){
+                throw new IllegalArgumentException("Duplicate tier: " + tiers[i]);
+            }
+        }
+
+        this.catalog = catalog;
+        this.tiers = tiers.clone();
+
+        Map<String, Integer> categoryIndex = new HashMap<>();
+        List<Stratum[]> builders = new ArrayList<>();
+
+        for(int position = 0; position < catalog.size(); position++){
+            Question q = catalog.get(position);
+            Integer tier = tierIndex.get(q.getValue());
+            if(tier == null) continue;
+
+            String key = q.getCategory() == null ? "" : q.getCategory().toLowerCase(Locale.ROOT);
+            int category = categoryIndex.computeIfAbsent(key, k -> {
+                builders.add(new Stratum[tiers.length]);
+                return builders.size() - 1;
+            });
+
+            Stratum[] row = builders.get(category);
+            if(row[tier] == null) row[tier] = new Stratum();
+            row[tier].add(position);
+        }
+
+        this.strata = new int[builders.size()][][];
+        int[] eligible = new int[builders.size()];
+        int eligibleCount = 0;
+
+        for(int c = 0; c < builders.size(); c++){
+            Stratum[] row = builders.get(c);
+            strata[c] = new int[tiers.length][];
+            boolean complete = true;
+            for(int t = 0; t < tiers.length; t++){
+                strata[c][t] = row[t] == null ? new int[0] : row[t].toArray();
+                complete &= row[t] != null;
+            }
+            if(complete) eligible[eligibleCount++] = c;
+        }
+        this.eligible = Arrays.copyOf(eligible, eligibleCount);
+    }
+
+    /**
+     * Returns the number of categories that have a question in every tier.
+     * @return the largest number of categories a board can have
+     */
+    public int getEligibleCategoryCount(){return eligible.length;}
+
+    /**
+     * Returns the value tiers of the boards this builder makes.
+     * @return a copy of the tiers
+     */
+    public int[] getTiers(){return tiers.clone();}
+
+    /**
+     * Builds a board from a seed.
+     * @param categories the number of categories on the board
+     * @param seed the seed of the board, such as one derived from a session's case ID
+     * @return a catalog of {@code categories * tiers} questions, category by category in tier order
+     * @throws IllegalArgumentException if {@code categories} is negative or more than are eligible
+     */
+    public QuestionCatalog build(int categories, long seed){
+        return build(categories, new SplittableRandom(seed));
+    }
+
+    /**
+     * Builds a board with the given random number generator.
+     * @param categories the number of categories on the board
+     * @param random the generator every draw comes from
+     * @return a catalog of {@code categories * tiers} questions, category by category in tier order
+     * @throws IllegalArgumentException if {@code categories} is negative or more than are eligible
+     */
+    public QuestionCatalog build(int categories, SplittableRandom random){
+        if(categories < 0 || categories > eligible.length){
+            throw new IllegalArgumentException("Cannot draw " + categories + " categories from "
+                    + eligible.length + " eligible ones");
+        }
+
+        List<Question> board = new ArrayList<>(categories * tiers.length);
+        for(int c : sampleCategories(categories, random)){
+            for(int t = 0; t < tiers.length; t++){
+                int[] stratum = strata[c][t];
+                board.add(catalog.get(stratum[random.nextInt(stratum.length)]));
+            }
+        }
+        return new QuestionCatalog(board);
+    }
+
+    /**
+     * Draws {@code k} distinct eligible categories with Floyd's algorithm, then shuffles them so that the board
+     * order is uniform as well.
+     */
+    private int[] sampleCategories(int k, SplittableRandom random){
+        int n = eligible.length;
+        Set<Integer> seen = new HashSet<>();
+        int[] chosen = new int[k];
+        int count = 0;
+
+        for(int j = n - k; j < n; j++){
+            int t = random.nextInt(j + 1);
+            int pick = seen.add(t) ? t : j;
+            seen.add(pick);
+            chosen[count++] = eligible[pick];
+        }
+
+        for(int i = k - 1; i > 0; i--){
+            int j = random.nextInt(i + 1);
+            int swap = chosen[i];
+            chosen[i] = chosen[j];
+            chosen[j] = swap;
+        }
+        return chosen;
+    }
+
+    /**
+     * Growable list of the positions in one category and tier, used while the builder indexes the catalog.
+     */
+    private static final class Stratum{
+        private int[] positions = new int[2];
+        private int count;
+
+        void add(int position){
+            if(count == positions.length){
+                positions = Arrays.copyOf(positions, count * 2);
+            }
+            positions[count++] = position;
+        }
+
+        int[] toArray(){
+            return Arrays.copyOf(positions, count);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Secondary indexes over the positions of a {@link QuestionCatalog}, for selecting questions by category and value
+ * range without walking the question list.
+ * Every category and every distinct value has a set of catalog positions. A set with few members is stored as a
+ * sorted {@code int[]} and one with many as a {@link BitSet}, whichever is smaller, so a bank with thousands of small
+ * categories costs a few bytes per question rather than a full bitmap per category. Queries OR the sets they need
+ * into a {@link BitSet} and intersect those in bulk, a word at a time; the result can then be narrowed further by
+ * the caller, for example with {@link BitSet#andNot} against a board's picked questions.
+ *
+ * <p>
+ * Categories are matched ignoring case, as in {@link QuestionCatalog#findQuestion(String, int)}. The index is built
+ * with its catalog, is immutable and is safe to use from multiple threads. Every returned {@link BitSet} is a new
+ * object the caller may modify.
+ * @author Nicholas Grimes
+ */
+public final class CatalogIndex{
+    private final int size;
+    private final Map<String, Positions> byCategory;
+    private final Map<String, String> categoryNames;
+    private final Map<String, int[]> categoryValues;
+    private final NavigableMap<Integer, Positions> byValue;
+
+    /**
+     * Builds the indexes of a catalog's questions.
+     * @param questions the questions in catalog order
+     */
+    CatalogIndex(List<Question> questions){
+        this.size = questions.size();
+
+        Map<String, Builder> categories = new LinkedHashMap<>();
+        Map<String, String> names = new LinkedHashMap<>();
+        Map<Integer, Builder> values = new HashMap<>();
+
+        for(int i = 0; i < size; i++){
+            Question q = questions.get(i);
+            String key = fold(q.getCategory());
+            categories.computeIfAbsent(key, k -> new Builder()).add(i);
+            names.putIfAbsent(key, q.getCategory());
+            values.computeIfAbsent(q.getValue(), k -> new Builder()).add(i);
+        }
+
+        Map<String, Positions> byCategory = new HashMap<>();
+        Map<String, int[]> categoryValues = new HashMap<>();
+        for(Map.Entry<String, Builder> e : categories.entrySet()){
+            int[] members = e.getValue().toArray();
+            byCategory.put(e.getKey(), Positions.of(members, size));
+            categoryValues.put(e.getKey(), distinctValues(questions, members));
+        }
+
+        NavigableMap<Integer, Positions> byValue = new TreeMap<>();
+        for(Map.Entry<Integer, Builder> e : values.entrySet()){
+            byValue.put(e.getKey(), Positions.of(e.getValue().toArray(), size));
+        }
+
+        this.byCategory = byCategory;
+        this.categoryNames = Collections.unmodifiableMap(names);
+        this.categoryValues = categoryValues;
+        this.byValue = Collections.unmodifiableNavigableMap(byValue);
+    }
+
+    /**
+     * Returns every category in the catalog, in the order each first appears.
+     * @return the category names, spelled as in their first question
+     */
+    public Collection<String> getCategories(){return categoryNames.values();}
+
+    /**
+     * Returns the distinct point values of a category.
+     * @param category the category, ignoring case
+     * @return the values in ascending order, or an empty array if the category is not in the catalog
+     */
+    public int[] getValues(String category){
+        int[] values = categoryValues.get(fold(category));
+        return values == null ? new int[0] : values.clone();
+    }
+
+    /**
+     * Returns the categories that have at least the given number of distinct point values.
+     * @param minDistinctValues the smallest number of distinct values a category must have
+     * @return the matching categories, in the order each first appears
+     */
+    public List<String> categoriesWithDistinctValues(int minDistinctValues){
+        List<String> matches = new ArrayList<>();
+        for(Map.Entry<String, String> e : categoryNames.entrySet()){
+            if(categoryValues.get(e.getKey()).length >= minDistinctValues){
+                matches.add(e.getValue());
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the positions of the questions in any of the given categories.
+     * @param categories the categories to include, ignoring case
+     * @return the matching catalog positions
+     */
+    public BitSet inCategories(Collection<String> categories){
+        BitSet result = new BitSet(size);
+        for(String category : categories){
+            Positions positions = byCategory.get(fold(category));
+            if(positions != null){
+                positions.orInto(result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the positions of the questions whose value lies in a range.
+     * @param minValue the lowest value to include
+     * @param maxValue the highest value to include
+     * @return the matching catalog positions
+     */
+    public BitSet inValueRange(int minValue, int maxValue){
+        BitSet result = new BitSet(size);
+        if(minValue <= maxValue){
+            for(Positions positions : byValue.subMap(minValue, true, maxValue, true).values()){
+                positions.orInto(result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the positions of the questions in any of the given categories whose value lies in a range.
+     * @param categories the categories to include, ignoring case, or {@code null} for every category
+     * @param minValue the lowest value to include
+     * @param maxValue the highest value to include
+     * @return the matching catalog positions
+     */
+    public BitSet select(Collection<String> categories, int minValue, int maxValue){
+        BitSet result = inValueRange(minValue, maxValue);
+        if(categories != null){
+            result.and(inCategories(categories));
+        }
+        return result;
+    }
+
+    private static int[] distinctValues(List<Question> questions, int[] members){
+        int[] values = new int[members.length];
+        for(int i = 0; i < members.length; i++){
+            values[i] = questions.get(members[i]).getValue();
+        }
+        return Arrays.stream(values).sorted().distinct().toArray();
+    }
+
+    private static String fold(String category){
+        return category == null ? "" : category.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Set of catalog positions, stored as whichever of a sorted array or a bitmap is smaller.
+     */
+    private interface Positions{
+        void orInto(BitSet target);
+
+        static Positions of(int[] members, int size){
+            // an int costs 32 bits, so an array is smaller while it holds under one member in 32
+            if((long) members.length * Integer.SIZE < size){
+                return target -> {
+                    for(int position : members){
+                        target.set(position);
+                    }
+                };
+            }
+
+            BitSet bits = new BitSet(size);
+            for(int position : members){
+                bits.set(position);
+            }
+            return target -> target.or(bits);
+        }
+    }
+
+    /**
+     * Growable list of positions used while the index is built.
+     */
+    private static final class Builder{
+        private int[] members = new int[4];
+        private int count;
+
+        void add(int position){
+            if(count == members.length){
+                members = Arrays.copyOf(members, count * 2);
+            }
+            members[count++] = position;
+        }
+
+        int[] toArray(){
+            return Arrays.copyOf(members, count);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.model;
+
+/**
+ * {@link Question} that keeps only its category and value in memory.
+ * The question text, options and correct answer are fetched from a {@link BodySource} every time one of them is
+ * asked for, so a board built from lazy questions costs a few dozen bytes per question however long the question
+ * texts are. Sources are expected to cache recently used bodies, since a turn reads the same body several times.
+ * @author Nicholas Grimes
+ */
+public final class LazyQuestion extends Question{
+    private final BodySource source;
+    private final int index;
+
+    /**
+     * Creates a new {@link LazyQuestion} instance.
+     * @param category the category of the question
+     * @param value the monetary value of the question
+     * @param source where the rest of the question is loaded from
+     * @param index the position of the question in {@code source}
+     */
+    public LazyQuestion(String category, int value, BodySource source, int index){
+        super(category, value);
+        this.source = source;
+        this.index = index;
+    }
+
+    /**
+     * Returns the position of this question in its source.
+     * @return the source index
+     */
+    public int getIndex(){return this.index;}
+
+    /**
+     * Returns where the rest of this question is loaded from.
+     * @return the body source
+     */
+    public BodySource getSource(){return this.source;}
+
+    @Override
+    public String getQuestionText(){return body().getQuestionText();}
+
+    @Override
+    public String[] getOptions(){return body().getOptions();}
+
+    @Override
+    public String getCorrectAnswer(){return body().getCorrectAnswer();}
+
+    @Override
+    public int getCorrectAnswerIndex(){return body().getCorrectAnswerIndex();}
+
+    private Question body(){
+        return source.loadBody(index);
+    }
+
+    /**
+     * Supplies the full question behind a {@link LazyQuestion}.
+     */
+    @FunctionalInterface
+    public interface BodySource{
+        /**
+         * Loads the question stored at the given position.
+         * @param index the position of the question
+         * @return a question holding at least the question text, options and correct answer
+         */
+        Question loadBody(int index);
+    }
+}
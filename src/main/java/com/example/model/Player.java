@@ -1,14 +1,17 @@
 package com.example.model;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Represents a Player with ID, Name and Score.
- * Updates players' scores.
+ * Updates players' scores. Score updates are atomic, so players of a buzz-in game may be scored from several
+ * threads without losing an update.
  * @author Nicholas Grimes
  */
 public class Player{
     private int playerID;
     private String name;
-    private int score = 0;
+    private final AtomicInteger score = new AtomicInteger();
 
     /**
      * Constructor to initialise {@code int playerID} and {@code String name}
@@ -33,16 +36,17 @@ public class Player{
     public String getName(){return this.name;}
 
     /**
-     * Accessor Method for {@code private int score;}
+     * Accessor Method for {@code private final AtomicInteger score;}
      * @return the player's score
      */
-    public int getScore(){return this.score;}
+    public int getScore(){return this.score.get();}
 
     /**
      * Adds the question value to the player's score
      * @param value the amount to add to the player's current score
+     * @return the player's score right after this update
      */
-    public void updateScore(int value){
-        score += value;
+    public int updateScore(int value){
+        return score.addAndGet(value);
     }
 }
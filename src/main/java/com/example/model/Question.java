@@ -2,16 +2,25 @@ package com.example.model;
 
 /**
  * Represents a question with a category, value, question text, multiple choice answer options and correct answer.
- * Tracks whether the question has been selected or not.
+ * Questions are immutable so that one loaded bank can be shared by many games; whether a question has been
+ * selected in a particular game is tracked by that game's {@link QuestionBoard}.
+ *
+ * <p>
+ * The correct answer is almost always an option label ({@code A} to {@code D}) or a copy of one of the options,
+ * so it is stored as a small code pointing at the label or option rather than as a string of its own. Only an
+ * answer that matches neither is kept as text.
  * @author Nicholas Grimes
  */
 public class Question{
-    private String category;
-    private int value;
-    private String questionText;
-    private String[] options;
-    private String correctAnswer;
-    private boolean hasBeenPicked;
+    private final String category;
+    private final int value;
+    private final String questionText;
+    private final String[] options;
+    private final byte answer;
+    private final String answerText;
+
+    private static final String[] LABELS = { "A", "B", "C", "D" };
+    private static final byte ANSWER_TEXT = -1;
 
     /**
      * Creates a new {@link Question} instance.
@@ -23,18 +32,60 @@ public class Question{
      * @param correctAnswer the correct answer from the options array
      */
     public Question(String category, String value, String questionText, String[] options, String correctAnswer){
+        this(category, parseValue(value), questionText, options, correctAnswer);
+    }
+
+    /**
+     * Creates a new {@link Question} instance from an already parsed {@code value}.
+     * @param category the category of the question
+     * @param value the monetary value of the question
+     * @param questionText the question prompt
+     * @param options an array of multiple-choice answers
+     * @param correctAnswer the correct answer from the options array
+     */
+    public Question(String category, int value, String questionText, String[] options, String correctAnswer){
         this.category = category;
+        this.value = value;
+        this.questionText = questionText;
+        this.options = options;
+        this.answer = encodeAnswer(correctAnswer, options);
+        this.answerText = this.answer == ANSWER_TEXT ? correctAnswer : null;
+    }
 
+    /**
+     * Creates a question that only holds its category and value, for subclasses that supply the rest on demand
+     * by overriding the accessors for the question text, options and correct answer.
+     * @param category the category of the question
+     * @param value the monetary value of the question
+     */
+    protected Question(String category, int value){
+        this(category, value, null, null, null);
+    }
+
+    /**
+     * Returns {@code i} if the answer is the label of option {@code i}, {@code LABELS.length + i} if it is a copy of
+     * option {@code i}, or {@link #ANSWER_TEXT} if it is neither.
+     */
+    private static byte encodeAnswer(String correctAnswer, String[] options){
+        if(correctAnswer == null) return ANSWER_TEXT;
+
+        for(int i = 0; i < LABELS.length; i++){
+            if(LABELS[i].equals(correctAnswer)) return (byte) i;
+        }
+        if(options != null){
+            for(int i = 0; i < options.length && i < Byte.MAX_VALUE - LABELS.length; i++){
+                if(correctAnswer.equals(options[i])) return (byte) (LABELS.length + i);
+            }
+        }
+        return ANSWER_TEXT;
+    }
+
+    private static int parseValue(String value){
         try {
-            this.value = Integer.parseInt(value);
+            return Integer.parseInt(value);
         } catch (NumberFormatException e) {
-            this.value = 0;
+            return 0;
         }
-
-        this.questionText = questionText;
-        this.options = options;
-        this.correctAnswer = correctAnswer;
-        this.hasBeenPicked = false;
     }
 
     /**
@@ -66,21 +117,24 @@ public class Question{
     public String[] getOptions(){return this.options;}
 
     /**
-     * Accessor Method for {@code private String correctAnswer;}
-     * RReturns the correct answer for this question.
+     * Returns the correct answer for this question, exactly as it was given when the question was created.
      * @return the correct answer string
      */
-    public String getCorrectAnswer(){return this.correctAnswer;}
+    public String getCorrectAnswer(){
+        if(answer == ANSWER_TEXT) return answerText;
+        if(answer < LABELS.length) return LABELS[answer];
+        return options[answer - LABELS.length];
+    }
 
     /**
-     * Accessor Method for {@code private private boolean hasBeenPicked;}
-     * Indicates whether this question has already been selected during the game.
-     * @return {@code true} if the question has been picked, otherwise {@code false}
+     * Returns the position in {@link #getOptions()} of the correct answer, whether the answer was given as the
+     * option's label or as a copy of the option itself.
+     * @return the index of the correct option, or {@code -1} if the answer matches no option
      */
-    public boolean hasBeenPicked(){return this.hasBeenPicked;}
+    public int getCorrectAnswerIndex(){
+        if(answer == ANSWER_TEXT) return -1;
 
-    /**
-     * Marks this question as having been selected by a player.
-     */
-    public void markPicked(){this.hasBeenPicked = true;}
+        int i = answer < LABELS.length ? answer : answer - LABELS.length;
+        return options != null && i < options.length ? i : -1;
+    }
 }
@@ -0,0 +1,130 @@
+package com.example.model;
+
+import java.util.List;
+import java.util.BitSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * One game's view of a {@link QuestionCatalog}.
+ * The board records which of the catalog's questions have been picked in a {@link BitSet} indexed by catalog
+ * position, so the catalog itself stays immutable and can be shared by every game, while each game only pays one
+ * bit per question for its own progress. The remaining count is kept alongside the mask so the game-over check
+ * never has to scan it. A board belongs to a single game and is not thread-safe.
+ * @author Nicholas Grimes
+ */
+public class QuestionBoard{
+    private final QuestionCatalog catalog;
+    private final BitSet picked;
+    private int remaining;
+
+    /**
+     * Builds a board over a new catalog of the given questions.
+     * @param questions the questions that make up the board
+     */
+    public QuestionBoard(List<Question> questions){
+        this(new QuestionCatalog(questions));
+    }
+
+    /**
+     * Builds a board over a shared catalog with no questions picked yet.
+     * @param catalog the catalog of questions that make up the board
+     */
+    public QuestionBoard(QuestionCatalog catalog){
+        this.catalog = catalog;
+        this.picked = new BitSet(catalog.size());
+        this.remaining = catalog.size();
+    }
+
+    /**
+     * Accessor Method for {@code private final QuestionCatalog catalog;}
+     * Returns the shared catalog this board is played from.
+     * @return the {@link QuestionCatalog} of the board
+     */
+    public QuestionCatalog getCatalog(){return catalog;}
+
+    /**
+     * Searches for a question by category (ignoring case) and point value, whether or not it has been picked.
+     * @param category the question category to search for
+     * @param value the point value to search for
+     * @return the matching {@link Question}, or {@code null} if it is not found
+     */
+    public Question findQuestion(String category, int value){
+        return catalog.findQuestion(category, value);
+    }
+
+    /**
+     * Indicates whether the given question has already been picked on this board.
+     * @param q a question from this board's catalog
+     * @return {@code true} if the question has been picked, otherwise {@code false}
+     * @throws IllegalArgumentException if the question is not part of this board's catalog
+     */
+    public boolean isPicked(Question q){
+        return picked.get(position(q));
+    }
+
+    /**
+     * Marks the given question as picked on this board. Marking a question twice has no further effect.
+     * @param q a question from this board's catalog
+     * @throws IllegalArgumentException if the question is not part of this board's catalog
+     */
+    public void markPicked(Question q){
+        int position = position(q);
+        if(picked.get(position)) return;
+
+        picked.set(position);
+        remaining--;
+    }
+
+    /**
+     * Returns the catalog positions of the questions picked on this board.
+     * @return a copy of the picked-question bit mask, which the caller may modify
+     */
+    public BitSet getPicked(){return (BitSet) picked.clone();}
+
+    /**
+     * Returns the number of questions on the board that have not been picked yet.
+     * @return the remaining question count
+     */
+    public int getRemainingCount(){return remaining;}
+
+    /**
+     * Returns the questions that have not been picked yet, in the order they were loaded.
+     * @return an unmodifiable snapshot of the available questions
+     */
+    public Collection<Question> getAvailableQuestions(){
+        List<Question> available = new ArrayList<>(remaining);
+        for(int i = picked.nextClearBit(0); i < catalog.size(); i = picked.nextClearBit(i + 1)){
+            available.add(catalog.get(i));
+        }
+        return Collections.unmodifiableList(available);
+    }
+
+    /**
+     * Returns the questions that have not been picked yet in any of the given categories and within a value range.
+     * The catalog's {@link CatalogIndex} selects the candidates and the picked questions are removed in bulk.
+     * @param categories the categories to include, ignoring case, or {@code null} for every category
+     * @param minValue the lowest value to include
+     * @param maxValue the highest value to include
+     * @return an unmodifiable snapshot of the matching questions, in the order they were loaded
+     */
+    public List<Question> getAvailableQuestions(Collection<String> categories, int minValue, int maxValue){
+        BitSet matches = catalog.getIndex().select(categories, minValue, maxValue);
+        matches.andNot(picked);
+
+        List<Question> available = new ArrayList<>(matches.cardinality());
+        for(int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)){
+            available.add(catalog.get(i));
+        }
+        return Collections.unmodifiableList(available);
+    }
+
+    private int position(Question q){
+        int position = catalog.indexOf(q);
+        if(position < 0){
+            throw new IllegalArgumentException("Question is not on this board: " + q.getCategory() + " " + q.getValue());
+        }
+        return position;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Immutable, indexed set of questions that any number of games can share.
+ * The catalog gives every question a fixed position and keys them by case-folded category and then by point value.
+ * It holds no game state: which questions have been played is tracked per game by a {@link QuestionBoard}, so one
+ * catalog can back thousands of concurrent sessions without copying the bank. Instances are safe to use from
+ * multiple threads.
+ * @author Nicholas Grimes
+ */
+public final class QuestionCatalog{
+    private final List<Question> questions;
+    private final Map<String, Map<Integer, Integer>> index = new HashMap<>();
+    private final Map<Question, Integer> positions = new IdentityHashMap<>();
+    private final CatalogIndex secondary;
+    private final long fingerprint;
+
+    /**
+     * Builds a catalog of the given questions.
+     * If two questions share a category and value, the first one in the list is the one returned by
+     * {@link #findQuestion(String, int)}. The list is copied, so later changes to it do not affect the catalog.
+     * @param questions the questions that make up the catalog, in board order
+     */
+    public QuestionCatalog(List<Question> questions){
+        this(questions, true);
+    }
+
+    private QuestionCatalog(List<Question> questions, boolean copy){
+        this.questions = copy ? List.copyOf(questions) : questions;
+
+        long fingerprint = this.questions.size();
+        for(int i = 0; i < this.questions.size(); i++){
+            Question q = this.questions.get(i);
+            index.computeIfAbsent(fold(q.getCategory()), k -> new HashMap<>()).putIfAbsent(q.getValue(), i);
+            positions.putIfAbsent(q, i);
+            fingerprint = fingerprint * 1_000_003 + Objects.hashCode(q.getCategory()) * 31L + q.getValue();
+        }
+        this.fingerprint = fingerprint;
+
+        this.secondary = new CatalogIndex(this.questions);
+    }
+
+    /**
+     * Builds a catalog that keeps the given list instead of copying it.
+     * Only for lists that no one can modify, such as one a loader has just parsed or the lazy view of a compiled
+     * bank; a change to the list would change the catalog under every game playing from it.
+     * @param questions the unmodifiable random-access list of questions, in board order
+     * @return the catalog
+     */
+    public static QuestionCatalog wrapTrusted(List<Question> questions){
+        return new QuestionCatalog(questions, false);
+    }
+
+    /**
+     * Returns the number of questions in the catalog.
+     * @return the question count
+     */
+    public int size(){return questions.size();}
+
+    /**
+     * Returns the question at the given position.
+     * @param position the position of the question
+     * @return the question
+     * @throws IndexOutOfBoundsException if {@code position} is out of range
+     */
+    public Question get(int position){return questions.get(position);}
+
+    /**
+     * Returns every question in the catalog in board order.
+     * @return an unmodifiable list of the questions
+     */
+    public List<Question> getQuestions(){return questions;}
+
+    /**
+     * Returns the position of the given question in this catalog.
+     * Questions are compared by identity, so only instances taken from this catalog are found.
+     * @param q the question to look up
+     * @return the position of the question, or {@code -1} if it is not part of this catalog
+     */
+    public int indexOf(Question q){
+        Integer position = positions.get(q);
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * Searches for the position of a question by category (ignoring case) and point value.
+     * @param category the question category to search for
+     * @param value the point value to search for
+     * @return the position of the matching question, or {@code -1} if it is not found
+     */
+    public int findPosition(String category, int value){
+        if(category == null) return -1;
+
+        Map<Integer, Integer> byValue = index.get(fold(category));
+        Integer position = byValue == null ? null : byValue.get(value);
+        return position == null ? -1 : position;
+    }
+
+    /**
+     * Searches for a question by category (ignoring case) and point value.
+     * @param category the question category to search for
+     * @param value the point value to search for
+     * @return the matching {@link Question}, or {@code null} if it is not found
+     */
+    public Question findQuestion(String category, int value){
+        int position = findPosition(category, value);
+        return position < 0 ? null : questions.get(position);
+    }
+
+    /**
+     * Returns the category and value-range indexes of this catalog, built together with it.
+     * @return the {@link CatalogIndex} of the catalog
+     */
+    public CatalogIndex getIndex(){return secondary;}
+
+    /**
+     * Returns a hash of the catalog's shape: its size and the category and value of every question, in order.
+     * Catalogs with the same fingerprint almost certainly have the same questions at the same positions, which is
+     * what anything that refers to questions by position, such as a saved game, relies on. Question bodies are not
+     * part of the hash, so computing it never loads them.
+     * @return the fingerprint of this catalog
+     */
+    public long getFingerprint(){return fingerprint;}
+
+    private static String fold(String category){
+        return category == null ? "" : category.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,292 @@
+package com.example.parser;
+
+import com.example.model.QuestionCatalog;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, thread-safe cache of loaded question banks.
+ * Banks are keyed by their source (a file path or resource URL) together with a version made of the source's
+ * last-modified time and size, so an edited file is reloaded the next time it is requested and the stale catalog is
+ * replaced. Cached {@link QuestionCatalog}s are immutable and can be handed to any number of games at once.
+ *
+ * <p>
+ * Loading is single-flight: when several threads miss on the same source at once, the first one loads it and the
+ * others wait for its result instead of parsing the bank again. Failed loads are not cached. The cache is bounded by
+ * the total number of questions it holds; once that is exceeded, the least recently used banks are evicted. A single
+ * bank larger than the bound is still returned but not kept.
+ * @author Nicholas Grimes
+ */
+public class BankCache{
+    /** Default bound on the total number of questions held by a cache. */
+    public static final long DEFAULT_MAX_QUESTIONS = 2_000_000;
+
+    /**
+     * Loads a bank on a cache miss.
+     */
+    @FunctionalInterface
+    public interface Loader{
+        /**
+         * Loads the bank.
+         * @return the loaded catalog
+         * @throws IOException if the bank cannot be read or parsed
+         */
+        QuestionCatalog load() throws IOException;
+    }
+
+    private final long maxQuestions;
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedQuestions;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructor to initialise a cache bounded by {@link #DEFAULT_MAX_QUESTIONS}.
+     */
+    public BankCache(){
+        this(DEFAULT_MAX_QUESTIONS);
+    }
+
+    /**
+     * Constructor to initialise a cache with the given bound.
+     * @param maxQuestions the largest total number of questions the cache keeps
+     * @throws IllegalArgumentException if {@code maxQuestions} is negative
+     */
+    public BankCache(long maxQuestions){
+        if(maxQuestions < 0){
+            throw new IllegalArgumentException("maxQuestions must not be negative: " + maxQuestions);
+        }
+        this.maxQuestions = maxQuestions;
+    }
+
+    /**
+     * Returns the cached catalog for a source, loading it if it is missing or its version has changed.
+     * @param source the identity of the bank, such as its absolute path or URL
+     * @param version the version of the source, such as its last-modified time and size
+     * @param loader loads the bank on a miss
+     * @return the catalog of the bank
+     * @throws IOException if the bank has to be loaded and the load fails
+     */
+    public QuestionCatalog get(String source, String version, Loader loader) throws IOException{
+        Entry entry;
+        boolean owner = false;
+
+        synchronized(this){
+            entry = entries.get(source);
+            if(entry == null || !entry.version.equals(version)){
+                if(entry != null){
+                    remove(source, entry);
+                }
+                entry = new Entry(version);
+                entries.put(source, entry);
+                owner = true;
+            }
+        }
+
+        if(owner){
+            misses.increment();
+            load(source, entry, loader);
+        }
+        else{
+            hits.increment();
+        }
+
+        return await(entry);
+    }
+
+    private void load(String source, Entry entry, Loader loader){
+        long start = System.nanoTime();
+        try{
+            QuestionCatalog catalog = loader.load();
+            loadNanos.add(System.nanoTime() - start);
+
+            synchronized(this){
+                if(entries.get(source) == entry){
+                    if(catalog.size() > maxQuestions){
+                        // a bank that could never fit is handed to its callers but not kept
+                        entries.remove(source);
+                    }
+                    else{
+                        entry.size = catalog.size();
+                        cachedQuestions += entry.size;
+                        evict();
+                    }
+                }
+            }
+            entry.catalog.complete(catalog);
+        }
+        catch(IOException | RuntimeException e){
+            loadFailures.increment();
+            synchronized(this){
+                if(entries.get(source) == entry){
+                    entries.remove(source);
+                }
+            }
+            entry.catalog.completeExceptionally(e);
+        }
+    }
+
+    private static QuestionCatalog await(Entry entry) throws IOException{
+        try{
+            return entry.catalog.get();
+        }
+        catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for bank to load", e);
+        }
+        catch(CancellationException e){
+            throw new IOException("Bank load was cancelled", e);
+        }
+        catch(ExecutionException e){
+            Throwable cause = e.getCause();
+            if(cause instanceof IOException io) throw io;
+            if(cause instanceof UncheckedIOException io) throw io.getCause();
+            if(cause instanceof RuntimeException re) throw re;
+            throw new IOException(cause);
+        }
+    }
+
+    private void evict(){
+        Iterator<Entry> it = entries.values().iterator();
+        while(cachedQuestions > maxQuestions && it.hasNext()){
+            Entry eldest = it.next();
+            // banks that are still loading have no size yet and cannot be evicted
+            if(!eldest.catalog.isDone()) continue;
+
+            it.remove();
+            cachedQuestions -= eldest.size;
+            evictions.increment();
+        }
+    }
+
+    private void remove(String source, Entry entry){
+        entries.remove(source);
+        cachedQuestions -= entry.size;
+    }
+
+    /**
+     * Removes one bank from the cache, so that the next request for it loads it again whatever its version.
+     * A load that is in progress still completes for its callers.
+     * @param source the identity of the bank, as passed to {@link #get}
+     */
+    public synchronized void invalidate(String source){
+        Entry entry = entries.get(source);
+        if(entry != null){
+            remove(source, entry);
+        }
+    }
+
+    /**
+     * Removes every bank from the cache. Loads that are in progress still complete for their callers.
+     */
+    public synchronized void clear(){
+        entries.clear();
+        cachedQuestions = 0;
+    }
+
+    /**
+     * Returns the number of banks currently cached, including ones that are still loading.
+     * @return the cached bank count
+     */
+    public synchronized int size(){return entries.size();}
+
+    /**
+     * Returns the total number of questions in the cached banks.
+     * @return the cached question count
+     */
+    public synchronized long getCachedQuestionCount(){return cachedQuestions;}
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     * @return the current {@link Stats}
+     */
+    public Stats getStats(){
+        return new Stats(hits.sum(), misses.sum(), loadFailures.sum(), loadNanos.sum(), evictions.sum());
+    }
+
+    /**
+     * Snapshot of a {@link BankCache}'s counters.
+     */
+    public static final class Stats{
+        private final long hits;
+        private final long misses;
+        private final long loadFailures;
+        private final long totalLoadNanos;
+        private final long evictions;
+
+        Stats(long hits, long misses, long loadFailures, long totalLoadNanos, long evictions){
+            this.hits = hits;
+            this.misses = misses;
+            this.loadFailures = loadFailures;
+            this.totalLoadNanos = totalLoadNanos;
+            this.evictions = evictions;
+        }
+
+        /**
+         * Returns the number of requests served from the cache, including ones that waited for another thread's load.
+         * @return the hit count
+         */
+        public long getHits(){return hits;}
+
+        /**
+         * Returns the number of requests that loaded their bank.
+         * @return the miss count
+         */
+        public long getMisses(){return misses;}
+
+        /**
+         * Returns the number of loads that failed.
+         * @return the failed load count
+         */
+        public long getLoadFailures(){return loadFailures;}
+
+        /**
+         * Returns the total time spent in successful loads.
+         * @return the total load time in nanoseconds
+         */
+        public long getTotalLoadNanos(){return totalLoadNanos;}
+
+        /**
+         * Returns the number of banks evicted to stay within the bound.
+         * @return the eviction count
+         */
+        public long getEvictions(){return evictions;}
+
+        /**
+         * Returns the fraction of requests served from the cache.
+         * @return the hit rate between 0 and 1, or 0 if there have been no requests
+         */
+        public double getHitRate(){
+            long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+
+        @Override
+        public String toString(){
+            return "hits=" + hits + ", misses=" + misses + ", loadFailures=" + loadFailures
+                    + ", totalLoadMillis=" + totalLoadNanos / 1_000_000 + ", evictions=" + evictions;
+        }
+    }
+
+    private static final class Entry{
+        private final String version;
+        private final CompletableFuture<QuestionCatalog> catalog = new CompletableFuture<>();
+        private long size;
+
+        private Entry(String version){
+            this.version = version;
+        }
+    }
+}
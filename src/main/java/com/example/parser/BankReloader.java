@@ -0,0 +1,228 @@
+package com.example.parser;
+
+import com.example.model.QuestionCatalog;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Keeps an up-to-date {@link QuestionCatalog} for one bank file and reloads it when the file changes.
+ * A background thread watches the file's directory with a {@link WatchService}; when the file is modified or
+ * replaced it waits for the writes to settle, parses the bank again through {@link QuestionLoader} (and so through
+ * the {@link com.example.parser.strategy.FileParserStrategy} for its format) and publishes the new catalog with a
+ * single atomic swap. Whether the file has changed is decided by a checksum of its contents rather than by its
+ * modification time, so a save that keeps the size and lands within the file system's timestamp resolution is
+ * still picked up.
+ *
+ * <p>
+ * Catalogs are immutable snapshots. New sessions should ask {@link #current()} for the catalog to play from; a
+ * {@link com.example.gameplay.state.GameEngine} that is already running keeps the catalog it was created with, so
+ * a reload never changes the board under a game in progress. A reload that fails leaves the previous snapshot in
+ * place and is reported through {@link #getLastFailure()}, so a half-saved or broken file never takes the bank
+ * offline. Instances are safe to use from multiple threads.
+ * @author Nicholas Grimes
+ */
+public class BankReloader implements AutoCloseable{
+    /** Default time to wait after the last change event before the file is read, in milliseconds. */
+    public static final long DEFAULT_QUIET_MILLIS = 200;
+
+    private final Path file;
+    private final long quietMillis;
+    private final QuestionLoader loader = new QuestionLoader();
+    private final AtomicReference<QuestionCatalog> snapshot = new AtomicReference<>();
+    private final List<Consumer<QuestionCatalog>> listeners = new CopyOnWriteArrayList<>();
+    private final WatchService watcher;
+    private final Thread thread;
+
+    private long checksum;
+    private volatile long generation;
+    private volatile Exception lastFailure;
+
+    /**
+     * Constructor to load a bank and start watching it, waiting {@link #DEFAULT_QUIET_MILLIS} before each reload.
+     * @param file the bank file to load and watch
+     * @throws IOException if the bank cannot be loaded or its directory cannot be watched
+     */
+    public BankReloader(Path file) throws IOException{
+        this(file, DEFAULT_QUIET_MILLIS);
+    }
+
+    /**
+     * Constructor to load a bank and start watching it.
+     * @param file the bank file to load and watch
+     * @param quietMillis the time to wait after the last change event before the file is read, in milliseconds
+     * @throws IOException if the bank cannot be loaded or its directory cannot be watched
+     */
+    public BankReloader(Path file, long quietMillis) throws IOException{
+        this.file = file.toAbsolutePath().normalize();
+        this.quietMillis = quietMillis;
+        this.checksum = checksum(this.file);
+        this.snapshot.set(loader.loadCatalog(this.file));
+
+        this.watcher = this.file.getFileSystem().newWatchService();
+        try{
+            this.file.getParent().register(watcher, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+        }
+        catch(IOException e){
+            watcher.close();
+            throw e;
+        }
+
+        this.thread = new Thread(this::watch, "bank-reloader-" + this.file.getFileName());
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Returns the most recently published catalog of the bank.
+     * @return the current snapshot
+     */
+    public QuestionCatalog current(){return snapshot.get();}
+
+    /**
+     * Returns the bank file being watched.
+     * @return the absolute path of the bank
+     */
+    public Path getFile(){return file;}
+
+    /**
+     * Returns how many times a new snapshot has been published since the bank was first loaded.
+     * @return the number of reloads that changed the catalog
+     */
+    public long getGeneration(){return generation;}
+
+    /**
+     * Returns why the most recent reload failed.
+     * @return the failure, or {@code null} if the most recent reload succeeded
+     */
+    public Exception getLastFailure(){return lastFailure;}
+
+    /**
+     * Registers a listener that is called on the watcher thread with every newly published snapshot.
+     * @param listener the listener to call
+     */
+    public void addListener(Consumer<QuestionCatalog> listener){
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addListener}.
+     * @param listener the listener to remove
+     */
+    public void removeListener(Consumer<QuestionCatalog> listener){
+        listeners.remove(listener);
+    }
+
+    /**
+     * Reloads the bank now and publishes it if it has changed.
+     * A file whose contents are unchanged is not parsed again and does not publish a new snapshot; a changed file
+     * replaces its entry in {@link QuestionLoader}'s cache.
+     * @return the current snapshot after the reload
+     * @throws IOException if the bank cannot be read or parsed; the previous snapshot is kept
+     */
+    public synchronized QuestionCatalog reload() throws IOException{
+        QuestionCatalog next;
+        try{
+            long sum = checksum(file);
+            if(sum == checksum){
+                lastFailure = null;
+                return snapshot.get();
+            }
+            next = loader.reloadCatalog(file);
+            checksum = sum;
+        }
+        catch(IOException | RuntimeException e){
+            lastFailure = e;
+            throw e;
+        }
+        lastFailure = null;
+
+        QuestionCatalog previous = snapshot.getAndSet(next);
+        if(previous != next){
+            generation++;
+            for(Consumer<QuestionCatalog> listener : listeners){
+                listener.accept(next);
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Stops watching the bank. The last snapshot stays available through {@link #current()}.
+     * @throws IOException if the watch service cannot be closed
+     */
+    @Override
+    public void close() throws IOException{
+        watcher.close();
+    }
+
+    private static long checksum(Path file) throws IOException{
+        CRC32C crc = new CRC32C();
+        byte[] buffer = new byte[1 << 16];
+        try(InputStream in = Files.newInputStream(file)){
+            int n;
+            while((n = in.read(buffer)) > 0){
+                crc.update(buffer, 0, n);
+            }
+        }
+        return crc.getValue();
+    }
+
+    private void watch(){
+        try{
+            while(true){
+                boolean changed = drain(watcher.take());
+
+                // editors often write a file in several steps, so wait until the events stop
+                WatchKey more;
+                while((more = watcher.poll(quietMillis, TimeUnit.MILLISECONDS)) != null){
+                    changed |= drain(more);
+                }
+
+                if(changed){
+                    reloadQuietly();
+                }
+            }
+        }
+        catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+        }
+        catch(ClosedWatchServiceException e){
+            // closed by close()
+        }
+    }
+
+    private boolean drain(WatchKey key){
+        boolean changed = false;
+        for(WatchEvent<?> event : key.pollEvents()){
+            if(event.kind() == StandardWatchEventKinds.OVERFLOW || file.getFileName().equals(event.context())){
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    private void reloadQuietly(){
+        try{
+            reload();
+        }
+        catch(IOException | RuntimeException e){
+            System.err.println("Keeping previous snapshot of " + file + ": " + e);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.example.parser;
+
+import com.example.parser.factory.ParserFactory;
+import com.example.model.Question;
+import com.example.model.QuestionCatalog;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+
+/**
+ * Loads every question bank in a directory and merges them into one {@link QuestionCatalog}.
+ * Files are matched by a glob relative to the directory (all supported files by default), each one is parsed by
+ * the {@link com.example.parser.strategy.FileParserStrategy} that {@link ParserFactory} picks for its extension,
+ * and the files are loaded concurrently on a fixed-size pool. Banks go through {@link QuestionLoader}'s shared
+ * {@link BankCache}, so unchanged files are not parsed again on the next load.
+ *
+ * <p>
+ * A file that cannot be read or parsed does not stop the others: its failure is recorded in the {@link Report}
+ * and the merged catalog is built from the files that loaded. Questions are merged in path order and only the first
+ * question for each category and value (ignoring case) is kept: a board can never offer a second question with the
+ * same category and value, so a game on a catalog with duplicates would never run out of questions. Skipped
+ * duplicates are counted in each file's {@link FileReport}.
+ * @author Nicholas Grimes
+ */
+public class DirectoryBankLoader{
+    private final int threads;
+    private final QuestionLoader loader = new QuestionLoader();
+
+    /**
+     * Constructor to initialise a loader that uses one thread per available processor.
+     */
+    public DirectoryBankLoader(){
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor to initialise a loader with a bounded number of threads.
+     * @param threads the largest number of files parsed at the same time
+     * @throws IllegalArgumentException if {@code threads} is not positive
+     */
+    public DirectoryBankLoader(int threads){
+        if(threads <= 0){
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Loads every supported bank file in a directory and its subdirectories.
+     * @param directory the directory to search
+     * @return the merged catalog and a report for every file
+     * @throws IOException if the directory cannot be listed
+     */
+    public Report load(Path directory) throws IOException{
+        return load(directory, "**");
+    }
+
+    /**
+     * Loads the supported bank files in a directory whose path relative to the directory matches a glob,
+     * such as {@code *.csv} or {@code science/**}.
+     * @param directory the directory to search
+     * @param glob the pattern file paths must match, in {@link java.nio.file.FileSystem#getPathMatcher} glob syntax
+     * @return the merged catalog and a report for every file
+     * @throws IOException if the directory cannot be listed
+     */
+    public Report load(Path directory, String glob) throws IOException{
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+        List<Path> files;
+
+        try(Stream<Path> paths = Files.walk(directory)){
+            files = paths.filter(Files::isRegularFile)
+                         .filter(p -> matcher.matches(directory.relativize(p)))
+                         .filter(p -> ParserFactory.isSupported(p.getFileName().toString()))
+                         .sorted()
+                         .toList();
+        }
+
+        return load(files);
+    }
+
+    /**
+     * Loads the given bank files concurrently.
+     * @param files the files to load
+     * @return the merged catalog and a report for every file, in the order the files were given
+     */
+    public Report load(List<Path> files){
+        long start = System.nanoTime();
+        List<FileReport> reports = new ArrayList<>(files.size());
+
+        try(ExecutorService pool = Executors.newFixedThreadPool(threads)){
+            List<Future<FileReport>> futures = new ArrayList<>(files.size());
+            for(Path file : files){
+                futures.add(pool.submit(() -> loadFile(file)));
+            }
+
+            for(int i = 0; i < files.size(); i++){
+                reports.add(await(files.get(i), futures.get(i)));
+            }
+        }
+
+        return new Report(merge(reports), reports, System.nanoTime() - start);
+    }
+
+    /**
+     * Merges the loaded files in order, skipping every question whose category and value an earlier one has.
+     */
+    private static QuestionCatalog merge(List<FileReport> reports){
+        List<Question> merged = new ArrayList<>();
+        Map<String, Set<Integer>> seen = new HashMap<>();
+
+        for(FileReport report : reports){
+            if(report.catalog == null) continue;
+
+            for(Question q : report.catalog.getQuestions()){
+                String category = q.getCategory() == null ? "" : q.getCategory().toLowerCase(Locale.ROOT);
+                if(seen.computeIfAbsent(category, k -> new HashSet<>()).add(q.getValue())){
+                    merged.add(q);
+                }
+                else{
+                    report.duplicates++;
+                }
+            }
+        }
+
+        return new QuestionCatalog(merged);
+    }
+
+    private FileReport loadFile(Path file){
+        long start = System.nanoTime();
+        try{
+            QuestionCatalog catalog = loader.loadCatalog(file);
+            return new FileReport(file, catalog, null, System.nanoTime() - start);
+        }
+        catch(IOException | RuntimeException e){
+            return new FileReport(file, null, e, System.nanoTime() - start);
+        }
+    }
+
+    private static FileReport await(Path file, Future<FileReport> future){
+        try{
+            return future.get();
+        }
+        catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+            return new FileReport(file, null, e, 0);
+        }
+        catch(ExecutionException e){
+            return new FileReport(file, null, e.getCause(), 0);
+        }
+    }
+
+    /**
+     * Outcome of loading one bank file.
+     */
+    public static final class FileReport{
+        private final Path file;
+        private final QuestionCatalog catalog;
+        private final Throwable failure;
+        private final long loadNanos;
+        private int duplicates;
+
+        FileReport(Path file, QuestionCatalog catalog, Throwable failure, long loadNanos){
+            this.file = file;
+            this.catalog = catalog;
+            this.failure = failure;
+            this.loadNanos = loadNanos;
+        }
+
+        /**
+         * Returns the file this report is about.
+         * @return the bank file
+         */
+        public Path getFile(){return file;}
+
+        /**
+         * Indicates whether the file loaded.
+         * @return {@code true} if the file loaded, otherwise {@code false}
+         */
+        public boolean isLoaded(){return failure == null;}
+
+        /**
+         * Returns the number of questions the file contains.
+         * @return the question count, or 0 if the file failed to load
+         */
+        public int getQuestionCount(){return catalog == null ? 0 : catalog.size();}
+
+        /**
+         * Returns the number of the file's questions left out of the merged catalog because an earlier question has
+         * the same category and value.
+         * @return the skipped duplicate count
+         */
+        public int getDuplicateCount(){return duplicates;}
+
+        /**
+         * Returns why the file failed to load.
+         * @return the failure, or {@code null} if the file loaded
+         */
+        public Throwable getFailure(){return failure;}
+
+        /**
+         * Returns how long loading the file took. Files served from the cache take almost no time.
+         * @return the load time in nanoseconds
+         */
+        public long getLoadNanos(){return loadNanos;}
+
+        @Override
+        public String toString(){
+            long millis = loadNanos / 1_000_000;
+            return failure == null
+                    ? file + ": " + getQuestionCount() + " questions in " + millis + " ms"
+                            + (duplicates == 0 ? "" : ", " + duplicates + " duplicates skipped")
+                    : file + ": failed after " + millis + " ms: " + failure;
+        }
+    }
+
+    /**
+     * Outcome of loading a set of bank files.
+     */
+    public static final class Report{
+        private final QuestionCatalog catalog;
+        private final List<FileReport> files;
+        private final long totalNanos;
+
+        Report(QuestionCatalog catalog, List<FileReport> files, long totalNanos){
+            this.catalog = catalog;
+            this.files = Collections.unmodifiableList(files);
+            this.totalNanos = totalNanos;
+        }
+
+        /**
+         * Returns the questions of every file that loaded, merged into one catalog.
+         * @return the merged {@link QuestionCatalog}
+         */
+        public QuestionCatalog getCatalog(){return catalog;}
+
+        /**
+         * Returns the report for every file, in path order.
+         * @return an unmodifiable list of {@link FileReport}s
+         */
+        public List<FileReport> getFiles(){return files;}
+
+        /**
+         * Returns the reports of the files that failed to load.
+         * @return the failed {@link FileReport}s
+         */
+        public List<FileReport> getFailures(){
+            return files.stream().filter(f -> !f.isLoaded()).toList();
+        }
+
+        /**
+         * Returns the wall-clock time of the whole load.
+         * @return the total load time in nanoseconds
+         */
+        public long getTotalNanos(){return totalNanos;}
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.parser;
+
+import com.example.model.LazyQuestion;
+import com.example.model.Question;
+import com.example.model.QuestionCatalog;
+import com.example.parser.binary.BinaryBankFormat;
+import com.example.parser.binary.BinaryQuestionBank;
+import com.example.parser.strategy.ByteCSVFileParser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Question bank that keeps only the category and value of each question in memory.
+ * Opening a bank memory-maps the file and indexes it once: for a CSV bank only the category and value cells of
+ * each row are decoded and the row's offset is remembered, and a compiled {@code .jqb} bank already stores both in
+ * its fixed-size records. The board is built from {@link LazyQuestion}s, and the question text, options and correct
+ * answer are read back from the mapping the first time a state asks for them.
+ *
+ * <p>
+ * Recently read bodies are kept in a small least-recently-used cache, so the repeated reads of one turn (asking,
+ * checking and logging a question) parse the row only once. Everything else stays in the file, and its pages are
+ * loaded and dropped by the OS as needed, so even very large banks have a resident footprint of a few dozen bytes
+ * per question. Instances are safe to use from multiple threads.
+ * @author Nicholas Grimes
+ */
+public class LazyQuestionBank implements LazyQuestion.BodySource{
+    /** Default number of question bodies kept in memory. */
+    public static final int DEFAULT_CACHE_SIZE = 64;
+
+    private final Path file;
+    private final LazyQuestion.BodySource reader;
+    private final QuestionCatalog catalog;
+    private final int cacheSize;
+    private final Map<Integer, Question> bodies;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+
+    private LazyQuestionBank(Path file, LazyQuestion.BodySource reader, Keys keys, int size, int cacheSize){
+        this.file = file;
+        this.reader = reader;
+        this.cacheSize = cacheSize;
+        this.bodies = new LinkedHashMap<>(16, 0.75f, true){
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Question> eldest){
+                return size() > LazyQuestionBank.this.cacheSize;
+            }
+        };
+
+        List<Question> questions = new ArrayList<>(size);
+        for(int i = 0; i < size; i++){
+            questions.add(new LazyQuestion(keys.category(i), keys.value(i), this, i));
+        }
+        this.catalog = new QuestionCatalog(questions);
+    }
+
+    /**
+     * Opens a bank with a body cache of {@link #DEFAULT_CACHE_SIZE}.
+     * @param file the {@code .csv} or {@code .jqb} bank to open
+     * @return the opened bank
+     * @throws IOException if the file cannot be read, is larger than 2 GB, or contains a malformed row
+     * @throws IllegalArgumentException if the file is not a CSV or compiled bank, or a CSV bank has the wrong columns
+     */
+    public static LazyQuestionBank open(Path file) throws IOException{
+        return open(file, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Opens a bank with a body cache of the given size.
+     * @param file the {@code .csv} or {@code .jqb} bank to open
+     * @param cacheSize the number of question bodies kept in memory
+     * @return the opened bank
+     * @throws IOException if the file cannot be read, is larger than 2 GB, or contains a malformed row
+     * @throws IllegalArgumentException if the file is not a CSV or compiled bank, or a CSV bank has the wrong
+     *         columns, or {@code cacheSize} is negative
+     */
+    public static LazyQuestionBank open(Path file, int cacheSize) throws IOException{
+        if(cacheSize < 0){
+            throw new IllegalArgumentException("cacheSize must not be negative: " + cacheSize);
+        }
+
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if(name.endsWith(".csv")) return openCsv(file, cacheSize);
+        if(name.endsWith(BinaryBankFormat.EXTENSION)) return openCompiled(file, cacheSize);
+        throw new IllegalArgumentException("Lazy banks must be .csv or " + BinaryBankFormat.EXTENSION + " files: "
+                + file);
+    }
+
+    private static LazyQuestionBank openCsv(Path file, int cacheSize) throws IOException{
+        ByteBuffer buffer;
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)){
+            if(channel.size() > Integer.MAX_VALUE){
+                throw new IOException("File exceeds 2 GB: " + file);
+            }
+            // the mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        RowIndex rows = new RowIndex();
+        try{
+            ByteCSVFileParser.index(buffer, StringPool.shared(), rows);
+        }
+        catch(UncheckedIOException e){
+            throw e.getCause();
+        }
+
+        int[] offsets = Arrays.copyOf(rows.offsets, rows.size);
+        LazyQuestion.BodySource reader = i -> ByteCSVFileParser.readRow(buffer, offsets[i], StringPool.shared());
+        return new LazyQuestionBank(file, reader, rows, rows.size, cacheSize);
+    }
+
+    private static LazyQuestionBank openCompiled(Path file, int cacheSize) throws IOException{
+        BinaryQuestionBank bank = BinaryQuestionBank.open(file);
+        Keys keys = new Keys(){
+            @Override
+            public String category(int i){return bank.category(i);}
+
+            @Override
+            public int value(int i){return bank.value(i);}
+        };
+        return new LazyQuestionBank(file, bank::read, keys, bank.size(), cacheSize);
+    }
+
+    /**
+     * Returns the board of this bank.
+     * @return a catalog of {@link LazyQuestion}s that load their bodies from this bank
+     */
+    public QuestionCatalog getCatalog(){return catalog;}
+
+    /**
+     * Returns the file this bank was opened from.
+     * @return the bank file
+     */
+    public Path getFile(){return file;}
+
+    /**
+     * Returns the question body at the given position, reading it from the file if it is not cached.
+     * @param index the position of the question
+     * @return the full question
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     * @throws UncheckedIOException if the row can no longer be parsed
+     */
+    @Override
+    public Question loadBody(int index){
+        synchronized(bodies){
+            Question body = bodies.get(index);
+            if(body != null){
+                hits.increment();
+                return body;
+            }
+        }
+
+        // parsed outside the lock; two threads missing on the same row both parse it, which is harmless
+        Question body = reader.loadBody(index);
+        loads.increment();
+
+        synchronized(bodies){
+            bodies.put(index, body);
+        }
+        return body;
+    }
+
+    /**
+     * Returns the number of question bodies currently cached.
+     * @return the cached body count
+     */
+    public int getCachedBodyCount(){
+        synchronized(bodies){
+            return bodies.size();
+        }
+    }
+
+    /**
+     * Returns how many body requests were served from the cache.
+     * @return the hit count
+     */
+    public long getHits(){return hits.sum();}
+
+    /**
+     * Returns how many bodies were read from the file.
+     * @return the load count
+     */
+    public long getLoads(){return loads.sum();}
+
+    /**
+     * Category and value of every question, read while the bank is opened.
+     */
+    private interface Keys{
+        String category(int i);
+
+        int value(int i);
+    }
+
+    /**
+     * Collects the keys and offsets of a CSV bank's rows while it is indexed.
+     */
+    private static class RowIndex implements ByteCSVFileParser.RowVisitor, Keys{
+        private String[] categories = new String[1024];
+        private int[] values = new int[1024];
+        private int[] offsets = new int[1024];
+        private int size;
+
+        @Override
+        public void row(String category, int value, int position){
+            if(size == offsets.length){
+                categories = Arrays.copyOf(categories, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2);
+            }
+            categories[size] = category;
+            values[size] = value;
+            offsets[size] = position;
+            size++;
+        }
+
+        @Override
+        public String category(int i){return categories[i];}
+
+        @Override
+        public int value(int i){return values[i];}
+    }
+}
@@ -2,12 +2,23 @@ package com.example.parser;
 
 import com.example.parser.strategy.FileParserStrategy;
 import com.example.parser.strategy.FileParserContext;
+import com.example.parser.strategy.ParallelCSVFileParser;
+import com.example.parser.factory.ParserFactory;
+import com.example.parser.binary.BinaryBankFormat;
+import com.example.parser.binary.BinaryQuestionBank;
 import com.example.model.Question;
+import com.example.model.QuestionCatalog;
 
 import java.util.List;
 import java.io.InputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLConnection;
 import java.util.Collections;
+import java.util.stream.Stream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 /**
  * Class responsible for loading question data from a resource file determined by {@link FileParserContext}.
@@ -15,9 +26,16 @@ import java.util.Collections;
  * using the appropriate file parser strategy. The type of parser used (CSV, JSON or XML) is determined by
  * {@link FileParserContext} which evaluates the file extension and selects the matching {@link FileParserStrategy}
  * implementation.
+ *
+ * <p>
+ * Loaded banks are kept in a process-wide {@link BankCache} shared by every loader, keyed by the file's location,
+ * last-modified time and size. Requesting the same unchanged bank again returns the cached, immutable
+ * {@link QuestionCatalog} without re-reading the file.
  * @author Nicholas Grimes
  */
 public class QuestionLoader{
+    private static final BankCache CACHE = new BankCache();
+
     private final FileParserContext handler;
 
     /**
@@ -27,6 +45,12 @@ public class QuestionLoader{
         this.handler = new FileParserContext();
     }
 
+    /**
+     * Returns the process-wide cache of loaded banks.
+     * @return the shared {@link BankCache}
+     */
+    public static BankCache getCache(){return CACHE;}
+
     /**
      * Loads and parsers the game file specified by {@link FileParserContext}.
      * The file is retrieved from the app's classpath, parsed into a list of {@link Question} objects and returned.
@@ -34,24 +58,146 @@ public class QuestionLoader{
      * @return a list of parsed {@link Question} objects or an empty list if the file could not be loaded or parsed
      */
     public List<Question> initQuestions(){
+        return initCatalog().getQuestions();
+    }
+
+    /**
+     * Loads the game file specified by {@link FileParserContext} like {@link #initQuestions()}, but returns the
+     * shared cached catalog itself so that games can be played from it without re-indexing the questions.
+     * @return the catalog of the game file's questions, or an empty catalog if the file could not be loaded or parsed
+     */
+    public QuestionCatalog initCatalog(){
         String fileName = handler.getFileName();
-        
+
         try {
-            InputStream inputStream = QuestionLoader.class.getResourceAsStream("/" + fileName);
+            QuestionCatalog catalog = loadCatalog();
+
+            System.out.println("\nSuccessfully loaded " + catalog.size() + " questions from " + fileName);
+            return catalog;
+        }
+        catch (IOException e) {
+            e.printStackTrace();
+            return new QuestionCatalog(Collections.emptyList());
+        }
+    }
+
+    /**
+     * Loads the game file specified by {@link FileParserContext} from the app's classpath, or returns it from the
+     * cache if it has already been loaded.
+     * @return the catalog of the game file's questions
+     * @throws IOException if the file cannot be found, read or parsed
+     */
+    public QuestionCatalog loadCatalog() throws IOException{
+        String fileName = handler.getFileName();
+        URL url = QuestionLoader.class.getResource("/" + fileName);
+
+        if(url == null){
+            throw new IOException("Resource not found: " + fileName);
+        }
 
-            if(inputStream == null){
-                throw new IOException("Resource not found: " + fileName);
+        URLConnection connection = url.openConnection();
+        String version = connection.getLastModified() + ":" + connection.getContentLengthLong();
+
+        return CACHE.get(url.toString(), version, () -> {
+            try(InputStream inputStream = url.openStream()){
+                return collect(handler.streamQuestions(inputStream));
             }
+        });
+    }
 
-            List<Question> questions = handler.loadQuestions(inputStream);
-            inputStream.close();
+    /**
+     * Loads and parses a game file from the file system.
+     * Compiled banks ({@code .jqb}) are memory-mapped and their questions created on first access; any other
+     * supported format is parsed by the {@link FileParserStrategy} chosen by {@link ParserFactory} and cached.
+     * @param path the game file to load
+     * @return a list of parsed {@link Question} objects or an empty list if the file could not be loaded or parsed
+     */
+    public List<Question> initQuestions(Path path){
+        try{
+            List<Question> questions;
+
+            if(path.getFileName().toString().endsWith(BinaryBankFormat.EXTENSION)){
+                questions = BinaryQuestionBank.open(path).questions();
+            }
+            else{
+                questions = loadCatalog(path).getQuestions();
+            }
 
-            System.out.println("\nSuccessfully loaded " + questions.size() + " questions from " + fileName);
+            System.out.println("\nSuccessfully loaded " + questions.size() + " questions from " + path);
             return questions;
-        } 
-        catch (IOException e) {
+        }
+        catch(IOException e){
             e.printStackTrace();
             return Collections.emptyList();
         }
     }
+
+    /**
+     * Loads a game file from the file system like {@link #initQuestions(Path)}, but returns the shared cached catalog
+     * itself so that games can be played from it without re-indexing the questions.
+     * @param path the game file to load
+     * @return the catalog of the game file's questions, or an empty catalog if the file could not be loaded or parsed
+     */
+    public QuestionCatalog initCatalog(Path path){
+        try{
+            QuestionCatalog catalog = loadCatalog(path);
+
+            System.out.println("\nSuccessfully loaded " + catalog.size() + " questions from " + path);
+            return catalog;
+        }
+        catch(IOException e){
+            e.printStackTrace();
+            return new QuestionCatalog(Collections.emptyList());
+        }
+    }
+
+    /**
+     * Loads a game file in any supported format from the file system, or returns it from the cache if the file
+     * has not changed since it was last loaded. CSV files are parsed in parallel by {@link ParallelCSVFileParser};
+     * the catalog of a compiled bank is built from the category and value of each record, and a question's body is
+     * only decoded the first time it is read.
+     * @param path the game file to load
+     * @return the catalog of the game file's questions
+     * @throws IOException if the file cannot be read or parsed
+     */
+    public QuestionCatalog loadCatalog(Path path) throws IOException{
+        Path file = path.toAbsolutePath().normalize();
+        String version = Files.getLastModifiedTime(file).toMillis() + ":" + Files.size(file);
+
+        return CACHE.get(file.toString(), version, () -> {
+            if(file.getFileName().toString().endsWith(BinaryBankFormat.EXTENSION)){
+                return BinaryQuestionBank.open(file).catalog();
+            }
+            if(file.getFileName().toString().endsWith(".csv")){
+                List<Question> questions = new ParallelCSVFileParser().parse(file);
+                return QuestionCatalog.wrapTrusted(Collections.unmodifiableList(questions));
+            }
+
+            try(InputStream inputStream = Files.newInputStream(file)){
+                return collect(ParserFactory.createParser(file.getFileName().toString()).stream(inputStream));
+            }
+        });
+    }
+
+    /**
+     * Loads a game file from the file system again, replacing any catalog of it in the cache. Use this when the
+     * file may have changed without its modification time or size changing, which happens when it is saved twice
+     * within the file system's timestamp resolution.
+     * @param path the game file to load
+     * @return the catalog of the game file's questions
+     * @throws IOException if the file cannot be read or parsed
+     */
+    public QuestionCatalog reloadCatalog(Path path) throws IOException{
+        CACHE.invalidate(path.toAbsolutePath().normalize().toString());
+        return loadCatalog(path);
+    }
+
+    private static QuestionCatalog collect(Stream<Question> questions) throws IOException{
+        try(questions){
+            return QuestionCatalog.wrapTrusted(questions.toList());
+        }
+        catch(UncheckedIOException e){
+            throw e.getCause();
+        }
+    }
 }
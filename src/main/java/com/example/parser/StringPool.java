@@ -0,0 +1,90 @@
+package com.example.parser;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonicalizing pool for the short strings that repeat throughout question banks, such as categories and
+ * answer options. Parsers pass every such string through {@link #canonical(String)} so that equal strings
+ * share one instance, and the copies the parser just created become garbage straight away instead of being
+ * kept by every {@link com.example.model.Question}.
+ *
+ * <p>
+ * The pool is bounded twice over: strings longer than the length limit (question texts, for example) are never
+ * pooled, and once the pool is full new strings are returned as they are. Pooled strings are held for the life of
+ * the pool, so the bounds keep a long-running host from growing it without limit. Instances are thread-safe; the
+ * {@link #shared()} pool is used by every parser unless one is given its own.
+ * @author Nicholas Grimes
+ */
+public final class StringPool{
+    /** Default largest number of strings the pool holds. */
+    public static final int DEFAULT_MAX_ENTRIES = 1 << 16;
+
+    /** Default length of the longest string the pool holds. */
+    public static final int DEFAULT_MAX_LENGTH = 64;
+
+    private static final StringPool SHARED = new StringPool(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_LENGTH);
+    private static final StringPool DISABLED = new StringPool(0, 0);
+
+    private final Map<String, String> pool = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final int maxLength;
+
+    /**
+     * Constructor to initialise a pool with the given bounds.
+     * @param maxEntries the largest number of strings the pool holds
+     * @param maxLength the length of the longest string the pool holds
+     */
+    public StringPool(int maxEntries, int maxLength){
+        this.maxEntries = maxEntries;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Returns the process-wide pool used by the parsers by default.
+     * @return the shared pool
+     */
+    public static StringPool shared(){return SHARED;}
+
+    /**
+     * Returns a pool that never pools anything, for callers that want fresh strings.
+     * @return the disabled pool
+     */
+    public static StringPool disabled(){return DISABLED;}
+
+    /**
+     * Returns the pooled instance equal to the given string, adding it to the pool if there is room.
+     * @param s the string to canonicalize
+     * @return the pooled instance, or {@code s} itself if it is {@code null}, too long or the pool is full
+     */
+    public String canonical(String s){
+        if(s == null || s.length() > maxLength) return s;
+
+        String pooled = pool.get(s);
+        if(pooled != null) return pooled;
+        if(pool.size() >= maxEntries) return s;
+
+        pooled = pool.putIfAbsent(s, s);
+        return pooled == null ? s : pooled;
+    }
+
+    /**
+     * Canonicalizes every element of an array in place.
+     * @param strings the strings to canonicalize
+     * @return the same array
+     */
+    public String[] canonical(String[] strings){
+        if(strings != null){
+            for(int i = 0; i < strings.length; i++){
+                strings[i] = canonical(strings[i]);
+            }
+        }
+        return strings;
+    }
+
+    /**
+     * Returns the number of pooled strings.
+     * @return the pool size
+     */
+    public int size(){return pool.size();}
+}
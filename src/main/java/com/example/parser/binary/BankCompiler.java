@@ -0,0 +1,205 @@
+package com.example.parser.binary;
+
+import com.example.model.Question;
+import com.example.parser.factory.ParserFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Compiles a question bank in any supported text format (CSV, JSON or XML) into the binary format described by
+ * {@link BinaryBankFormat}. The source is read through the {@link com.example.parser.strategy.FileParserStrategy}
+ * chosen by {@link ParserFactory}, so compiled banks always contain exactly what the text parsers produce.
+ *
+ * <p>
+ * Usage: {@code java -cp <app.jar> com.example.parser.binary.BankCompiler <input> [output]}. If no output is given,
+ * the input path with its extension replaced by {@code .jqb} is used.
+ * @author Nicholas Grimes
+ */
+public class BankCompiler{
+    private final Map<String, Integer> stringIds = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private int[] records = new int[1024 * 8];
+    private int questionCount;
+
+    /**
+     * Compiles a text bank file into a binary bank file.
+     * @param input the CSV, JSON or XML bank to read
+     * @param output the binary bank to write
+     * @return the number of questions compiled
+     * @throws IOException if either file cannot be read or written
+     */
+    public static int compile(Path input, Path output) throws IOException{
+        try(InputStream in = Files.newInputStream(input);
+            Stream<Question> questions = ParserFactory.createParser(input.getFileName().toString()).stream(in)){
+            return compile(questions, output);
+        }
+        catch(UncheckedIOException e){
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Compiles a stream of questions into a binary bank file.
+     * @param questions the questions to compile, in the order they should be stored
+     * @param output the binary bank to write
+     * @return the number of questions compiled
+     * @throws IOException if the file cannot be written
+     */
+    public static int compile(Stream<Question> questions, Path output) throws IOException{
+        BankCompiler compiler = new BankCompiler();
+        questions.forEach(compiler::add);
+        compiler.write(output);
+        return compiler.questionCount;
+    }
+
+    /**
+     * Command-line entry point.
+     * @param args the input bank and, optionally, the output file
+     */
+    public static void main(String[] args){
+        if(args.length < 1 || args.length > 2){
+            System.err.println("Usage: BankCompiler <input.csv|json|xml> [output.jqb]");
+            System.exit(1);
+        }
+
+        Path input = Paths.get(args[0]);
+        Path output = args.length == 2 ? Paths.get(args[1]) : defaultOutput(input);
+
+        try{
+            long start = System.nanoTime();
+            int count = compile(input, output);
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            System.out.println("Compiled " + count + " questions from " + input + " to " + output + " in " + millis + " ms");
+        }
+        catch(IOException | RuntimeException e){
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    private static Path defaultOutput(Path input){
+        String name = input.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        return input.resolveSibling(base + BinaryBankFormat.EXTENSION);
+    }
+
+    private void add(Question q){
+        if(questionCount * 8 == records.length){
+            records = Arrays.copyOf(records, records.length * 2);
+        }
+
+        String[] options = q.getOptions() == null ? new String[0] : q.getOptions();
+        int base = questionCount * 8;
+        records[base] = intern(q.getCategory());
+        records[base + 1] = q.getValue();
+        records[base + 2] = intern(q.getQuestionText());
+        for(int i = 0; i < 4; i++){
+            records[base + 3 + i] = intern(i < options.length ? options[i] : null);
+        }
+        records[base + 7] = intern(q.getCorrectAnswer());
+        questionCount++;
+    }
+
+    private int intern(String s){
+        if(s == null) return BinaryBankFormat.NULL_STRING;
+
+        return stringIds.computeIfAbsent(s, k -> {
+            strings.add(k);
+            return strings.size() - 1;
+        });
+    }
+
+    private void write(Path output) throws IOException{
+        Integer[] order = new Integer[questionCount];
+        String[] folded = new String[strings.size()];
+        for(int i = 0; i < questionCount; i++){
+            order[i] = i;
+            int category = records[i * 8];
+            if(category != BinaryBankFormat.NULL_STRING && folded[category] == null){
+                folded[category] = BinaryBankFormat.fold(strings.get(category));
+            }
+        }
+        Arrays.sort(order, Comparator
+                .<Integer, String>comparing(i -> records[i * 8] == BinaryBankFormat.NULL_STRING ? "" : folded[records[i * 8]])
+                .thenComparingInt(i -> records[i * 8 + 1])
+                .thenComparingInt(i -> i));
+
+        try(FileChannel channel = FileChannel.open(output, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)){
+            channel.position(BinaryBankFormat.HEADER_SIZE);
+
+            CRC32 crc = new CRC32();
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16), crc));
+
+            int[] stringOffsets = new int[strings.size()];
+            for(int i = 0; i < strings.size(); i++){
+                stringOffsets[i] = position(out);
+                byte[] bytes = strings.get(i).getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            long stringOffsetsPos = position(out);
+            for(int offset : stringOffsets){
+                out.writeInt(offset);
+            }
+
+            long recordsPos = position(out);
+            for(int i = 0; i < questionCount * 8; i++){
+                out.writeInt(records[i]);
+            }
+
+            long indexPos = position(out);
+            for(int i : order){
+                out.writeInt(records[i * 8]);
+                out.writeInt(records[i * 8 + 1]);
+                out.writeInt(i);
+            }
+            out.flush();
+
+            // DataOutputStream.size() saturates at Integer.MAX_VALUE instead of overflowing
+            if(out.size() == Integer.MAX_VALUE){
+                throw new IOException("Compiled bank exceeds 2 GB: " + output);
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(BinaryBankFormat.HEADER_SIZE);
+            header.putInt(BinaryBankFormat.MAGIC)
+                  .putInt(BinaryBankFormat.VERSION)
+                  .putInt(questionCount)
+                  .putInt(strings.size())
+                  .putLong(stringOffsetsPos)
+                  .putLong(recordsPos)
+                  .putLong(indexPos)
+                  .putLong(crc.getValue())
+                  .flip();
+            channel.write(header, 0);
+        }
+    }
+
+    private static int position(DataOutputStream out){
+        return BinaryBankFormat.HEADER_SIZE + out.size();
+    }
+}
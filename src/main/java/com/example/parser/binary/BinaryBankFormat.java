@@ -0,0 +1,60 @@
+package com.example.parser.binary;
+
+import java.util.Locale;
+
+/**
+ * Layout of the compiled binary question-bank format ({@code .jqb}).
+ * All numbers are big-endian. A file is made of a fixed-size header followed by four sections:
+ * <pre>
+ * header   magic:int  version:int  questionCount:int  stringCount:int
+ *          stringOffsetsPos:long  recordsPos:long  indexPos:long  checksum:long
+ * strings  stringCount x (length:int, UTF-8 bytes)
+ * offsets  stringCount x position:int              position of each string in the file
+ * records  questionCount x RECORD_SIZE bytes       category, value, text, options A-D, answer
+ * index    questionCount x INDEX_ENTRY_SIZE bytes  category, value, record; sorted by folded category then value
+ * </pre>
+ * Every string field of a record is an index into the string table, or {@link #NULL_STRING} for a missing value.
+ * Strings are deduplicated, so a category shared by many questions is stored once. The checksum is the CRC-32 of
+ * every byte after the header. Because files are memory-mapped as a single buffer they are limited to 2 GB.
+ * @author Nicholas Grimes
+ */
+public final class BinaryBankFormat{
+    /** File name extension of compiled banks. */
+    public static final String EXTENSION = ".jqb";
+
+    /** The ASCII bytes {@code JQB1}. */
+    public static final int MAGIC = 0x4A514231;
+
+    /** Current format version. */
+    public static final int VERSION = 1;
+
+    /** Size of the header in bytes. */
+    public static final int HEADER_SIZE = 48;
+
+    /** Size of one question record in bytes. */
+    public static final int RECORD_SIZE = 8 * Integer.BYTES;
+
+    /** Size of one index entry in bytes. */
+    public static final int INDEX_ENTRY_SIZE = 3 * Integer.BYTES;
+
+    /** String index used for a missing value. */
+    public static final int NULL_STRING = -1;
+
+    static final int POS_QUESTION_COUNT = 8;
+    static final int POS_STRING_COUNT = 12;
+    static final int POS_STRING_OFFSETS = 16;
+    static final int POS_RECORDS = 24;
+    static final int POS_INDEX = 32;
+    static final int POS_CHECKSUM = 40;
+
+    private BinaryBankFormat(){}
+
+    /**
+     * Case-folds a category the same way the index is sorted.
+     * @param category the category to fold
+     * @return the folded category, or an empty string for {@code null}
+     */
+    static String fold(String category){
+        return category == null ? "" : category.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,313 @@
+package com.example.parser.binary;
+
+import com.example.model.LazyQuestion;
+import com.example.model.Question;
+import com.example.model.QuestionCatalog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+
+/**
+ * Read-only view of a compiled question bank (see {@link BinaryBankFormat}).
+ * Opening a bank only validates its header and checksum; strings are decoded and {@link Question} objects are
+ * created the first time they are requested, then cached. When opened from a file the bank is memory-mapped, so
+ * its pages are loaded on demand and shared through the OS page cache by every JVM reading the same file.
+ * Instances are safe to use from multiple threads.
+ * @author Nicholas Grimes
+ */
+public class BinaryQuestionBank implements LazyQuestion.BodySource{
+    private final ByteBuffer buffer;
+    private final int questionCount;
+    private final int stringCount;
+    private final int stringOffsetsPos;
+    private final int recordsPos;
+    private final int indexPos;
+    private final String[] strings;
+    private final AtomicReferenceArray<Question> questions;
+    private final LongAdder created = new LongAdder();
+
+    private BinaryQuestionBank(ByteBuffer buffer) throws IOException{
+        this.buffer = buffer;
+
+        if(buffer.capacity() < BinaryBankFormat.HEADER_SIZE || buffer.getInt(0) != BinaryBankFormat.MAGIC){
+            throw new IOException("Not a compiled question bank");
+        }
+        int version = buffer.getInt(4);
+        if(version != BinaryBankFormat.VERSION){
+            throw new IOException("Unsupported question bank version: " + version);
+        }
+
+        this.questionCount = buffer.getInt(BinaryBankFormat.POS_QUESTION_COUNT);
+        this.stringCount = buffer.getInt(BinaryBankFormat.POS_STRING_COUNT);
+        this.stringOffsetsPos = position(BinaryBankFormat.POS_STRING_OFFSETS);
+        this.recordsPos = position(BinaryBankFormat.POS_RECORDS);
+        this.indexPos = position(BinaryBankFormat.POS_INDEX);
+
+        long end = (long) indexPos + (long) questionCount * BinaryBankFormat.INDEX_ENTRY_SIZE;
+        if(questionCount < 0 || stringCount < 0 || end != buffer.capacity()
+                || (long) stringOffsetsPos + (long) stringCount * Integer.BYTES > recordsPos
+                || (long) recordsPos + (long) questionCount * BinaryBankFormat.RECORD_SIZE > indexPos){
+            throw new IOException("Corrupt question bank: section bounds do not match the file size");
+        }
+
+        this.strings = new String[stringCount];
+        this.questions = new AtomicReferenceArray<>(questionCount);
+    }
+
+    /**
+     * Memory-maps and validates a compiled bank file.
+     * @param path the {@code .jqb} file to open
+     * @return the opened bank
+     * @throws IOException if the file cannot be read, is not a compiled bank, or fails its checksum
+     */
+    public static BinaryQuestionBank open(Path path) throws IOException{
+        return open(path, true);
+    }
+
+    /**
+     * Memory-maps a compiled bank file.
+     * Skipping the checksum avoids touching every page up front, which matters for very large banks that are
+     * known to be intact (e.g. ones just written by {@link BankCompiler}).
+     * @param path the {@code .jqb} file to open
+     * @param verify whether to validate the checksum
+     * @return the opened bank
+     * @throws IOException if the file cannot be read, is not a compiled bank, or fails its checksum
+     */
+    public static BinaryQuestionBank open(Path path, boolean verify) throws IOException{
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)){
+            if(channel.size() > Integer.MAX_VALUE){
+                throw new IOException("Compiled bank exceeds 2 GB: " + path);
+            }
+            // the mapping stays valid after the channel is closed
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return wrap(mapped, verify);
+        }
+    }
+
+    /**
+     * Reads a compiled bank that is already in memory.
+     * @param buffer the complete file contents, from position 0 to the buffer's capacity
+     * @param verify whether to validate the checksum
+     * @return the opened bank
+     * @throws IOException if the buffer is not a compiled bank or fails its checksum
+     */
+    public static BinaryQuestionBank wrap(ByteBuffer buffer, boolean verify) throws IOException{
+        BinaryQuestionBank bank = new BinaryQuestionBank(buffer.duplicate().clear());
+        if(verify){
+            bank.verify();
+        }
+        return bank;
+    }
+
+    private void verify() throws IOException{
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(BinaryBankFormat.HEADER_SIZE));
+        if(crc.getValue() != buffer.getLong(BinaryBankFormat.POS_CHECKSUM)){
+            throw new IOException("Corrupt question bank: checksum mismatch");
+        }
+    }
+
+    /**
+     * Returns the number of questions in the bank.
+     * @return the question count
+     */
+    public int size(){
+        return questionCount;
+    }
+
+    /**
+     * Returns the question stored at the given position, creating it on first access.
+     * @param i the position of the question in the original bank
+     * @return the question
+     * @throws IndexOutOfBoundsException if {@code i} is out of range
+     */
+    public Question question(int i){
+        Question q = questions.get(i);
+        if(q == null){
+            if(questions.compareAndSet(i, null, readQuestion(record(i), true))){
+                created.increment();
+            }
+            q = questions.get(i);
+        }
+        return q;
+    }
+
+    /**
+     * Returns the question stored at the given position, creating it on first access.
+     * @param index the position of the question in the original bank
+     * @return the question
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    @Override
+    public Question loadBody(int index){
+        return question(index);
+    }
+
+    /**
+     * Returns how many questions have been created so far.
+     * @return the number of question bodies decoded and cached by this bank
+     */
+    public long getCreatedQuestionCount(){
+        return created.sum();
+    }
+
+    /**
+     * Returns the category of the question at the given position without creating the question.
+     * @param i the position of the question in the original bank
+     * @return the category
+     * @throws IndexOutOfBoundsException if {@code i} is out of range
+     */
+    public String category(int i){
+        return string(buffer.getInt(record(i)));
+    }
+
+    /**
+     * Returns the value of the question at the given position without creating the question.
+     * @param i the position of the question in the original bank
+     * @return the value
+     * @throws IndexOutOfBoundsException if {@code i} is out of range
+     */
+    public int value(int i){
+        return buffer.getInt(record(i) + 4);
+    }
+
+    /**
+     * Creates a fresh copy of the question at the given position without caching it or its question text, for
+     * callers that keep their own bounded cache. Categories and options are still shared through the bank's
+     * string table.
+     * @param i the position of the question in the original bank
+     * @return the question
+     * @throws IndexOutOfBoundsException if {@code i} is out of range
+     */
+    public Question read(int i){
+        return readQuestion(record(i), false);
+    }
+
+    /**
+     * Returns an unmodifiable list view of every question in the bank, in their original order.
+     * Questions are only created as the list is read.
+     * @return the questions of the bank
+     */
+    public List<Question> questions(){
+        return Collections.unmodifiableList(new QuestionList());
+    }
+
+    /**
+     * Returns a catalog of every question in the bank that is built from the category and value of each record
+     * alone. Its questions are {@link LazyQuestion}s that create their bodies through {@link #question(int)} the
+     * first time one is read, so building the catalog decodes no question text.
+     * @return the catalog of the bank
+     */
+    public QuestionCatalog catalog(){
+        List<Question> lazy = new ArrayList<>(questionCount);
+        for(int i = 0; i < questionCount; i++){
+            lazy.add(new LazyQuestion(category(i), value(i), this, i));
+        }
+        return QuestionCatalog.wrapTrusted(Collections.unmodifiableList(lazy));
+    }
+
+    /**
+     * Finds a question by category (case-insensitive) and value using the bank's index.
+     * If several questions share the category and value, the first one in the bank is returned.
+     * @param category the category of the question
+     * @param value the value of the question
+     * @return the question, or {@code null} if the bank has none with that category and value
+     */
+    public Question findQuestion(String category, int value){
+        String key = BinaryBankFormat.fold(category);
+        int low = 0;
+        int high = questionCount;
+
+        while(low < high){
+            int mid = (low + high) >>> 1;
+            if(compareIndex(mid, key, value) < 0){
+                low = mid + 1;
+            }
+            else{
+                high = mid;
+            }
+        }
+
+        if(low < questionCount && compareIndex(low, key, value) == 0){
+            return question(buffer.getInt(indexPos + low * BinaryBankFormat.INDEX_ENTRY_SIZE + 8));
+        }
+        return null;
+    }
+
+    private int compareIndex(int entry, String category, int value){
+        int pos = indexPos + entry * BinaryBankFormat.INDEX_ENTRY_SIZE;
+        int result = BinaryBankFormat.fold(string(buffer.getInt(pos))).compareTo(category);
+        return result != 0 ? result : Integer.compare(buffer.getInt(pos + 4), value);
+    }
+
+    private int record(int i){
+        return recordsPos + Objects.checkIndex(i, questionCount) * BinaryBankFormat.RECORD_SIZE;
+    }
+
+    private Question readQuestion(int pos, boolean cacheText){
+        String[] options = new String[4];
+        for(int j = 0; j < 4; j++){
+            options[j] = string(buffer.getInt(pos + 12 + j * 4));
+        }
+
+        int textId = buffer.getInt(pos + 8);
+        String questionText = cacheText ? string(textId) : decode(textId);
+        return new Question(string(buffer.getInt(pos)), buffer.getInt(pos + 4), questionText,
+                options, string(buffer.getInt(pos + 28)));
+    }
+
+    private String string(int id){
+        if(id == BinaryBankFormat.NULL_STRING) return null;
+
+        // racing threads may decode the same string twice, which is harmless since strings are immutable
+        String s = strings[id];
+        if(s == null){
+            s = decode(id);
+            strings[id] = s;
+        }
+        return s;
+    }
+
+    private String decode(int id){
+        if(id == BinaryBankFormat.NULL_STRING) return null;
+
+        int pos = buffer.getInt(stringOffsetsPos + id * Integer.BYTES);
+        byte[] bytes = new byte[buffer.getInt(pos)];
+        buffer.get(pos + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int position(int headerPos) throws IOException{
+        long pos = buffer.getLong(headerPos);
+        if(pos < BinaryBankFormat.HEADER_SIZE || pos > buffer.capacity()){
+            throw new IOException("Corrupt question bank: section offset out of range");
+        }
+        return (int) pos;
+    }
+
+    private class QuestionList extends AbstractList<Question> implements RandomAccess{
+        @Override
+        public Question get(int index){
+            return question(index);
+        }
+
+        @Override
+        public int size(){
+            return questionCount;
+        }
+    }
+}
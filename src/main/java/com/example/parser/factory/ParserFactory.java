@@ -1,13 +1,17 @@
 package com.example.parser.factory;
 
 import com.example.parser.strategy.FileParserStrategy;
-import com.example.parser.strategy.CSVFileParser;
-import com.example.parser.strategy.JSONFileParser;
-import com.example.parser.strategy.XMLFileParser;
+import com.example.parser.strategy.ByteCSVFileParser;
+import com.example.parser.strategy.StreamingJSONFileParser;
+import com.example.parser.strategy.StAXXMLFileParser;
+import com.example.parser.strategy.BinaryFileParser;
+import com.example.parser.binary.BinaryBankFormat;
 
 /**
  * Factory class responsible for creating the appropriate {@link FileParserStrategy} implementation based on the file name.
- * Supports CSV, JSON, and XML file formats.
+ * Supports CSV, JSON, XML and compiled binary ({@code .jqb}) file formats. CSV files are tokenized by
+ * {@link ByteCSVFileParser}; JSON and XML files are read with the streaming {@link StreamingJSONFileParser} and
+ * {@link StAXXMLFileParser}.
  * @author Nicholas Grimes
  */
 public class ParserFactory{
@@ -18,16 +22,29 @@ public class ParserFactory{
      */
     public static FileParserStrategy createParser(String fileName){
         if(fileName.endsWith(".csv")){
-            return new CSVFileParser();
+            return new ByteCSVFileParser();
         }
         else if(fileName.endsWith(".json")){
-            return new JSONFileParser();
+            return new StreamingJSONFileParser();
         }
         else if(fileName.endsWith(".xml")){
-            return new XMLFileParser();
+            return new StAXXMLFileParser();
+        }
+        else if(fileName.endsWith(BinaryBankFormat.EXTENSION)){
+            return new BinaryFileParser();
         }
         else{
             throw new IllegalArgumentException("Unsupported file type: " + fileName);
         }
     }
+
+    /**
+     * Indicates whether a file's extension is one that {@link #createParser(String)} can handle.
+     * @param fileName the name of the file
+     * @return {@code true} if the file is a CSV, JSON, XML or compiled binary bank, otherwise {@code false}
+     */
+    public static boolean isSupported(String fileName){
+        return fileName.endsWith(".csv") || fileName.endsWith(".json") || fileName.endsWith(".xml")
+                || fileName.endsWith(BinaryBankFormat.EXTENSION);
+    }
 }
@@ -0,0 +1,58 @@
+package com.example.parser.strategy;
+
+import com.example.model.Question;
+import com.example.parser.binary.BinaryQuestionBank;
+
+import java.util.List;
+import java.io.InputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+/**
+ * Concrete class of {@link FileParserStrategy}.
+ * Reads a compiled question bank ({@code .jqb}) produced by {@link com.example.parser.binary.BankCompiler}.
+ * An input stream has to be copied into memory first; banks on disk should be opened with
+ * {@link BinaryQuestionBank#open(java.nio.file.Path)} instead, which memory-maps the file.
+ * @author Nicholas Grimes
+ */
+public class BinaryFileParser implements FileParserStrategy{
+    /**
+     * Reads a compiled question bank from the input stream.
+     * The returned list creates each {@link Question} the first time it is read.
+     * @param inputStream the compiled bank data stream
+     * @return a list of the bank's {@link Question} objects, or an empty list if the bank could not be read
+     */
+    @Override
+    public List<Question> parse(InputStream inputStream){
+        try{
+            return read(inputStream).questions();
+        }
+        catch(UncheckedIOException e){
+            e.printStackTrace();
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Reads a compiled question bank from the input stream.
+     * @param inputStream the compiled bank data stream
+     * @return a stream of the bank's {@link Question} objects
+     * @throws UncheckedIOException if the data cannot be read or is not a valid compiled bank
+     */
+    @Override
+    public Stream<Question> stream(InputStream inputStream){
+        return read(inputStream).questions().stream();
+    }
+
+    private BinaryQuestionBank read(InputStream inputStream){
+        try{
+            return BinaryQuestionBank.wrap(ByteBuffer.wrap(inputStream.readAllBytes()), true);
+        }
+        catch(IOException e){
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.parser.strategy;
+
+import com.example.model.Question;
+import com.example.parser.StringPool;
+
+import java.util.List;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Concrete class of {@link FileParserStrategy}.
+ * Parses a CSV file and returns a list of Question objects without going through OpenCSV.
+ * The data is tokenized directly over a {@link ByteBuffer} by {@link CSVTokenizer}, which scans for delimiters
+ * eight bytes at a time and only creates the strings a {@link Question} keeps, instead of a {@code String[]} and
+ * a string per cell for every row.
+ * Expected format:
+ * Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer
+ * @author Nicholas Grimes
+ */
+public class ByteCSVFileParser implements FileParserStrategy{
+    private final StringPool pool;
+
+    /**
+     * Constructor to initialise {@code StringPool pool} to {@link StringPool#shared()}.
+     */
+    public ByteCSVFileParser(){
+        this(StringPool.shared());
+    }
+
+    /**
+     * Constructor to initialise {@code StringPool pool}.
+     * @param pool the pool for repeated strings
+     */
+    public ByteCSVFileParser(StringPool pool){
+        this.pool = pool;
+    }
+
+    /**
+     * Parses question data from a CSV-formatted input stream.
+     * Each line is expected to represent one question.
+     * @param inputStream the CSV data stream
+     * @return a list of parsed {@link Question} objects extracted from the CSV file
+     */
+    @Override
+    public List<Question> parse(InputStream inputStream){
+        List<Question> questions = new ArrayList<>();
+
+        try(Stream<Question> stream = stream(inputStream)){
+            stream.forEach(questions::add);
+        }
+        catch(UncheckedIOException e){
+            e.printStackTrace();
+        }
+
+        return questions;
+    }
+
+    /**
+     * Parses question data from a CSV-formatted input stream one row at a time.
+     * The byte tokenizer needs the whole file in one buffer, so streams are read by {@link CSVFileParser}
+     * instead, which holds one row in memory at a time and reads the same dialect. Files on disk should be
+     * parsed with {@link #parse(Path)}, which memory-maps them.
+     * @param inputStream the CSV data stream
+     * @return a stream of parsed {@link Question} objects
+     * @throws IllegalArgumentException if the file is empty or has the wrong columns
+     * @throws UncheckedIOException if the data cannot be read
+     */
+    @Override
+    public Stream<Question> stream(InputStream inputStream){
+        return new CSVFileParser(pool).stream(inputStream);
+    }
+
+    /**
+     * Memory-maps and parses a CSV file.
+     * @param file the CSV file to parse
+     * @return a list of parsed {@link Question} objects
+     * @throws IOException if the file cannot be read, is larger than 2 GB, or contains a malformed row
+     * @throws IllegalArgumentException if the file is empty or has the wrong columns
+     */
+    public List<Question> parse(Path file) throws IOException{
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)){
+            if(channel.size() > Integer.MAX_VALUE){
+                throw new IOException("File exceeds 2 GB: " + file);
+            }
+
+            // the mapping stays valid after the channel is closed
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            try(Stream<Question> questions = stream(buffer, pool)){
+                return questions.toList();
+            }
+            catch(UncheckedIOException e){
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * Parses question data held in a buffer one row at a time.
+     * @param buffer the CSV data between the buffer's position and limit
+     * @param pool the pool categories and options are canonicalized through
+     * @return a stream of parsed {@link Question} objects
+     * @throws IllegalArgumentException if the data is empty or has the wrong columns
+     */
+    public static Stream<Question> stream(ByteBuffer buffer, StringPool pool){
+        CSVTokenizer tokenizer = new CSVTokenizer(buffer, pool);
+        tokenizer.readHeader();
+
+        Spliterator<Question> rows = Spliterators.spliteratorUnknownSize(tokenizer,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+
+        return StreamSupport.stream(rows, false);
+    }
+
+    /**
+     * Scans the rows held in a buffer and reports the category, value and position of each one, decoding nothing
+     * else. The positions can be passed to {@link #readRow} later to parse a single row.
+     * @param buffer the CSV data between the buffer's position and limit
+     * @param pool the pool categories are canonicalized through
+     * @param visitor receives every row
+     * @throws IllegalArgumentException if the data is empty or has the wrong columns
+     * @throws UncheckedIOException if a row is malformed
+     */
+    public static void index(ByteBuffer buffer, StringPool pool, RowVisitor visitor){
+        CSVTokenizer tokenizer = new CSVTokenizer(buffer, pool);
+        tokenizer.readHeader();
+
+        while(tokenizer.hasNext()){
+            tokenizer.skim(visitor);
+        }
+    }
+
+    /**
+     * Parses the single row that starts at the given position of a buffer.
+     * @param buffer the CSV data
+     * @param position the position of the row, as reported by {@link #index}
+     * @param pool the pool categories and options are canonicalized through
+     * @return the parsed question
+     * @throws UncheckedIOException if the row is malformed
+     */
+    public static Question readRow(ByteBuffer buffer, int position, StringPool pool){
+        CSVTokenizer tokenizer = new CSVTokenizer(buffer, pool);
+        tokenizer.seek(position);
+        return tokenizer.next();
+    }
+
+    /**
+     * Receives the rows found by {@link #index}.
+     */
+    @FunctionalInterface
+    public interface RowVisitor{
+        /**
+         * Called once for every row, in file order.
+         * @param category the category of the row
+         * @param value the value of the row
+         * @param position the position of the row in the buffer
+         */
+        void row(String category, int value, int position);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.parser.strategy;
 
 import com.example.model.Question;
+import com.example.parser.StringPool;
 
 import com.opencsv.CSVReader;
 import com.opencsv.exceptions.CsvValidationException;
@@ -10,7 +11,14 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.io.InputStreamReader;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 
 /**
  * Concrete class of {@link FileParserStrategy}.
@@ -21,6 +29,34 @@ import java.io.IOException;
  * @author Nicholas Grimes
  */
 public class CSVFileParser implements FileParserStrategy{
+    static final String[] HEADER = {
+        "Category",
+        "Value",
+        "Question",
+        "OptionA",
+        "OptionB",
+        "OptionC",
+        "OptionD",
+        "CorrectAnswer"
+    };
+
+    private final StringPool pool;
+
+    /**
+     * Constructor to initialise {@code StringPool pool} to {@link StringPool#shared()}.
+     */
+    public CSVFileParser(){
+        this(StringPool.shared());
+    }
+
+    /**
+     * Constructor to initialise {@code StringPool pool}.
+     * @param pool the pool for repeated strings
+     */
+    public CSVFileParser(StringPool pool){
+        this.pool = pool;
+    }
+
     /**
      * Parses question data from a CSV-formatted input stream.
      * Each line is expected to represent one question.
@@ -30,60 +66,126 @@ public class CSVFileParser implements FileParserStrategy{
     @Override
     public List<Question> parse(InputStream inputStream){
         List<Question> questions = new ArrayList<>();
-        CSVReader reader = null;
-        String line[];
 
-        try{
-            reader = new CSVReader(new InputStreamReader(inputStream));
+        try(Stream<Question> stream = stream(inputStream)){
+            stream.forEach(questions::add);
+        }
+        catch(UncheckedIOException e){
+            e.printStackTrace();
+        }
 
-            line = reader.readNext();
+        return questions;
+    }
 
-            String header[] = {
-                "Category",
-                "Value",
-                "Question",
-                "OptionA",
-                "OptionB",
-                "OptionC",
-                "OptionD",
-                "CorrectAnswer"
-            };
+    /**
+     * Lazily parses question data from a CSV-formatted input stream.
+     * The header is validated immediately; each following row is read from the underlying {@link CSVReader}
+     * only when the stream asks for the next {@link Question}, so at most one row is held in memory at a time.
+     * Closing the returned stream closes the reader.
+     * @param inputStream the CSV data stream
+     * @return a stream of parsed {@link Question} objects
+     * @throws IllegalArgumentException if the file is empty or has the wrong columns
+     * @throws UncheckedIOException if the file cannot be read
+     */
+    @Override
+    public Stream<Question> stream(InputStream inputStream){
+        CSVReader reader = new CSVReader(new InputStreamReader(inputStream));
+
+        try{
+            String line[] = readRow(reader);
 
             if(line == null) throw new IllegalArgumentException("File is empty");
-            if(!Arrays.equals(line,header))
-                throw new IllegalArgumentException("File has wrong columns: " + line);
+            if(!Arrays.equals(line, HEADER))
+                throw new IllegalArgumentException("File has wrong columns: " + Arrays.toString(line));
+        }
+        catch(RuntimeException e){
+            closeQuietly(reader);
+            throw e;
+        }
+
+        Spliterator<Question> rows = Spliterators.spliteratorUnknownSize(new RowIterator(reader),
+                Spliterator.ORDERED | Spliterator.NONNULL);
+
+        return StreamSupport.stream(rows, false).onClose(() -> closeQuietly(reader));
+    }
 
-            while((line = reader.readNext()) != null){
-                String category = line[0];
-                String value = line[1];
-                String questionText = line[2];
+    /**
+     * Converts a single CSV row into a {@link Question}.
+     * @param line the cells of the row
+     * @return the parsed question
+     * @throws UncheckedIOException if the row does not have one cell per column
+     */
+    private Question toQuestion(String line[]){
+        if(line.length != HEADER.length){
+            throw new UncheckedIOException(new IOException("Row has " + line.length + " columns instead of "
+                    + HEADER.length + ": " + Arrays.toString(line)));
+        }
 
-                String options[] = {
-                    line[3],
-                    line[4],
-                    line[5],
-                    line[6]
-                };
+        String category = line[0];
+        String value = line[1];
+        String questionText = line[2];
 
-                String correctAnswer = line[7];
+        String options[] = {
+            line[3],
+            line[4],
+            line[5],
+            line[6]
+        };
 
-                questions.add(new Question(category, value, questionText, options, correctAnswer));
-            }
+        String correctAnswer = line[7];
+
+        return new Question(pool.canonical(category), value, questionText, pool.canonical(options), correctAnswer);
+    }
+
+    static String[] readRow(CSVReader reader){
+        try{
+            return reader.readNext();
+        }
+        catch(IOException e){
+            throw new UncheckedIOException(e);
+        }
+        catch(CsvValidationException e){
+            throw new UncheckedIOException(new IOException(e.getMessage(), e));
+        }
+    }
+
+    private static void closeQuietly(CSVReader reader){
+        try{
+            reader.close();
         }
-        catch(IOException | CsvValidationException e){
+        catch(IOException e){
             e.printStackTrace();
         }
-        finally{
-            try{
-                if(reader != null){
-                    reader.close();
-                }
-            }
-            catch(IOException e){
-                e.printStackTrace();
+    }
+
+    /**
+     * Iterator that reads one CSV row ahead of the caller.
+     */
+    private class RowIterator implements Iterator<Question>{
+        private final CSVReader reader;
+        private String next[];
+        private boolean done;
+
+        RowIterator(CSVReader reader){
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext(){
+            if(next == null && !done){
+                next = readRow(reader);
+                done = next == null;
             }
+            return next != null;
         }
 
-        return questions;
+        @Override
+        public Question next(){
+            if(!hasNext()) throw new NoSuchElementException();
+
+            String line[] = next;
+            next = null;
+            return toQuestion(line);
+        }
     }
 }
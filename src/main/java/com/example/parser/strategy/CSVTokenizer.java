@@ -0,0 +1,424 @@
+package com.example.parser.strategy;
+
+import com.example.model.Question;
+import com.example.parser.StringPool;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tokenizes question rows straight out of a {@link ByteBuffer} of UTF-8 CSV data.
+ * Delimiters are found eight bytes at a time: each {@code long} read from the buffer is tested for commas, quotes,
+ * backslashes and line breaks with SWAR ("SIMD within a register") bit tricks, so the scan only falls back to single
+ * bytes at the very end of the buffer. Cells are decoded directly from the buffer's backing array when it has one,
+ * and only copied when a cell contains escapes or the buffer is direct or memory-mapped.
+ *
+ * <p>
+ * The tokenizer reads the same dialect as the OpenCSV reader behind {@link CSVFileParser}, so a bank parses the same
+ * way on every path: cells may be quoted, quoted cells may contain commas, line breaks and doubled quotes
+ * ({@code ""}), and records end with LF or CRLF. As in OpenCSV, a backslash makes the character after it literal,
+ * inside or outside quotes, and is itself dropped, so {@code "say \"hi\""} reads as {@code say "hi"}; a backslash
+ * just before a line break outside quotes is dropped and the line still ends the record. Blank lines are skipped.
+ * The value column is parsed to an {@code int} without creating a string. Every row must have exactly the eight
+ * columns of {@link CSVFileParser#HEADER}. Malformed rows are reported as an {@link UncheckedIOException} wrapping
+ * an {@link IOException}.
+ * @author Nicholas Grimes
+ */
+final class CSVTokenizer implements Iterator<Question>{
+    private static final byte COMMA = ',';
+    private static final byte QUOTE = '"';
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+    private static final byte BACKSLASH = '\\';
+
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGHS = 0x8080808080808080L;
+    private static final long COMMAS = ONES * COMMA;
+    private static final long QUOTES = ONES * QUOTE;
+    private static final long CRS = ONES * CR;
+    private static final long LFS = ONES * LF;
+    private static final long BACKSLASHES = ONES * BACKSLASH;
+
+    private static final byte[] HEADER_BYTES =
+            String.join(",", CSVFileParser.HEADER).getBytes(StandardCharsets.UTF_8);
+
+    private final ByteBuffer buffer;
+    private final byte[] array;
+    private final int arrayOffset;
+    private final int limit;
+    private int pos;
+    private int row;
+    private byte[] scratch = new byte[256];
+    private final StringPool pool;
+
+    /**
+     * Creates a tokenizer over the buffer's remaining bytes that does not pool strings.
+     * @param buffer the CSV data; its position and limit are not changed
+     */
+    CSVTokenizer(ByteBuffer buffer){
+        this(buffer, StringPool.disabled());
+    }
+
+    /**
+     * Creates a tokenizer over the buffer's remaining bytes.
+     * @param buffer the CSV data; its position and limit are not changed
+     * @param pool the pool categories and options are canonicalized through
+     */
+    CSVTokenizer(ByteBuffer buffer, StringPool pool){
+        this.pool = pool;
+        this.buffer = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        this.array = buffer.hasArray() ? buffer.array() : null;
+        this.arrayOffset = buffer.hasArray() ? buffer.arrayOffset() : 0;
+        this.pos = buffer.position();
+        this.limit = buffer.limit();
+    }
+
+    /**
+     * Reads and validates the header row.
+     * The common case, an unquoted header exactly as expected, is checked byte by byte without decoding anything.
+     * @throws IllegalArgumentException if the data is empty or has the wrong columns
+     */
+    void readHeader(){
+        skipBlankLines();
+        if(pos >= limit) throw new IllegalArgumentException("File is empty");
+
+        // skip a UTF-8 byte order mark
+        if(limit - pos >= 3 && buffer.get(pos) == (byte) 0xEF && buffer.get(pos + 1) == (byte) 0xBB
+                && buffer.get(pos + 2) == (byte) 0xBF){
+            pos += 3;
+        }
+
+        int end = pos + HEADER_BYTES.length;
+        if(end <= limit && matches(pos, HEADER_BYTES) && (end == limit || buffer.get(end) == LF || buffer.get(end) == CR)){
+            pos = end;
+            endRecord();
+            return;
+        }
+
+        String header[] = new String[CSVFileParser.HEADER.length];
+        for(int i = 0; i < header.length; i++){
+            header[i] = readString();
+            if(i + 1 < header.length && !skipComma()){
+                throw new IllegalArgumentException("File has wrong columns: "
+                        + Arrays.toString(Arrays.copyOf(header, i + 1)));
+            }
+        }
+        if(!Arrays.equals(header, CSVFileParser.HEADER) || !atRecordEnd())
+            throw new IllegalArgumentException("File has wrong columns: " + Arrays.toString(header));
+        endRecord();
+    }
+
+    @Override
+    public boolean hasNext(){
+        skipBlankLines();
+        return pos < limit;
+    }
+
+    @Override
+    public Question next(){
+        if(!hasNext()) throw new NoSuchElementException();
+
+        row++;
+        String category = readString();
+        comma();
+        int value = readValue();
+        comma();
+        String questionText = readString();
+        comma();
+        String options[] = new String[4];
+        for(int i = 0; i < 4; i++){
+            options[i] = readString();
+            comma();
+        }
+        String correctAnswer = readString();
+
+        if(!atRecordEnd()) throw malformed("has more than " + CSVFileParser.HEADER.length + " columns");
+        endRecord();
+
+        return new Question(pool.canonical(category), value, questionText, pool.canonical(options), correctAnswer);
+    }
+
+    /**
+     * Reads the category and value of the next row and skips its other cells without decoding them.
+     * @param visitor receives the row's category, value and starting position
+     * @throws NoSuchElementException if there are no more rows
+     */
+    void skim(ByteCSVFileParser.RowVisitor visitor){
+        if(!hasNext()) throw new NoSuchElementException();
+
+        row++;
+        int start = pos;
+        String category = readString();
+        comma();
+        int value = readValue();
+        for(int i = 2; i < CSVFileParser.HEADER.length; i++){
+            comma();
+            skipCell();
+        }
+
+        if(!atRecordEnd()) throw malformed("has more than " + CSVFileParser.HEADER.length + " columns");
+        endRecord();
+
+        visitor.row(pool.canonical(category), value, start);
+    }
+
+    /**
+     * Moves the tokenizer to the start of a row, such as one reported by {@link #skim}.
+     * @param position the position of the row in the buffer
+     */
+    void seek(int position){
+        this.pos = position;
+    }
+
+    private String readString(){
+        if(pos < limit && buffer.get(pos) == QUOTE){
+            return readQuoted();
+        }
+
+        int end = findDelimiter(pos);
+        if(end < limit && buffer.get(end) == BACKSLASH){
+            return readEscaped(end);
+        }
+
+        String s = decode(pos, end);
+        pos = end;
+        return s;
+    }
+
+    /**
+     * Reads the rest of an unquoted cell whose first backslash is at {@code backslash}.
+     */
+    private String readEscaped(int backslash){
+        int length = 0;
+        int end = backslash;
+
+        while(end < limit && buffer.get(end) == BACKSLASH){
+            length = copy(pos, end, length);
+            if(end + 1 >= limit || isLineBreak(end + 1)){
+                pos = end + 1;
+                return new String(scratch, 0, length, StandardCharsets.UTF_8);
+            }
+            length = copy(end + 1, end + 2, length);
+            pos = end + 2;
+            end = findDelimiter(pos);
+        }
+
+        length = copy(pos, end, length);
+        pos = end;
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private String readQuoted(){
+        int start = ++pos;
+        int length = 0;
+        boolean escaped = false;
+
+        while(true){
+            int quote = findQuoteOrBackslash(pos);
+            if(quote >= limit) throw malformed("has an unterminated quoted cell");
+
+            if(buffer.get(quote) == BACKSLASH){
+                if(quote + 1 >= limit) throw malformed("has an unterminated quoted cell");
+
+                // drop the backslash and keep the byte after it, whatever it is
+                length = copy(pos, quote, length);
+                length = copy(quote + 1, quote + 2, length);
+                escaped = true;
+                pos = quote + 2;
+            }
+            else if(quote + 1 < limit && buffer.get(quote + 1) == QUOTE){
+                // keep one quote of the pair and carry on inside the cell
+                length = copy(pos, quote + 1, length);
+                escaped = true;
+                pos = quote + 2;
+            }
+            else{
+                String s;
+                if(escaped){
+                    length = copy(pos, quote, length);
+                    s = new String(scratch, 0, length, StandardCharsets.UTF_8);
+                }
+                else{
+                    s = decode(start, quote);
+                }
+                pos = quote + 1;
+                return s;
+            }
+        }
+    }
+
+    private void skipCell(){
+        if(pos >= limit || buffer.get(pos) != QUOTE){
+            pos = findDelimiter(pos);
+            while(pos < limit && buffer.get(pos) == BACKSLASH){
+                if(pos + 1 >= limit || isLineBreak(pos + 1)){
+                    pos++;
+                    return;
+                }
+                pos = findDelimiter(pos + 2);
+            }
+            return;
+        }
+
+        pos++;
+        while(true){
+            int quote = findQuoteOrBackslash(pos);
+            if(quote >= limit) throw malformed("has an unterminated quoted cell");
+
+            if(buffer.get(quote) == BACKSLASH){
+                if(quote + 1 >= limit) throw malformed("has an unterminated quoted cell");
+                pos = quote + 2;
+                continue;
+            }
+
+            pos = quote + 1;
+            if(pos < limit && buffer.get(pos) == QUOTE){
+                pos++;
+            }
+            else{
+                return;
+            }
+        }
+    }
+
+    private int readValue(){
+        int start = pos;
+        int end = pos < limit && buffer.get(pos) != QUOTE ? findDelimiter(pos) : start;
+
+        if(end > start && end - start <= 9 && (end == limit || buffer.get(end) != BACKSLASH)){
+            int value = 0;
+            int i = start;
+            for(; i < end; i++){
+                int digit = buffer.get(i) - '0';
+                if(digit < 0 || digit > 9) break;
+                value = value * 10 + digit;
+            }
+            if(i == end){
+                pos = end;
+                return value;
+            }
+        }
+
+        // anything unusual (signs, quotes, overflow, junk) is handled like Question does
+        String s = readString();
+        try{
+            return Integer.parseInt(s);
+        }
+        catch(NumberFormatException e){
+            return 0;
+        }
+    }
+
+    private void comma(){
+        if(!skipComma()) throw malformed("has fewer than " + CSVFileParser.HEADER.length + " columns");
+    }
+
+    private boolean skipComma(){
+        if(pos < limit && buffer.get(pos) == COMMA){
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean atRecordEnd(){
+        return pos >= limit || isLineBreak(pos);
+    }
+
+    private boolean isLineBreak(int i){
+        return buffer.get(i) == LF || buffer.get(i) == CR;
+    }
+
+    private void endRecord(){
+        if(pos < limit && buffer.get(pos) == CR) pos++;
+        if(pos < limit && buffer.get(pos) == LF) pos++;
+    }
+
+    private void skipBlankLines(){
+        while(pos < limit && (buffer.get(pos) == LF || buffer.get(pos) == CR)){
+            pos++;
+        }
+    }
+
+    /**
+     * Returns the position of the next comma, CR, LF or backslash at or after {@code from}, or the limit if there is
+     * none.
+     */
+    private int findDelimiter(int from){
+        int i = from;
+        for(; i + Long.BYTES <= limit; i += Long.BYTES){
+            long word = buffer.getLong(i);
+            long match = zeroBytes(word ^ COMMAS) | zeroBytes(word ^ CRS) | zeroBytes(word ^ LFS)
+                    | zeroBytes(word ^ BACKSLASHES);
+            if(match != 0){
+                return i + (Long.numberOfTrailingZeros(match) >>> 3);
+            }
+        }
+        for(; i < limit; i++){
+            byte b = buffer.get(i);
+            if(b == COMMA || b == CR || b == LF || b == BACKSLASH) return i;
+        }
+        return limit;
+    }
+
+    /**
+     * Returns the position of the next quote or backslash at or after {@code from}, or the limit if there is none.
+     */
+    private int findQuoteOrBackslash(int from){
+        int i = from;
+        for(; i + Long.BYTES <= limit; i += Long.BYTES){
+            long word = buffer.getLong(i);
+            long match = zeroBytes(word ^ QUOTES) | zeroBytes(word ^ BACKSLASHES);
+            if(match != 0){
+                return i + (Long.numberOfTrailingZeros(match) >>> 3);
+            }
+        }
+        for(; i < limit; i++){
+            byte b = buffer.get(i);
+            if(b == QUOTE || b == BACKSLASH) return i;
+        }
+        return limit;
+    }
+
+    /**
+     * Sets the high bit of every zero byte in {@code x}. Bits above the lowest zero byte may be false positives,
+     * but the lowest set bit always marks the first zero byte, which is all the scans need.
+     */
+    private static long zeroBytes(long x){
+        return (x - ONES) & ~x & HIGHS;
+    }
+
+    private boolean matches(int from, byte[] expected){
+        for(int i = 0; i < expected.length; i++){
+            if(buffer.get(from + i) != expected[i]) return false;
+        }
+        return true;
+    }
+
+    private String decode(int from, int to){
+        if(array != null){
+            return new String(array, arrayOffset + from, to - from, StandardCharsets.UTF_8);
+        }
+        int length = copy(from, to, 0);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private int copy(int from, int to, int length){
+        int n = to - from;
+        if(length + n > scratch.length){
+            scratch = Arrays.copyOf(scratch, Math.max(scratch.length * 2, length + n));
+        }
+        buffer.get(from, scratch, length, n);
+        return length + n;
+    }
+
+    private UncheckedIOException malformed(String problem){
+        return new UncheckedIOException(new IOException("Row " + row + " " + problem));
+    }
+}
@@ -6,6 +6,7 @@ import com.example.model.Question;
 
 import java.util.List;
 import java.io.InputStream;
+import java.util.stream.Stream;
 
 /**
  * Context class for selecting and executing the appropriate file parser strategy.
@@ -35,6 +36,15 @@ public class FileParserContext{
         return parser.parse(inputStream);
     }
 
+    /**
+     * Lazily parses question data from the provided input stream using the selected parser strategy.
+     * @param inputStream the data source to parse
+     * @return a stream of parsed {@link Question} objects which should be closed after use
+     */
+    public Stream<Question> streamQuestions(InputStream inputStream){
+        return parser.stream(inputStream);
+    }
+
     /**
      * Returns the randomly selected file name associated with this context.
      * @return the file name used to determine the parsing strategy
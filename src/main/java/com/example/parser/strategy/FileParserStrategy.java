@@ -4,6 +4,7 @@ import com.example.model.Question;
 
 import java.util.List;
 import java.io.InputStream;
+import java.util.stream.Stream;
 
 /**
  * Defines the strategy interface for parsing question data from various file formats.
@@ -17,4 +18,16 @@ public interface FileParserStrategy{
      * @return a list of parsed {@link Question} objects
      */
     List<Question> parse(InputStream inputStream);
+
+    /**
+     * Parses question data from the given input stream lazily, one {@link Question} at a time.
+     * Strategies that can read their format incrementally override this so that large files never have to be
+     * held in memory in full; the default falls back to {@link #parse(InputStream)}.
+     * The returned stream should be closed (e.g. with try-with-resources) once the caller is done with it.
+     * @param inputStream the input stream containing file data
+     * @return a stream of parsed {@link Question} objects
+     */
+    default Stream<Question> stream(InputStream inputStream){
+        return parse(inputStream).stream();
+    }
 }
@@ -1,6 +1,7 @@
 package com.example.parser.strategy;
 
 import com.example.model.Question;
+import com.example.parser.StringPool;
 
 import org.json.simple.parser.JSONParser;
 import org.json.simple.JSONArray;
@@ -21,6 +22,23 @@ import java.io.IOException;
  * @author Nicholas Grimes
  */
 public class JSONFileParser implements FileParserStrategy{
+    private final StringPool pool;
+
+    /**
+     * Constructor to initialise {@code StringPool pool} to {@link StringPool#shared()}.
+     */
+    public JSONFileParser(){
+        this(StringPool.shared());
+    }
+
+    /**
+     * Constructor to initialise {@code StringPool pool}.
+     * @param pool the pool for repeated strings
+     */
+    public JSONFileParser(StringPool pool){
+        this.pool = pool;
+    }
+
     /**
      * Parses question data from a JSON-formatted input stream.
      * @param inputStream the JSON data stream
@@ -58,7 +76,8 @@ public class JSONFileParser implements FileParserStrategy{
 
                 String correctAnswer = (String) questionJSON.get("CorrectAnswer");
 
-                questions.add(new Question(category, value, question, options, correctAnswer));
+                questions.add(new Question(pool.canonical(category), value, question,
+                        pool.canonical(options), correctAnswer));
             }
         }
         catch(ParseException e){
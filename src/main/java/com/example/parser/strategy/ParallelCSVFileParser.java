@@ -0,0 +1,284 @@
+package com.example.parser.strategy;
+
+import com.example.model.Question;
+import com.example.parser.StringPool;
+
+import java.util.List;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Concrete class of {@link FileParserStrategy}.
+ * Parses CSV files on a {@link ForkJoinPool} so that bulk imports scale with the number of cores.
+ * The file is memory-mapped and cut into chunks at record boundaries; every chunk is then tokenized directly from
+ * the mapped bytes on its own worker, as {@link ByteCSVFileParser} does, and the results are joined in file order.
+ *
+ * <p>
+ * A newline only ends a record when it is outside quotes, so finding safe cut points needs the quote state at
+ * each candidate position. The file is first split into equal ranges whose double quotes are counted in parallel;
+ * the running parity of those counts tells whether each range starts inside a quoted cell, and from there the
+ * first real record end is found by scanning forward. Both scans follow the tokenizer's escape rules: doubled quotes
+ * ({@code ""}) come in pairs and leave the parity unchanged, and a quote after an odd run of backslashes is escaped
+ * and not counted at all.
+ *
+ * <p>
+ * Input streams cannot be mapped, so {@link #parse(InputStream)} and {@link #stream(InputStream)} read
+ * sequentially like {@link ByteCSVFileParser}. Files larger than 2 GB are read sequentially with
+ * {@link CSVFileParser}.
+ * @author Nicholas Grimes
+ */
+public class ParallelCSVFileParser implements FileParserStrategy{
+    /** Default smallest chunk handed to one worker, in bytes. */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final StringPool strings;
+    private final ByteCSVFileParser sequential;
+
+    /**
+     * Constructor to initialise a parser that runs on the common fork-join pool.
+     */
+    public ParallelCSVFileParser(){
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructor to initialise a parser that runs on the given pool.
+     * @param pool the pool chunks are parsed on
+     * @param chunkSize the smallest chunk handed to one worker, in bytes
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive
+     */
+    public ParallelCSVFileParser(ForkJoinPool pool, int chunkSize){
+        this(pool, chunkSize, StringPool.shared());
+    }
+
+    /**
+     * Constructor to initialise a parser that runs on the given pool and canonicalizes categories and options
+     * through the given string pool.
+     * @param pool the pool chunks are parsed on
+     * @param chunkSize the smallest chunk handed to one worker, in bytes
+     * @param strings the pool for repeated strings; {@link StringPool#disabled()} keeps every parsed string
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive
+     */
+    public ParallelCSVFileParser(ForkJoinPool pool, int chunkSize, StringPool strings){
+        if(chunkSize <= 0){
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+        this.strings = strings;
+        this.sequential = new ByteCSVFileParser(strings);
+    }
+
+    /**
+     * Parses question data from a CSV-formatted input stream on the calling thread.
+     * @param inputStream the CSV data stream
+     * @return a list of parsed {@link Question} objects extracted from the CSV file
+     */
+    @Override
+    public List<Question> parse(InputStream inputStream){
+        return sequential.parse(inputStream);
+    }
+
+    /**
+     * Lazily parses question data from a CSV-formatted input stream on the calling thread.
+     * @param inputStream the CSV data stream
+     * @return a stream of parsed {@link Question} objects
+     */
+    @Override
+    public Stream<Question> stream(InputStream inputStream){
+        return sequential.stream(inputStream);
+    }
+
+    /**
+     * Parses a CSV file in parallel.
+     * @param file the CSV file to parse
+     * @return the parsed {@link Question} objects in file order
+     * @throws IOException if the file cannot be read or contains a malformed row
+     * @throws IllegalArgumentException if the file is empty or has the wrong columns
+     */
+    public List<Question> parse(Path file) throws IOException{
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)){
+            long size = channel.size();
+            if(size > Integer.MAX_VALUE){
+                try(InputStream in = Channels.newInputStream(channel);
+                    Stream<Question> questions = new CSVFileParser().stream(in)){
+                    return questions.toList();
+                }
+                catch(UncheckedIOException e){
+                    throw e.getCause();
+                }
+            }
+            if(size == 0) throw new IllegalArgumentException("File is empty");
+
+            // the mapping stays valid after the channel is closed
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int dataStart = recordEnd(buffer, 0, false);
+
+            new CSVTokenizer(buffer.slice(0, dataStart)).readHeader();
+
+            int bounds[] = boundaries(buffer, dataStart);
+
+            List<Callable<List<Question>>> tasks = new ArrayList<>();
+            for(int i = 0; i + 1 < bounds.length; i++){
+                int start = bounds[i];
+                int end = bounds[i + 1];
+                tasks.add(() -> parseChunk(buffer, start, end));
+            }
+
+            List<Question> questions = new ArrayList<>();
+            for(List<Question> chunk : invokeAll(tasks)){
+                questions.addAll(chunk);
+            }
+            return questions;
+        }
+    }
+
+    /**
+     * Finds the chunk boundaries of the data section. The result starts with {@code dataStart}, ends with the file
+     * size and every value in between is the start of a record.
+     */
+    private int[] boundaries(ByteBuffer buffer, int dataStart) throws IOException{
+        int size = buffer.capacity();
+        int length = size - dataStart;
+        int chunks = (int) Math.max(1, Math.min((long) pool.getParallelism() * 4, length / chunkSize));
+
+        int starts[] = new int[chunks + 1];
+        for(int i = 0; i <= chunks; i++){
+            starts[i] = dataStart + (int) ((long) length * i / chunks);
+        }
+
+        List<Callable<Integer>> counts = new ArrayList<>();
+        for(int i = 0; i < chunks; i++){
+            int start = starts[i];
+            int end = starts[i + 1];
+            counts.add(() -> countQuotes(buffer, start, end));
+        }
+        List<Integer> quotes = invokeAll(counts);
+
+        int bounds[] = new int[chunks + 1];
+        int count = 0;
+        bounds[count++] = dataStart;
+
+        boolean inQuotes = false;
+        for(int i = 1; i < chunks; i++){
+            inQuotes ^= (quotes.get(i - 1) & 1) == 1;
+            int bound = recordEnd(buffer, starts[i], inQuotes);
+            if(bound > bounds[count - 1] && bound < size){
+                bounds[count++] = bound;
+            }
+        }
+
+        bounds[count++] = size;
+        return Arrays.copyOf(bounds, count);
+    }
+
+    /**
+     * Returns the position just after the first newline at or after {@code from} that is outside quotes,
+     * or the end of the buffer if there is none. A backslash outside quotes does not hide a newline from the
+     * tokenizer, so only quotes are affected by escapes.
+     */
+    private static int recordEnd(ByteBuffer buffer, int from, boolean inQuotes){
+        int size = buffer.capacity();
+        boolean escaped = isEscaped(buffer, from);
+        for(int i = from; i < size; i++){
+            byte b = buffer.get(i);
+            if(escaped){
+                escaped = false;
+                if(b == '\n' && !inQuotes) return i + 1;
+            }
+            else if(b == '\\'){
+                escaped = true;
+            }
+            else if(b == '"'){
+                inQuotes = !inQuotes;
+            }
+            else if(b == '\n' && !inQuotes){
+                return i + 1;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Counts the quotes between two positions that are not escaped by a backslash.
+     */
+    private static int countQuotes(ByteBuffer buffer, int start, int end){
+        int count = 0;
+        boolean escaped = isEscaped(buffer, start);
+        for(int i = start; i < end; i++){
+            byte b = buffer.get(i);
+            if(escaped){
+                escaped = false;
+            }
+            else if(b == '\\'){
+                escaped = true;
+            }
+            else if(b == '"'){
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Indicates whether the byte at {@code pos} is escaped, which is when it follows an odd run of backslashes.
+     */
+    private static boolean isEscaped(ByteBuffer buffer, int pos){
+        int i = pos;
+        while(i > 0 && buffer.get(i - 1) == '\\'){
+            i--;
+        }
+        return ((pos - i) & 1) == 1;
+    }
+
+    /**
+     * Parses the complete records between two boundaries. Boundaries always fall just after a newline byte, which
+     * can never be part of a multi-byte UTF-8 character, so every chunk decodes on its own.
+     */
+    private List<Question> parseChunk(ByteBuffer buffer, int start, int end){
+        CSVTokenizer tokenizer = new CSVTokenizer(buffer.slice(start, end - start), strings);
+        List<Question> questions = new ArrayList<>();
+        while(tokenizer.hasNext()){
+            questions.add(tokenizer.next());
+        }
+        return questions;
+    }
+
+    private <T> List<T> invokeAll(List<Callable<T>> tasks) throws IOException{
+        List<T> results = new ArrayList<>(tasks.size());
+
+        try{
+            for(Future<T> future : pool.invokeAll(tasks)){
+                results.add(future.get());
+            }
+        }
+        catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while parsing", e);
+        }
+        catch(ExecutionException e){
+            Throwable cause = e.getCause();
+            if(cause instanceof IOException io) throw io;
+            if(cause instanceof UncheckedIOException io) throw io.getCause();
+            if(cause instanceof RuntimeException re) throw re;
+            throw new IOException(cause);
+        }
+
+        return results;
+    }
+}
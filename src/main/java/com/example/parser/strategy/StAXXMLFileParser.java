@@ -0,0 +1,209 @@
+package com.example.parser.strategy;
+
+import com.example.model.Question;
+import com.example.parser.StringPool;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import java.util.List;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Concrete class of {@link FileParserStrategy}.
+ * Parses an XML file and returns a list of Question objects.
+ * Uses the StAX (Streaming API for XML) pull-parser so that each {@code QuestionItem} is read in a single
+ * forward pass and only one item is held in memory at a time, unlike the DOM approach of {@link XMLFileParser}.
+ * Expected format matches {@link XMLFileParser}.
+ * @author Nicholas Grimes
+ */
+public class StAXXMLFileParser implements FileParserStrategy{
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    private final StringPool pool;
+
+    /**
+     * Constructor to initialise {@code StringPool pool} to {@link StringPool#shared()}.
+     */
+    public StAXXMLFileParser(){
+        this(StringPool.shared());
+    }
+
+    /**
+     * Constructor to initialise {@code StringPool pool}.
+     * @param pool the pool for repeated strings
+     */
+    public StAXXMLFileParser(StringPool pool){
+        this.pool = pool;
+    }
+
+    /**
+     * Parses question data from an XML-formatted input stream.
+     * @param inputStream the XML data stream
+     * @return a list of parsed {@link Question} objects extracted from the XML file
+     */
+    @Override
+    public List<Question> parse(InputStream inputStream){
+        List<Question> questions = new ArrayList<>();
+
+        try(Stream<Question> stream = stream(inputStream)){
+            stream.forEach(questions::add);
+        }
+        catch(UncheckedIOException e){
+            e.printStackTrace();
+        }
+
+        return questions;
+    }
+
+    /**
+     * Lazily parses question data from an XML-formatted input stream.
+     * Each {@code QuestionItem} element is read from the underlying {@link XMLStreamReader} only when the
+     * stream asks for the next {@link Question}. Closing the returned stream closes the reader.
+     * @param inputStream the XML data stream
+     * @return a stream of parsed {@link Question} objects
+     * @throws UncheckedIOException if the document is malformed or cannot be read
+     */
+    @Override
+    public Stream<Question> stream(InputStream inputStream){
+        XMLStreamReader reader;
+
+        try{
+            reader = FACTORY.createXMLStreamReader(inputStream);
+        }
+        catch(XMLStreamException e){
+            throw unchecked(e);
+        }
+
+        Spliterator<Question> items = Spliterators.spliteratorUnknownSize(new ItemIterator(reader),
+                Spliterator.ORDERED | Spliterator.NONNULL);
+
+        return StreamSupport.stream(items, false).onClose(() -> closeQuietly(reader));
+    }
+
+    /**
+     * Advances the reader to the start of the next {@code QuestionItem} element.
+     * @param reader the reader to advance
+     * @return {@code true} if an item was found, {@code false} at the end of the document
+     */
+    private static boolean nextItem(XMLStreamReader reader) throws XMLStreamException{
+        while(reader.hasNext()){
+            if(reader.next() == XMLStreamConstants.START_ELEMENT && reader.getLocalName().equals("QuestionItem")){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads the children of the current {@code QuestionItem} element up to and including its end tag.
+     * @param reader a reader positioned on a {@code QuestionItem} start tag
+     * @return the parsed question
+     */
+    private Question readItem(XMLStreamReader reader) throws XMLStreamException{
+        String category = null;
+        String value = null;
+        String questionText = null;
+        String[] options = new String[4];
+        String correctAnswer = null;
+
+        int depth = 1;
+        while(depth > 0 && reader.hasNext()){
+            int event = reader.next();
+
+            if(event == XMLStreamConstants.END_ELEMENT){
+                depth--;
+                continue;
+            }
+            if(event != XMLStreamConstants.START_ELEMENT){
+                continue;
+            }
+
+            switch(reader.getLocalName()){
+                case "Category" -> category = reader.getElementText();
+                case "Value" -> value = reader.getElementText();
+                case "QuestionText" -> questionText = reader.getElementText();
+                case "OptionA" -> options[0] = reader.getElementText();
+                case "OptionB" -> options[1] = reader.getElementText();
+                case "OptionC" -> options[2] = reader.getElementText();
+                case "OptionD" -> options[3] = reader.getElementText();
+                case "CorrectAnswer" -> correctAnswer = reader.getElementText();
+                default -> depth++;
+            }
+        }
+
+        return new Question(pool.canonical(category), value, questionText, pool.canonical(options), correctAnswer);
+    }
+
+    private static XMLInputFactory createFactory(){
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    private static UncheckedIOException unchecked(XMLStreamException e){
+        return new UncheckedIOException(new IOException(e.getMessage(), e));
+    }
+
+    private static void closeQuietly(XMLStreamReader reader){
+        try{
+            reader.close();
+        }
+        catch(XMLStreamException e){
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Iterator that reads one {@code QuestionItem} ahead of the caller.
+     */
+    private class ItemIterator implements Iterator<Question>{
+        private final XMLStreamReader reader;
+        private Question next;
+        private boolean done;
+
+        ItemIterator(XMLStreamReader reader){
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext(){
+            if(next == null && !done){
+                try{
+                    if(nextItem(reader)){
+                        next = readItem(reader);
+                    }
+                    else{
+                        done = true;
+                    }
+                }
+                catch(XMLStreamException e){
+                    done = true;
+                    throw unchecked(e);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Question next(){
+            if(!hasNext()) throw new NoSuchElementException();
+
+            Question q = next;
+            next = null;
+            return q;
+        }
+    }
+}
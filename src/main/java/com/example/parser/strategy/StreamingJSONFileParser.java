@@ -0,0 +1,249 @@
+package com.example.parser.strategy;
+
+import com.example.model.Question;
+import com.example.parser.StringPool;
+
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ContentHandler;
+import org.json.simple.parser.ParseException;
+
+import java.util.List;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Concrete class of {@link FileParserStrategy}.
+ * Parses a JSON file and returns a list of Question objects.
+ * Uses the token-level {@link ContentHandler} API of the json-simple library instead of building a
+ * {@code JSONArray} of {@code JSONObject}s, so each {@link Question} is created as soon as its object is
+ * closed and no intermediate maps are kept. Expected format matches {@link JSONFileParser}.
+ * @author Nicholas Grimes
+ */
+public class StreamingJSONFileParser implements FileParserStrategy{
+    private final StringPool pool;
+
+    /**
+     * Constructor to initialise {@code StringPool pool} to {@link StringPool#shared()}.
+     */
+    public StreamingJSONFileParser(){
+        this(StringPool.shared());
+    }
+
+    /**
+     * Constructor to initialise {@code StringPool pool}.
+     * @param pool the pool for repeated strings
+     */
+    public StreamingJSONFileParser(StringPool pool){
+        this.pool = pool;
+    }
+
+    /**
+     * Parses question data from a JSON-formatted input stream.
+     * @param inputStream the JSON data stream
+     * @return a list of parsed {@link Question} objects extracted from the JSON file
+     */
+    @Override
+    public List<Question> parse(InputStream inputStream){
+        List<Question> questions = new ArrayList<>();
+
+        try(Stream<Question> stream = stream(inputStream)){
+            stream.forEach(questions::add);
+        }
+        catch(UncheckedIOException e){
+            e.printStackTrace();
+        }
+
+        return questions;
+    }
+
+    /**
+     * Lazily parses question data from a JSON-formatted input stream.
+     * The json-simple parser is paused each time a question object is closed and resumed when the stream asks
+     * for the next {@link Question}. Closing the returned stream closes the reader.
+     * @param inputStream the JSON data stream
+     * @return a stream of parsed {@link Question} objects
+     * @throws UncheckedIOException if the document is malformed or cannot be read
+     */
+    @Override
+    public Stream<Question> stream(InputStream inputStream){
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream));
+
+        Spliterator<Question> items = Spliterators.spliteratorUnknownSize(new QuestionIterator(reader),
+                Spliterator.ORDERED | Spliterator.NONNULL);
+
+        return StreamSupport.stream(items, false).onClose(() -> {
+            try{
+                reader.close();
+            }
+            catch(IOException e){
+                e.printStackTrace();
+            }
+        });
+    }
+
+    /**
+     * Iterator that resumes the parser until the next question object has been closed.
+     */
+    private class QuestionIterator implements Iterator<Question>{
+        private final BufferedReader reader;
+        private final JSONParser parser = new JSONParser();
+        private final QuestionHandler handler = new QuestionHandler();
+        private boolean started;
+
+        QuestionIterator(BufferedReader reader){
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext(){
+            while(handler.pending == null && !handler.finished){
+                try{
+                    parser.parse(reader, handler, started);
+                    started = true;
+                }
+                catch(ParseException e){
+                    handler.finished = true;
+                    throw new UncheckedIOException(new IOException("Invalid JSON: " + e, e));
+                }
+                catch(IOException e){
+                    handler.finished = true;
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return handler.pending != null;
+        }
+
+        @Override
+        public Question next(){
+            if(!hasNext()) throw new NoSuchElementException();
+
+            Question q = handler.pending;
+            handler.pending = null;
+            return q;
+        }
+    }
+
+    /**
+     * Receives parser events and assembles the fields of one question object at a time.
+     * The top-level array is at depth 1, each question object at depth 2 and its {@code Options} at depth 3.
+     * Values that are not under a known key at those depths, such as the elements of a misplaced array, are ignored.
+     */
+    private class QuestionHandler implements ContentHandler{
+        private int depth;
+        private String key;
+        private String optionKey;
+
+        private String category;
+        private String value;
+        private String questionText;
+        private String[] options;
+        private String correctAnswer;
+
+        private Question pending;
+        private boolean finished;
+
+        @Override
+        public void startJSON(){
+            depth = 0;
+        }
+
+        @Override
+        public void endJSON(){
+            finished = true;
+        }
+
+        @Override
+        public boolean startObject(){
+            depth++;
+            if(depth == 2){
+                category = null;
+                value = null;
+                questionText = null;
+                options = new String[4];
+                correctAnswer = null;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean endObject(){
+            depth--;
+            if(depth == 1){
+                pending = new Question(pool.canonical(category), value, questionText,
+                        pool.canonical(options), correctAnswer);
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean startObjectEntry(String entryKey){
+            if(depth == 2){
+                key = entryKey;
+            }
+            else if(depth == 3){
+                optionKey = entryKey;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean endObjectEntry(){
+            // a value that is not directly under a key, such as an array element, must not reuse the last key
+            if(depth == 2){
+                key = null;
+            }
+            else if(depth == 3){
+                optionKey = null;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean startArray(){
+            depth++;
+            return true;
+        }
+
+        @Override
+        public boolean endArray(){
+            depth--;
+            return true;
+        }
+
+        @Override
+        public boolean primitive(Object primitive){
+            String text = primitive == null ? null : primitive.toString();
+
+            if(depth == 2 && key != null){
+                switch(key){
+                    case "Category" -> category = text;
+                    case "Value" -> value = text;
+                    case "Question" -> questionText = text;
+                    case "CorrectAnswer" -> correctAnswer = text;
+                    default -> { }
+                }
+            }
+            else if(depth == 3 && "Options".equals(key) && optionKey != null){
+                switch(optionKey){
+                    case "A" -> options[0] = text;
+                    case "B" -> options[1] = text;
+                    case "C" -> options[2] = text;
+                    case "D" -> options[3] = text;
+                    default -> { }
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.parser.strategy;
 
 import com.example.model.Question;
+import com.example.parser.StringPool;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.NodeList;
@@ -24,6 +25,23 @@ import java.io.IOException;
  * @author Nicholas Grimes
  */
 public class XMLFileParser implements FileParserStrategy{
+    private final StringPool pool;
+
+    /**
+     * Constructor to initialise {@code StringPool pool} to {@link StringPool#shared()}.
+     */
+    public XMLFileParser(){
+        this(StringPool.shared());
+    }
+
+    /**
+     * Constructor to initialise {@code StringPool pool}.
+     * @param pool the pool for repeated strings
+     */
+    public XMLFileParser(StringPool pool){
+        this.pool = pool;
+    }
+
     /**
      * Parses question data from an XML-formatted input stream.
      * @param inputStream the XML data stream
@@ -58,7 +76,8 @@ public class XMLFileParser implements FileParserStrategy{
 
                     String correctAnswer = questionItem.getElementsByTagName("CorrectAnswer").item(0).getTextContent();
 
-                    questions.add(new Question(category, value, questionText, options, correctAnswer));
+                    questions.add(new Question(pool.canonical(category), value, questionText,
+                            pool.canonical(options), correctAnswer));
                 }
             }
         }
@@ -19,6 +19,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
@@ -112,6 +113,8 @@ public class DocxReportGenerator implements ReportGenerator {
         headerRow.getCell(2).setText("SCORE");
 
         Optional<Player> winner = findWinner(players);
+        // Sort a copy so the session's player order is left alone for other generators
+        players = new ArrayList<>(players);
         players.sort(Comparator.comparingInt(Player::getScore).reversed());
 
         for (int i = 0; i < players.size(); i++) {
@@ -24,6 +24,7 @@ import com.itextpdf.layout.properties.UnitValue;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
@@ -113,7 +114,9 @@ public class PDFReportGenerator implements  ReportGenerator {
         table.addHeaderCell(new Paragraph("SCORE").setBold().setTextAlignment(TextAlignment.RIGHT));
 
         Optional<Player> winner = findWinner(players);
-        players.sort(Comparator. comparingInt(Player::getScore).reversed());
+        // Sort a copy so the session's player order is left alone for other generators
+        players = new ArrayList<>(players);
+        players.sort(Comparator.comparingInt(Player::getScore).reversed());
 
         for(int i =0; i<players.size(); i++){
             Player p = players.get(i);
@@ -5,28 +5,32 @@
  */
 package com.example.report;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import com.example.gameplay.state.GameEngine;
 
 public class ReportExecutor {
 
+    /**
+     * Default time, in milliseconds, each generator is given when reports are run concurrently.
+     */
+    public static final long DEFAULT_TIMEOUT_MILLIS = 30_000;
+
     /**
      * Executes all ReportGenerator strategies to produce output files.
      * @param session The GameEngine object containing all final scores and turn history.
      */
     public static void executeReports(GameEngine session) {
-        List<ReportGenerator> generators = List.of(
-            new TXTReportGenerator(),
-            new PDFReportGenerator(),
-            new DocxReportGenerator()
-        );
-
-        List<String> filePaths = List.of(
-            "jeopardy_report.txt",
-            "jeopardy_report.pdf",
-            "jeopardy_report.docx"
-        );
+        List<ReportGenerator> generators = defaultGenerators();
+        List<String> filePaths = defaultFilePaths();
 
         for (int i = 0; i < generators.size(); i++) {
             ReportGenerator generator = generators.get(i);
@@ -38,4 +42,102 @@ public class ReportExecutor {
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Executes all ReportGenerator strategies at the same time, each on its own virtual thread,
+     * so the total time is that of the slowest generator rather than the sum of all of them.
+     * @param session The GameEngine object containing all final scores and turn history.
+     * @param timeoutMillis The time each generator is given before it is cancelled.
+     * @throws ReportGenerationException If any generator fails or times out. The first failure is thrown
+     *                                   and every other failure is attached to it as a suppressed exception.
+     */
+    public static void executeReportsConcurrently(GameEngine session, long timeoutMillis)
+            throws ReportGenerationException {
+        executeReportsConcurrently(session, defaultGenerators(), defaultFilePaths(), timeoutMillis);
+    }
+
+    /**
+     * Executes the given ReportGenerator strategies at the same time, each on its own virtual thread.
+     * Every generator is started immediately and given {@code timeoutMillis} from that point; a generator that
+     * is still running after its timeout is cancelled and reported as a failure. The method returns once every
+     * generator has finished, failed or been cancelled.
+     * @param session The GameEngine object containing all final scores and turn history.
+     * @param generators The generators to run.
+     * @param filePaths The output path for each generator, in the same order as {@code generators}.
+     * @param timeoutMillis The time each generator is given before it is cancelled.
+     * @throws ReportGenerationException If any generator fails or times out. The first failure is thrown
+     *                                   and every other failure is attached to it as a suppressed exception.
+     */
+    public static void executeReportsConcurrently(GameEngine session, List<ReportGenerator> generators,
+            List<String> filePaths, long timeoutMillis) throws ReportGenerationException {
+        if (generators.size() != filePaths.size()) {
+            throw new IllegalArgumentException("Expected one file path per generator");
+        }
+
+        List<ReportGenerationException> failures = new ArrayList<>();
+
+        // Not closed with try-with-resources: close() would wait for a timed-out generator that ignores interrupts.
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < generators.size(); i++) {
+                ReportGenerator generator = generators.get(i);
+                String filePath = filePaths.get(i);
+                futures.add(executor.submit(() -> {
+                    generator.generateReport(session, filePath);
+                    return null;
+                }));
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            for (int i = 0; i < futures.size(); i++) {
+                Future<Void> future = futures.get(i);
+                String name = generators.get(i).getClass().getSimpleName();
+                try {
+                    future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    future.cancel(true);
+                    failures.add(new ReportGenerationException(
+                            name + " timed out after " + timeoutMillis + " ms: " + filePaths.get(i), e));
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    failures.add(cause instanceof ReportGenerationException rge ? rge
+                            : new ReportGenerationException(name + " failed: " + cause, cause));
+                } catch (CancellationException e) {
+                    failures.add(new ReportGenerationException(name + " was cancelled", e));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    futures.forEach(f -> f.cancel(true));
+                    failures.add(new ReportGenerationException("Interrupted while generating reports", e));
+                    break;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        if (!failures.isEmpty()) {
+            ReportGenerationException first = failures.get(0);
+            for (int i = 1; i < failures.size(); i++) {
+                first.addSuppressed(failures.get(i));
+            }
+            throw first;
+        }
+    }
+
+    private static List<ReportGenerator> defaultGenerators() {
+        return List.of(
+            new TXTReportGenerator(),
+            new PDFReportGenerator(),
+            new DocxReportGenerator()
+        );
+    }
+
+    private static List<String> defaultFilePaths() {
+        return List.of(
+            "jeopardy_report.txt",
+            "jeopardy_report.pdf",
+            "jeopardy_report.docx"
+        );
+    }
+}
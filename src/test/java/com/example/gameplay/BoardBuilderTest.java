@@ -0,0 +1,88 @@
+package com.example.gameplay;
+
+import com.example.model.BoardBuilder;
+import com.example.model.Question;
+import com.example.model.QuestionCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the BoardBuilder class.
+ * Tests the shape of generated boards, that a seed always gives the same board and
+ * that categories missing a tier are never drawn.
+ *
+ * @author Mahaveer Ragbir
+ */
+public class BoardBuilderTest {
+
+    private QuestionCatalog catalog;
+
+    @BeforeEach
+    public void setup() {
+        String[] options = { "A", "B", "C", "D" };
+        List<Question> questions = new ArrayList<>();
+        for (int c = 0; c < 50; c++) {
+            // two questions per tier, so each cell has a choice
+            for (int copy = 0; copy < 2; copy++) {
+                for (int value = 100; value <= 500; value += 100) {
+                    questions.add(new Question("Category " + c, value, "Q" + c + "-" + value + "-" + copy,
+                            options, "A"));
+                }
+            }
+        }
+        // missing the 500 tier
+        for (int value = 100; value <= 400; value += 100) {
+            questions.add(new Question("Partial", value, "Partial " + value, options, "A"));
+        }
+        catalog = new QuestionCatalog(questions);
+    }
+
+    @Test
+    public void boardHasOneQuestionPerCategoryAndTier() {
+        BoardBuilder builder = new BoardBuilder(catalog);
+        QuestionCatalog board = builder.build(6, 99L);
+
+        assertEquals(50, builder.getEligibleCategoryCount());
+        assertEquals(30, board.size());
+
+        Set<String> categories = new HashSet<>();
+        for (int i = 0; i < board.size(); i++) {
+            Question q = board.get(i);
+            assertEquals(100 * (i % 5 + 1), q.getValue());
+            assertSame(q, board.findQuestion(q.getCategory(), q.getValue()));
+            assertTrue(catalog.indexOf(q) >= 0, "Boards reuse the catalog's questions");
+            categories.add(q.getCategory());
+        }
+        assertEquals(6, categories.size());
+        assertFalse(categories.contains("Partial"));
+    }
+
+    @Test
+    public void sameSeedGivesSameBoard() {
+        BoardBuilder builder = new BoardBuilder(catalog);
+
+        assertEquals(builder.build(5, 1234L).getQuestions(), builder.build(5, 1234L).getQuestions());
+        assertNotEquals(builder.build(5, 1234L).getQuestions(), builder.build(5, 4321L).getQuestions());
+    }
+
+    @Test
+    public void everyEligibleCategoryCanBeDrawn() {
+        BoardBuilder builder = new BoardBuilder(catalog, new int[] { 100, 200, 300, 400 });
+        assertEquals(51, builder.getEligibleCategoryCount());
+
+        Set<String> categories = new HashSet<>();
+        for (Question q : builder.build(51, 5L).getQuestions()) {
+            categories.add(q.getCategory());
+        }
+        assertEquals(51, categories.size());
+        assertThrows(IllegalArgumentException.class, () -> builder.build(52, 5L));
+        assertThrows(IllegalArgumentException.class, () -> new BoardBuilder(catalog, new int[] { 100, 100 }));
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.gameplay;
+
+import com.example.gameplay.buzz.BuzzInGame;
+import com.example.gameplay.buzz.BuzzInQuestion;
+import com.example.gameplay.buzz.BuzzResult;
+import com.example.gameplay.session.GameSessionHost;
+import com.example.model.GameTurn;
+import com.example.model.Player;
+import com.example.model.Question;
+import com.example.model.QuestionCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the BuzzInGame class.
+ * Tests that exactly one buzz wins each question, that late buzzes change nothing and,
+ * under heavy contention on the multi-session host, that no score update is lost.
+ *
+ * @author Mahaveer Ragbir
+ */
+public class BuzzInGameTest {
+
+    private QuestionCatalog catalog;
+
+    @BeforeEach
+    public void setup() {
+        String[] options = { "int", "double", "String", "boolean" };
+        List<Question> questions = new ArrayList<>();
+        for (String category : new String[] { "Variables", "Loops", "Arrays", "Methods" }) {
+            for (int value = 100; value <= 500; value += 100) {
+                questions.add(new Question(category, value, category + " " + value + "?", options, "B"));
+            }
+        }
+        catalog = new QuestionCatalog(questions);
+    }
+
+    @Test
+    public void firstBuzzWinsAndLateBuzzesChangeNothing() {
+        Player ana = new Player(1, "Ana");
+        Player ben = new Player(2, "Ben");
+        BuzzInGame game = new BuzzInGame(catalog, List.of(ana, ben), null, "GAME-1");
+
+        BuzzInQuestion first = game.getCurrentQuestion();
+        assertEquals(0, first.getNumber());
+        assertEquals(BuzzResult.CORRECT, game.answer(ana, 0, "b"));
+        assertEquals(BuzzResult.TOO_LATE, game.answer(ben, 0, "B"));
+        assertSame(ana, first.getWinner());
+        assertTrue(first.isResolved());
+
+        assertEquals(1, game.getCurrentQuestion().getNumber());
+        assertEquals(BuzzResult.INCORRECT, game.answer(ben, 1, "A"));
+
+        assertEquals(100, ana.getScore());
+        assertEquals(-200, ben.getScore());
+        assertEquals(1, game.getLateBuzzCount());
+        assertEquals(2, game.getTurns().size());
+        assertThrows(IllegalArgumentException.class, () -> game.answer(new Player(3, "Cy"), 2, "B"));
+
+        for (int i = 2; i < catalog.size(); i++) {
+            game.answer(ana, i, "B");
+        }
+        assertTrue(game.isFinished());
+        assertNull(game.getCurrentQuestion());
+        assertEquals(BuzzResult.TOO_LATE, game.answer(ben, catalog.size(), "B"));
+    }
+
+    @Test
+    public void concurrentScoreUpdatesAreNotLost() throws Exception {
+        Player player = new Player(1, "Ana");
+        int threads = 8;
+        int updates = 100_000;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> done = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int delta = t % 2 == 0 ? 3 : -1;
+            done.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < updates; i++) {
+                    player.updateScore(delta);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : done) {
+            f.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertEquals(threads / 2 * updates * 3 - threads / 2 * updates, player.getScore());
+    }
+
+    @Test
+    public void hostedGamesStayConsistentUnderContention() throws Exception {
+        int gameCount = 50;
+        int playersPerGame = 8;
+
+        try (GameSessionHost host = new GameSessionHost();
+                ExecutorService buzzers = Executors.newFixedThreadPool(16)) {
+            List<BuzzInGame> games = new ArrayList<>();
+            for (int g = 0; g < gameCount; g++) {
+                List<Player> players = new ArrayList<>();
+                for (int p = 0; p < playersPerGame; p++) {
+                    players.add(new Player(p + 1, "P" + p));
+                }
+                games.add(host.openBuzzInGame("BUZZ-" + g, catalog, players));
+            }
+
+            // every player keeps buzzing on whatever question is open until their game ends
+            AtomicLongArray wonPoints = new AtomicLongArray(gameCount * playersPerGame);
+            AtomicLongArray attempts = new AtomicLongArray(gameCount);
+            List<Future<?>> done = new ArrayList<>();
+            CountDownLatch start = new CountDownLatch(1);
+            for (int g = 0; g < gameCount; g++) {
+                for (int p = 0; p < playersPerGame; p++) {
+                    int game = g;
+                    int seat = p;
+                    done.add(buzzers.submit(() -> {
+                        start.await();
+                        BuzzInGame buzzIn = games.get(game);
+                        BuzzInQuestion q;
+                        while ((q = buzzIn.getCurrentQuestion()) != null) {
+                            String answer = ThreadLocalRandom.current().nextBoolean() ? "B" : "C";
+                            BuzzResult result = host.buzz("BUZZ-" + game, "P" + seat, q.getNumber(), answer);
+                            if (result == null) {
+                                break; // the game ended and was closed by the host
+                            }
+                            attempts.incrementAndGet(game);
+                            int value = q.getQuestion().getValue();
+                            if (result == BuzzResult.CORRECT) {
+                                wonPoints.addAndGet(game * playersPerGame + seat, value);
+                            } else if (result == BuzzResult.INCORRECT) {
+                                wonPoints.addAndGet(game * playersPerGame + seat, -value);
+                            }
+                        }
+                        return null;
+                    }));
+                }
+            }
+            start.countDown();
+            for (Future<?> f : done) {
+                f.get(60, TimeUnit.SECONDS);
+            }
+
+            for (int g = 0; g < gameCount; g++) {
+                BuzzInGame game = games.get(g);
+                assertTrue(game.isFinished());
+                assertNull(host.getBuzzInGame(game.getCaseId()));
+
+                List<GameTurn> turns = game.getTurns();
+                assertEquals(catalog.size(), turns.size(), "Every question is won exactly once");
+                assertEquals(catalog.size() + game.getLateBuzzCount(), attempts.get(g));
+
+                for (int i = 0; i < turns.size(); i++) {
+                    assertEquals(catalog.get(i).getQuestionText(), turns.get(i).getQuestionText());
+                }
+                for (int p = 0; p < playersPerGame; p++) {
+                    Player player = game.getPlayers().get(p);
+                    int fromTurns = turns.stream().filter(t -> t.getPlayer() == player)
+                            .mapToInt(GameTurn::getPointsEarned).sum();
+                    assertEquals(fromTurns, player.getScore());
+                    assertEquals(wonPoints.get(g * playersPerGame + p), player.getScore());
+                }
+            }
+        }
+    }
+}
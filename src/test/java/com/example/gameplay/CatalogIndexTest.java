@@ -0,0 +1,84 @@
+package com.example.gameplay;
+
+import com.example.model.CatalogIndex;
+import com.example.model.Question;
+import com.example.model.QuestionCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the CatalogIndex class.
+ * Tests that category and value-range selections match a plain scan of the questions,
+ * for both small and large categories, and the distinct-value category query.
+ *
+ * @author Mahaveer Ragbir
+ */
+public class CatalogIndexTest {
+
+    private List<Question> questions;
+    private CatalogIndex index;
+
+    @BeforeEach
+    public void setup() {
+        String[] options = { "A", "B", "C", "D" };
+        questions = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            // "Big" holds half the bank, the other categories are small
+            String category = i % 2 == 0 ? "Big" : "Small " + (i % 97);
+            questions.add(new Question(category, 100 * (1 + i % 7), "Q" + i + "?", options, "A"));
+        }
+        questions.add(new Question("Tiny", 100, "Q?", options, "A"));
+        index = new QuestionCatalog(questions).getIndex();
+    }
+
+    private BitSet scan(Set<String> categories, int min, int max) {
+        BitSet expected = new BitSet();
+        for (int i = 0; i < questions.size(); i++) {
+            Question q = questions.get(i);
+            if ((categories == null || categories.contains(q.getCategory()))
+                    && q.getValue() >= min && q.getValue() <= max) {
+                expected.set(i);
+            }
+        }
+        return expected;
+    }
+
+    @Test
+    public void selectMatchesScan() {
+        Set<String> categories = Set.of("Big", "Small 5", "Tiny");
+
+        assertEquals(scan(categories, 200, 500), index.select(categories, 200, 500));
+        assertEquals(scan(categories, 100, 100), index.select(Set.of("BIG", "small 5", "tiny"), 100, 100));
+        assertEquals(scan(null, 300, 400), index.select(null, 300, 400));
+        assertTrue(index.select(categories, 500, 200).isEmpty());
+        assertTrue(index.select(Set.of("Missing"), 0, 1000).isEmpty());
+    }
+
+    @Test
+    public void categoriesWithDistinctValues() {
+        Map<String, Set<Integer>> values = new LinkedHashMap<>();
+        for (Question q : questions) {
+            values.computeIfAbsent(q.getCategory(), k -> new HashSet<>()).add(q.getValue());
+        }
+        List<String> expected = values.entrySet().stream()
+                .filter(e -> e.getValue().size() >= 5)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        assertEquals(List.copyOf(values.keySet()), List.copyOf(index.getCategories()));
+        assertEquals(expected, index.categoriesWithDistinctValues(5));
+        assertTrue(index.categoriesWithDistinctValues(7).contains("Big"));
+        assertArrayEquals(new int[] { 100 }, index.getValues("tiny"));
+        assertEquals(0, index.getValues("Missing").length);
+    }
+}
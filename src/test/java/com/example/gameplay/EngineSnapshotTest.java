@@ -0,0 +1,166 @@
+package com.example.gameplay;
+
+import com.example.gameplay.session.GameSession;
+import com.example.gameplay.session.GameSessionHost;
+import com.example.gameplay.session.SessionCheckpointer;
+import com.example.gameplay.state.EngineSnapshot;
+import com.example.gameplay.state.GameEngine;
+import com.example.gameplay.state.GameStates;
+import com.example.model.GameTurn;
+import com.example.model.Player;
+import com.example.model.Question;
+import com.example.model.QuestionCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the EngineSnapshot class.
+ * Tests that a game restored from a snapshot carries on exactly where it was saved,
+ * that damaged or foreign snapshots are rejected and that sessions survive a host restart.
+ *
+ * @author Mahaveer Ragbir
+ */
+public class EngineSnapshotTest {
+
+    private static final PrintStream DISCARD = new PrintStream(OutputStream.nullOutputStream());
+
+    @TempDir
+    Path dir;
+
+    private QuestionCatalog catalog;
+
+    @BeforeEach
+    public void setup() {
+        String[] options = { "int", "double", "String", "boolean" };
+        List<Question> questions = new ArrayList<>();
+        for (String category : new String[] { "Variables", "Loops" }) {
+            for (int value = 100; value <= 300; value += 100) {
+                questions.add(new Question(category, value, category + " " + value + "?", options, "B"));
+            }
+        }
+        catalog = new QuestionCatalog(questions);
+    }
+
+    private static GameEngine newEngine(QuestionCatalog catalog, Deque<String> lines) {
+        List<Player> players = List.of(new Player(1, "Ana"), new Player(2, "Ben"));
+        return new GameEngine(catalog, players, null, "GAME-1", lines::poll, DISCARD);
+    }
+
+    private static void step(GameEngine engine) {
+        engine.getGameState().loadGameState(engine);
+        engine.nextGameState();
+    }
+
+    @Test
+    public void restoredEngineFinishesLikeTheOriginal() throws IOException {
+        Deque<String> lines = new ArrayDeque<>(List.of("Variables,100", "B", "Loops,300", "A", "Loops,200"));
+        GameEngine original = newEngine(catalog, lines);
+
+        // play until Ana is about to answer "Loops 200"
+        while (original.getGameState() != GameStates.ASK_QUESTION || original.getTurns().size() < 2) {
+            step(original);
+        }
+        byte[] snapshot = EngineSnapshot.capture(original);
+        assertTrue(snapshot.length < 200, "Snapshot should be compact but was " + snapshot.length + " bytes");
+
+        List<String> rest = List.of("B", "Variables,200", "B", "Variables,300", "C", "Loops,100", "B");
+        GameEngine restored = EngineSnapshot.restore(snapshot, catalog, null, new ArrayDeque<>(rest)::poll, DISCARD);
+        lines.addAll(rest);
+
+        assertSame(GameStates.ASK_QUESTION, restored.getGameState());
+        assertEquals("Ana", restored.getCurrentPlayer().getName());
+        assertSame(catalog.findQuestion("Loops", 200), restored.getCurrentQuestion());
+        assertEquals("GAME-1", restored.getCaseId());
+        assertEquals(4, restored.getBoard().getRemainingCount());
+        assertEquals(original.getTurns().get(1).getQuestionText(), restored.getTurns().get(1).getQuestionText());
+
+        for (GameEngine engine : List.of(original, restored)) {
+            while (engine.isRunning()) {
+                step(engine);
+            }
+        }
+
+        assertEquals(original.getPlayers().get(0).getScore(), restored.getPlayers().get(0).getScore());
+        assertEquals(original.getPlayers().get(1).getScore(), restored.getPlayers().get(1).getScore());
+        assertEquals(original.getTurns().size(), restored.getTurns().size());
+        for (int i = 0; i < original.getTurns().size(); i++) {
+            GameTurn a = original.getTurns().get(i);
+            GameTurn b = restored.getTurns().get(i);
+            assertEquals(a.getPlayer().getName(), b.getPlayer().getName());
+            assertEquals(a.getCategory(), b.getCategory());
+            assertEquals(a.getGivenAnswer(), b.getGivenAnswer());
+            assertEquals(a.getRunningTotal(), b.getRunningTotal());
+        }
+        assertTrue(restored.areAllQuestionsAnswered());
+    }
+
+    @Test
+    public void damagedOrForeignSnapshotsAreRejected() throws IOException {
+        GameEngine engine = newEngine(catalog, new ArrayDeque<>(List.of("Variables,100", "B")));
+        for (int i = 0; i < 6; i++) {
+            step(engine);
+        }
+        byte[] snapshot = EngineSnapshot.capture(engine);
+        assertEquals("GAME-1", EngineSnapshot.readCaseId(snapshot));
+
+        byte[] flipped = snapshot.clone();
+        flipped[flipped.length / 2] ^= 1;
+        assertThrows(IOException.class, () -> EngineSnapshot.restore(flipped, catalog, null, () -> "quit", DISCARD));
+
+        byte[] truncated = Arrays.copyOf(snapshot, snapshot.length - 3);
+        assertThrows(IOException.class, () -> EngineSnapshot.restore(truncated, catalog, null, () -> "quit", DISCARD));
+
+        QuestionCatalog other = new QuestionCatalog(catalog.getQuestions().subList(0, 5));
+        assertThrows(IOException.class, () -> EngineSnapshot.restore(snapshot, other, null, () -> "quit", DISCARD));
+    }
+
+    @Test
+    public void sessionsSurviveHostRestart() throws Exception {
+        try (SessionCheckpointer checkpointer = new SessionCheckpointer(dir, 0)) {
+            GameSession first;
+            try (GameSessionHost host = new GameSessionHost(null, checkpointer)) {
+                first = host.openSession("GAME-a", catalog, List.of(new Player(1, "Ana")), DISCARD);
+                GameSession finished = host.openSession("GAME-b", catalog, List.of(new Player(1, "Ben")), DISCARD);
+                finished.submit("quit");
+                finished.getCompletion().get(5, TimeUnit.SECONDS);
+
+                first.submit("Variables,100");
+                first.submit("B");
+                first.submit("Loops,200");
+                GameEngine running = first.getEngine();
+                while (running.getTurns().isEmpty() || running.getGameState() != GameStates.ACCEPT_ANSWER) {
+                    Thread.sleep(5);
+                }
+            }
+            assertEquals(1, checkpointer.readAll().size(), "Only the interrupted session should be saved");
+
+            try (GameSessionHost host = new GameSessionHost(null, checkpointer)) {
+                List<GameSession> restored = host.restoreSessions(catalog, DISCARD);
+                assertEquals(1, restored.size());
+                GameSession session = restored.get(0);
+                assertEquals("GAME-a", session.getCaseId());
+
+                session.submit("B");
+                session.submit("quit");
+                GameEngine engine = session.getCompletion().get(5, TimeUnit.SECONDS);
+                assertEquals(300, engine.getPlayers().get(0).getScore());
+                assertEquals(2, engine.getTurns().size());
+            }
+            assertTrue(checkpointer.readAll().isEmpty(), "A finished game should leave no snapshot");
+        }
+    }
+}
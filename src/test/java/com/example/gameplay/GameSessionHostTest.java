@@ -0,0 +1,74 @@
+package com.example.gameplay;
+
+import com.example.gameplay.session.GameSession;
+import com.example.gameplay.session.GameSessionHost;
+import com.example.gameplay.state.GameEngine;
+import com.example.model.Player;
+import com.example.model.QuestionCatalog;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the GameSessionHost class.
+ * Tests that many sessions run concurrently on one shared catalog with isolated players and boards.
+ *
+ * @author Mahaveer Ragbir
+ */
+public class GameSessionHostTest {
+
+    @Test
+    public void sessionsPlayToCompletionInIsolation() throws Exception {
+        int sessionCount = 2000;
+
+        QuestionCatalog catalog = new QuestionCatalog(TestQuestions.twoQuestions());
+
+        try (GameSessionHost host = new GameSessionHost()) {
+            List<GameSession> sessions = new ArrayList<>();
+            for (int i = 0; i < sessionCount; i++) {
+                sessions.add(host.openSession(catalog, List.of(new Player(1, "P" + i))));
+            }
+
+            for (int i = 0; i < sessionCount; i++) {
+                GameSession s = sessions.get(i);
+                s.submit("science,100");
+                s.submit("A");
+                s.submit("Science,200");
+                s.submit(i % 2 == 0 ? "B" : "C");
+            }
+
+            for (int i = 0; i < sessionCount; i++) {
+                GameEngine engine = sessions.get(i).getCompletion().get(30, TimeUnit.SECONDS);
+                int expected = i % 2 == 0 ? 300 : -100;
+                assertEquals(expected, engine.getPlayers().get(0).getScore());
+                assertEquals(2, engine.getTurns().size());
+                assertSame(catalog, engine.getBoard().getCatalog());
+                assertEquals(0, engine.getBoard().getRemainingCount());
+            }
+
+            assertEquals(0, host.getActiveSessionCount());
+        }
+    }
+
+    @Test
+    public void submitToUnknownSessionIsRejected() {
+        try (GameSessionHost host = new GameSessionHost()) {
+            assertFalse(host.submit("GAME-missing", "quit"));
+        }
+    }
+
+    @Test
+    public void closeEndsWaitingSessions() throws Exception {
+        GameSession session;
+        try (GameSessionHost host = new GameSessionHost()) {
+            session = host.openSession(TestQuestions.twoQuestions(), List.of(new Player(1, "P")));
+            assertEquals(1, host.getActiveSessionCount());
+        }
+
+        assertTrue(session.getCompletion().get(5, TimeUnit.SECONDS).getTurns().isEmpty());
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.gameplay;
+
+import com.example.gameplay.input.ScriptedInputSource;
+import com.example.gameplay.state.GameEngine;
+import com.example.gameplay.state.GameState;
+import com.example.gameplay.state.GameStates;
+import com.example.model.Player;
+import com.example.model.Question;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the GameStates registry.
+ * Tests that a game only ever moves between the shared state instances.
+ *
+ * @author Mahaveer Ragbir
+ */
+public class GameStatesTest {
+
+    @Test
+    public void transitionsReuseSharedStates() {
+        String[] options = { "A", "B", "C", "D" };
+        List<Question> questions = new ArrayList<>();
+        questions.add(new Question("Science", "100", "Q1?", options, "A"));
+        questions.add(new Question("Science", "200", "Q2?", options, "B"));
+
+        GameEngine engine = new GameEngine(questions, List.of(new Player(1, "Alice")), null, "case-1",
+                new ScriptedInputSource("bad input", "Science,100", "A", "Science,200", "D"),
+                new PrintStream(OutputStream.nullOutputStream()));
+
+        Set<GameState> shared = Set.of(GameStates.PLAYER_TURN, GameStates.SELECT_QUESTION, GameStates.ASK_QUESTION,
+                GameStates.ACCEPT_ANSWER, GameStates.CHECK_ANSWER, GameStates.UPDATE_SCORE, GameStates.GAME_OVER);
+
+        assertSame(GameStates.PLAYER_TURN, engine.getGameState());
+        while (engine.isRunning()) {
+            engine.getGameState().loadGameState(engine);
+            engine.nextGameState();
+            assertTrue(shared.contains(engine.getGameState()), "State should come from the registry");
+        }
+
+        assertSame(GameStates.GAME_OVER, engine.getGameState());
+        assertEquals(-100, engine.getPlayers().get(0).getScore());
+    }
+
+    @Test
+    public void onlyGameOverIsTerminal() {
+        assertTrue(GameStates.GAME_OVER.isTerminal());
+        assertFalse(GameStates.PLAYER_TURN.isTerminal());
+        assertFalse(GameStates.SELECT_QUESTION.isTerminal());
+    }
+}
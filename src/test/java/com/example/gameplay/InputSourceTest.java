@@ -0,0 +1,100 @@
+package com.example.gameplay;
+
+import com.example.gameplay.input.AsyncInputSource;
+import com.example.gameplay.input.ScriptedInputSource;
+import com.example.gameplay.state.GameEngine;
+import com.example.model.Player;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the InputSource implementations.
+ * Tests scripted play through the GameEngine and the asynchronous feed.
+ *
+ * @author Mahaveer Ragbir
+ */
+public class InputSourceTest {
+
+    private final PrintStream quiet = new PrintStream(OutputStream.nullOutputStream());
+
+    private void play(GameEngine engine) {
+        while (engine.isRunning()) {
+            engine.getGameState().loadGameState(engine);
+            engine.nextGameState();
+        }
+    }
+
+    @Test
+    public void scriptedInputPlaysWholeGameIncludingPlayerSetup() {
+        ScriptedInputSource script = new ScriptedInputSource(
+                "2", "Alice", "Bob",
+                "Science,100", "A",
+                "Science,200", "C");
+
+        GameEngine engine = new GameEngine(TestQuestions.twoQuestions(), null, "case-1", script, quiet);
+        play(engine);
+
+        assertEquals("Alice", engine.getPlayers().get(0).getName());
+        assertEquals(100, engine.getPlayers().get(0).getScore());
+        assertEquals(-200, engine.getPlayers().get(1).getScore());
+        assertEquals(0, script.remaining());
+    }
+
+    @Test
+    public void exhaustedScriptQuitsGame() {
+        ScriptedInputSource script = new ScriptedInputSource("1", "Alice");
+
+        GameEngine engine = new GameEngine(TestQuestions.twoQuestions(), null, "case-1", script, quiet);
+        play(engine);
+
+        assertFalse(engine.isRunning());
+        assertTrue(engine.getTurns().isEmpty());
+    }
+
+    @Test
+    public void asyncRequestCompletesWhenLineIsFed() throws Exception {
+        AsyncInputSource input = new AsyncInputSource();
+
+        CompletableFuture<String> request = input.requestLine();
+        assertFalse(request.isDone());
+
+        input.feed("Science,100");
+        assertEquals("Science,100", request.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void asyncFeedDrivesEngineOnVirtualThread() throws Exception {
+        AsyncInputSource input = new AsyncInputSource();
+        GameEngine engine = new GameEngine(TestQuestions.twoQuestions(), List.of(new Player(1, "Alice")),
+                null, "case-1", input, quiet);
+
+        Thread game = Thread.ofVirtual().start(() -> play(engine));
+
+        input.feed("science,100");
+        input.feed("A");
+        input.feed("science,200");
+        input.feed("B");
+        game.join(5000);
+
+        assertFalse(game.isAlive());
+        assertEquals(300, engine.getPlayers().get(0).getScore());
+    }
+
+    @Test
+    public void closingAsyncSourceEndsWaitingGame() throws Exception {
+        AsyncInputSource input = new AsyncInputSource();
+        CompletableFuture<String> request = input.requestLine();
+
+        input.close();
+
+        assertEquals("quit", request.get(1, TimeUnit.SECONDS));
+        assertEquals("quit", input.nextLine());
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.gameplay;
+
+import com.example.gameplay.simulation.BotStrategy;
+import com.example.gameplay.simulation.Bots;
+import com.example.gameplay.simulation.MonteCarloSimulator;
+import com.example.gameplay.simulation.SimulationResult;
+import com.example.model.Question;
+import com.example.model.QuestionCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the MonteCarloSimulator class.
+ * Tests that bot games run to completion through the real state machine, that
+ * results are reproducible for a seed and that the tallies add up.
+ *
+ * @author Mahaveer Ragbir
+ */
+public class MonteCarloSimulatorTest {
+
+    private QuestionCatalog catalog;
+
+    @BeforeEach
+    public void setup() {
+        String[] options = { "int", "double", "String", "boolean" };
+        List<Question> questions = new ArrayList<>();
+        for (String category : new String[] { "Variables", "Loops", "Arrays" }) {
+            for (int value = 100; value <= 500; value += 100) {
+                questions.add(new Question(category, value, category + " " + value + "?", options, "B"));
+            }
+        }
+        catalog = new QuestionCatalog(questions);
+    }
+
+    private SimulationResult run(List<BotStrategy> bots, long games, long seed) {
+        try (ForkJoinPool pool = new ForkJoinPool(2)) {
+            return new MonteCarloSimulator(catalog, bots, pool, 16, 500).run(games, seed);
+        }
+    }
+
+    @Test
+    public void perfectBotAlwaysBeatsHopelessBot() {
+        SimulationResult result = run(List.of(Bots.random(1.0), Bots.highestValue(0.0)), 200, 42);
+
+        assertEquals(200, result.getGames());
+        assertEquals(200, result.getWins(0));
+        assertEquals(1.0, result.getWinRate(0));
+        assertEquals(0, result.getUnfinishedGames());
+
+        for (int i = 0; i < catalog.size(); i++) {
+            assertEquals(200, result.getTimesAsked(i), "Every question is asked once per game");
+        }
+        long histogramGames = result.getScoreHistogram(1).values().stream().mapToLong(Long::longValue).sum();
+        assertEquals(200, histogramGames);
+        assertTrue(result.getMaxScore(1) < 0);
+    }
+
+    @Test
+    public void sameSeedGivesSameResult() {
+        List<BotStrategy> bots = List.of(Bots.random(0.6), Bots.lowestValue(0.6), Bots.highestValue(0.6));
+
+        SimulationResult first = run(bots, 300, 7);
+        SimulationResult second = run(bots, 300, 7);
+
+        for (int seat = 0; seat < 3; seat++) {
+            assertEquals(first.getWins(seat), second.getWins(seat));
+            assertEquals(first.getMeanScore(seat), second.getMeanScore(seat));
+            assertEquals(first.getScoreHistogram(seat), second.getScoreHistogram(seat));
+        }
+        for (int i = 0; i < catalog.size(); i++) {
+            assertEquals(first.getTimesCorrect(i), second.getTimesCorrect(i));
+        }
+        assertEquals(300, first.getWins(0) + first.getWins(1) + first.getWins(2) + first.getTies());
+    }
+
+    @Test
+    public void unreachableQuestionsEndTheGame() {
+        String[] options = { "a", "b", "c", "d" };
+        catalog = new QuestionCatalog(List.of(
+                new Question("Science", 100, "Q1?", options, "A"),
+                new Question("Science", 100, "Duplicate?", options, "A"),
+                new Question("Loops, Arrays", 200, "Comma?", options, "A")));
+
+        SimulationResult result = run(List.of(Bots.random(0.5)), 50, 1);
+
+        assertEquals(50, result.getGames());
+        assertEquals(50, result.getUnfinishedGames());
+        assertEquals(50, result.getTimesAsked(0));
+        assertEquals(0, result.getTimesAsked(1));
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.gameplay;
+
+import com.example.model.Question;
+import com.example.model.QuestionBoard;
+import com.example.model.QuestionCatalog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the QuestionBoard class.
+ * Tests indexed lookup, the remaining question count, the available question listing
+ * and that boards sharing one catalog keep separate picked state.
+ *
+ * @author Mahaveer Ragbir
+ */
+public class QuestionBoardTest {
+
+    private List<Question> questions;
+    private QuestionBoard board;
+
+    @BeforeEach
+    public void setup() {
+        String[] options = { "A", "B", "C", "D" };
+        questions = new ArrayList<>();
+        questions.add(new Question("Science", "100", "Q1?", options, "A"));
+        questions.add(new Question("Science", "200", "Q2?", options, "B"));
+        questions.add(new Question("History", "100", "Q3?", options, "C"));
+        board = new QuestionBoard(questions);
+    }
+
+    @Test
+    public void findQuestionIgnoresCategoryCase() {
+        assertSame(questions.get(1), board.findQuestion("sCIENCE", 200));
+    }
+
+    @Test
+    public void findQuestionReturnsNullWhenMissing() {
+        assertNull(board.findQuestion("Science", 300));
+        assertNull(board.findQuestion("Geography", 100));
+    }
+
+    @Test
+    public void markPickedUpdatesRemainingCount() {
+        assertEquals(3, board.getRemainingCount());
+
+        board.markPicked(questions.get(0));
+        board.markPicked(questions.get(0));
+
+        assertEquals(2, board.getRemainingCount());
+        assertFalse(board.getAvailableQuestions().contains(questions.get(0)));
+    }
+
+    @Test
+    public void availableQuestionsKeepLoadOrder() {
+        board.markPicked(questions.get(1));
+
+        List<Question> available = new ArrayList<>(board.getAvailableQuestions());
+        assertEquals(List.of(questions.get(0), questions.get(2)), available);
+    }
+
+    @Test
+    public void boardIsEmptyOnceAllQuestionsArePicked() {
+        for (Question q : questions) {
+            board.markPicked(q);
+        }
+
+        assertEquals(0, board.getRemainingCount());
+        assertTrue(board.getAvailableQuestions().isEmpty());
+    }
+
+    @Test
+    public void boardsSharingCatalogAreIndependent() {
+        QuestionCatalog catalog = new QuestionCatalog(questions);
+        QuestionBoard first = new QuestionBoard(catalog);
+        QuestionBoard second = new QuestionBoard(catalog);
+
+        first.markPicked(catalog.get(0));
+
+        assertTrue(first.isPicked(catalog.get(0)));
+        assertFalse(second.isPicked(catalog.get(0)));
+        assertEquals(2, first.getRemainingCount());
+        assertEquals(3, second.getRemainingCount());
+    }
+
+    @Test
+    public void catalogCopiesEvenAnUnmodifiableView() {
+        QuestionCatalog catalog = new QuestionCatalog(Collections.unmodifiableList(questions));
+
+        questions.set(0, questions.get(2));
+
+        assertEquals("Q1?", catalog.get(0).getQuestionText(), "Changing the source list must not change the catalog");
+        assertNotSame(questions, catalog.getQuestions());
+    }
+
+    @Test
+    public void questionFromAnotherCatalogIsRejected() {
+        Question other = new Question("Science", "100", "Q1?", new String[] { "A" }, "A");
+        assertThrows(IllegalArgumentException.class, () -> board.markPicked(other));
+    }
+
+    @Test
+    public void availableQuestionsCanBeFilteredByCategoryAndValue() {
+        board.markPicked(questions.get(0));
+
+        assertEquals(List.of(questions.get(1)), board.getAvailableQuestions(List.of("science"), 0, 500));
+        assertEquals(List.of(questions.get(2)), board.getAvailableQuestions(null, 100, 100));
+        assertTrue(board.getAvailableQuestions(List.of("Art"), 0, 500).isEmpty());
+    }
+}
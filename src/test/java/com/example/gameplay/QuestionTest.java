@@ -1,8 +1,12 @@
 package com.example.gameplay;
 
 import com.example.model.Question;
+import com.example.model.QuestionBoard;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
+
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -51,13 +55,15 @@ public class QuestionTest {
 
     @Test
     public void questionStartsUnpicked() {
-        assertFalse(question.hasBeenPicked());
+        QuestionBoard board = new QuestionBoard(List.of(question));
+        assertFalse(board.isPicked(question));
     }
 
     @Test
     public void markPickedSetsQuestionAsPicked() {
-        question.markPicked();
-        assertTrue(question.hasBeenPicked());
+        QuestionBoard board = new QuestionBoard(List.of(question));
+        board.markPicked(question);
+        assertTrue(board.isPicked(question));
     }
 
     @Test
@@ -65,4 +71,21 @@ public class QuestionTest {
         Question invalidQuestion = new Question("Math", "invalid", "Test?", options, "Answer");
         assertEquals(0, invalidQuestion.getValue());
     }
+
+    @Test
+    public void correctAnswerRoundTrips() {
+        String[] types = { "int", "double", "String", "boolean" };
+
+        Question label = new Question("Types", 100, "Q?", types, "C");
+        assertEquals("C", label.getCorrectAnswer());
+        assertEquals(2, label.getCorrectAnswerIndex());
+
+        Question text = new Question("Types", 100, "Q?", types, "boolean");
+        assertEquals("boolean", text.getCorrectAnswer());
+        assertEquals(3, text.getCorrectAnswerIndex());
+
+        Question other = new Question("Types", 100, "Q?", types, "float");
+        assertEquals("float", other.getCorrectAnswer());
+        assertEquals(-1, other.getCorrectAnswerIndex());
+    }
 }
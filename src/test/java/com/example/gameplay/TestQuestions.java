@@ -0,0 +1,30 @@
+package com.example.gameplay;
+
+import com.example.model.Question;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Question fixtures shared by the game play tests.
+ *
+ * @author Mahaveer Ragbir
+ */
+final class TestQuestions {
+
+    private TestQuestions() {
+    }
+
+    /**
+     * Returns a fresh two-question game: Science 100 (answer A) and Science 200 (answer B).
+     *
+     * @return a modifiable list of the two questions
+     */
+    static List<Question> twoQuestions() {
+        String[] options = { "A", "B", "C", "D" };
+        List<Question> questions = new ArrayList<>();
+        questions.add(new Question("Science", "100", "Q1?", options, "A"));
+        questions.add(new Question("Science", "200", "Q2?", options, "B"));
+        return questions;
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AsyncCSVEventLogger class.
+ * Tests header creation, batched writing, flushing on close and that no event is lost
+ * when the logger is closed while events are still being published.
+ * 
+ * @author Mahaveer Ragbir
+ */
+public class AsyncCSVEventLoggerTest {
+
+    private String testFile = "test_async_log.csv";
+
+    @AfterEach
+    public void cleanup() {
+        new File(testFile).delete();
+    }
+
+    @Test
+    public void closeWritesAllQueuedEvents() throws Exception {
+        AsyncCSVEventLogger logger = new AsyncCSVEventLogger(testFile);
+
+        for (int i = 0; i < 1000; i++) {
+            logger.onEvent(new EventRecord(
+                    "case-1", "player-" + i, "SELECT_QUESTION",
+                    Instant.now(), "Science", 100, null, null, i));
+        }
+        logger.close();
+
+        List<String> lines = Files.readAllLines(Paths.get(testFile));
+        assertEquals(1001, lines.size(), "Header plus one line per event");
+        assertTrue(lines.get(0).startsWith("Case_ID,Player_ID"), "Header should be written first");
+        assertTrue(lines.get(1).contains("player-0"), "Events should keep publish order");
+        assertTrue(lines.get(1000).contains("player-999"), "Last event should be flushed on close");
+        assertEquals(0, logger.getDroppedCount());
+    }
+
+    @Test
+    public void eventsAreFlushedWithinFlushInterval() throws Exception {
+        try (AsyncCSVEventLogger logger = new AsyncCSVEventLogger(testFile, 16, 10,
+                AsyncCSVEventLogger.OverflowPolicy.BLOCK)) {
+            logger.onEvent(new EventRecord(
+                    "case-1", null, "START_GAME",
+                    Instant.now(), null, null, null, null, null));
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (Files.readAllLines(Paths.get(testFile)).size() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            List<String> lines = Files.readAllLines(Paths.get(testFile));
+            assertEquals(2, lines.size(), "Event should be flushed without closing the logger");
+            assertTrue(lines.get(1).contains("START_GAME"));
+        }
+    }
+
+    @Test
+    public void eventsAfterCloseAreDropped() throws Exception {
+        AsyncCSVEventLogger logger = new AsyncCSVEventLogger(testFile);
+        logger.close();
+
+        logger.onEvent(new EventRecord(
+                "case-1", null, "TEST",
+                Instant.now(), null, null, null, null, null));
+
+        assertEquals(1, logger.getDroppedCount());
+        assertEquals(1, Files.readAllLines(Paths.get(testFile)).size());
+    }
+
+    @Test
+    public void everyEventIsWrittenOrDroppedWhenClosedDuringPublishing() throws Exception {
+        AsyncCSVEventLogger logger = new AsyncCSVEventLogger(testFile, 64, 10,
+                AsyncCSVEventLogger.OverflowPolicy.BLOCK);
+        int threads = 4;
+        int perThread = 5000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> publishers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread publisher = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    logger.onEvent(new EventRecord(
+                            "case-1", null, "TEST",
+                            Instant.now(), null, null, null, null, i));
+                }
+            });
+            publisher.start();
+            publishers.add(publisher);
+        }
+
+        start.countDown();
+        Thread.sleep(5);
+        logger.close();
+        for (Thread publisher : publishers) {
+            publisher.join();
+        }
+
+        long written = Files.readAllLines(Paths.get(testFile)).size() - 1;
+        assertEquals(threads * perThread, written + logger.getDroppedCount(),
+                "Every event should be either written or counted as dropped");
+    }
+
+    @Test
+    public void blockPolicyGivesUpAfterTimeout() throws Exception {
+        AsyncCSVEventLogger logger = new AsyncCSVEventLogger(testFile, 1, 10,
+                AsyncCSVEventLogger.OverflowPolicy.BLOCK, 50);
+        // stop the writer thread so nothing ever makes room in the queue
+        for (Thread t : Thread.getAllStackTraces().keySet()) {
+            if (t.getName().equals("csv-event-logger")) {
+                t.interrupt();
+                t.join();
+            }
+        }
+
+        logger.onEvent(new EventRecord("case-1", null, "TEST", Instant.now(), null, null, null, null, null));
+        long before = System.nanoTime();
+        logger.onEvent(new EventRecord("case-1", null, "TEST", Instant.now(), null, null, null, null, null));
+
+        assertTrue(System.nanoTime() - before < 5_000_000_000L, "A full queue should not block forever");
+        assertEquals(1, logger.getDroppedCount());
+        logger.close();
+    }
+}
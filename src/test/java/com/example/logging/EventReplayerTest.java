@@ -0,0 +1,149 @@
+package com.example.logging;
+
+import com.example.gameplay.state.GameEngine;
+import com.example.model.GameTurn;
+import com.example.model.Player;
+import com.example.model.Question;
+import com.example.model.QuestionCatalog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for EventReplayer class.
+ * Tests that replaying a game's events, live or from a CSV log, rebuilds the same
+ * scores and turn history as the engine that played it.
+ *
+ * @author Mahaveer Ragbir
+ */
+public class EventReplayerTest {
+
+    @TempDir
+    Path dir;
+
+    private static QuestionCatalog newCatalog() {
+        String[] options = { "int", "double", "String", "boolean" };
+        List<Question> questions = new ArrayList<>();
+        questions.add(new Question("Variables", 100, "Q1?", options, "B"));
+        questions.add(new Question("Variables", 200, "Q2?", options, "B"));
+        questions.add(new Question("Loops & Arrays", 300, "Q3?", options, "B"));
+        return new QuestionCatalog(questions);
+    }
+
+    private static void assertSameGame(GameEngine engine, SessionReplay replay) {
+        assertEquals(engine.getPlayers().size(), replay.getPlayers().size());
+        for (Player p : engine.getPlayers()) {
+            assertEquals(p.getScore(), replay.getPlayer(p.getName()).getScore());
+        }
+
+        assertEquals(engine.getTurns().size(), replay.getTurns().size());
+        for (int i = 0; i < engine.getTurns().size(); i++) {
+            GameTurn expected = engine.getTurns().get(i);
+            GameTurn actual = replay.getTurns().get(i);
+            assertEquals(expected.getPlayer().getName(), actual.getPlayer().getName());
+            assertEquals(expected.getCategory(), actual.getCategory());
+            assertEquals(expected.getQuestionValue(), actual.getQuestionValue());
+            assertEquals(expected.getQuestionText(), actual.getQuestionText());
+            assertEquals(expected.getGivenAnswer(), actual.getGivenAnswer());
+            assertEquals(expected.isCorrect(), actual.isCorrect());
+            assertEquals(expected.getPointsEarned(), actual.getPointsEarned());
+            assertEquals(expected.getRunningTotal(), actual.getRunningTotal());
+        }
+        assertEquals(0, replay.getScoreMismatches());
+    }
+
+    @Test
+    public void replayMatchesPlayedGame() throws Exception {
+        QuestionCatalog catalog = newCatalog();
+        Path log = dir.resolve("events.csv");
+        EventReplayer live = new EventReplayer(catalog);
+
+        SimpleEventPublisher publisher = new SimpleEventPublisher();
+        publisher.registerListener(live);
+        GameEngine engine;
+        try (AsyncCSVEventLogger logger = new AsyncCSVEventLogger(log.toString())) {
+            publisher.registerListener(logger);
+
+            Deque<String> lines = new ArrayDeque<>(List.of(
+                    "Variables,100", "B", "Loops & Arrays,300", "A, or maybe C", "Variables,200", "B"));
+            List<Player> players = List.of(new Player(1, "Ana"), new Player(2, "Ben"));
+            engine = new GameEngine(catalog, players, publisher, "GAME-1", lines::poll,
+                    new PrintStream(OutputStream.nullOutputStream()));
+            while (engine.isRunning()) {
+                engine.getGameState().loadGameState(engine);
+                engine.nextGameState();
+            }
+            engine.getGameState().loadGameState(engine);
+        }
+
+        assertEquals(3, engine.getTurns().size());
+        assertSameGame(engine, live.getSession("GAME-1"));
+        assertTrue(live.getSession("GAME-1").isFinished());
+
+        EventReplayer fromCsv = new EventReplayer(catalog).replayCsv(log);
+        assertSameGame(engine, fromCsv.getSession("GAME-1"));
+        assertEquals(live.getEventCount(), fromCsv.getEventCount());
+        assertEquals("Ana", fromCsv.getSession("GAME-1").getPlayers().get(0).getName());
+    }
+
+    @Test
+    public void interleavedGamesAreKeptApart() {
+        Instant now = Instant.now();
+        List<EventRecord> events = List.of(
+                new EventRecord("A", "Ana", "PLAYER_TURN_START", now, null, null, null, null, 0),
+                new EventRecord("B", "Ben", "PLAYER_TURN_START", now, null, null, null, null, 0),
+                new EventRecord("A", "Ana", "SCORE_UPDATED", now, "Science", 200, "A", "CORRECT", 200),
+                new EventRecord("B", "Ben", "SCORE_UPDATED", now, "Science", 200, "C", "INCORRECT", -200),
+                new EventRecord("B", "Ben", "RESUME_GAME", now, null, null, null, null, null),
+                new EventRecord("A", "Ana", "SCORE_UPDATED", now, "Science", 100, "B", "INCORRECT", 500));
+
+        EventReplayer replayer = new EventReplayer().replay(events);
+
+        assertEquals(2, replayer.getSessions().size());
+        assertEquals(100, replayer.getSession("A").getPlayer("Ana").getScore());
+        assertEquals(-200, replayer.getSession("B").getPlayer("Ben").getScore());
+        assertEquals(1, replayer.getSession("A").getScoreMismatches(), "The logged 500 should be flagged");
+        assertEquals(1, replayer.getSession("B").getResumeCount());
+        assertNull(replayer.getSession("A").getTurns().get(0).getQuestionText());
+        assertFalse(replayer.getSession("A").isFinished());
+    }
+
+    @Test
+    public void unquotedCommasAreRecovered() throws Exception {
+        String csv = CSVEventLogger.HEADER
+                + "A,Ana,SCORE_UPDATED,2024-01-01T00:00:00Z,Loops, Arrays,100,B, or C,CORRECT,100\n"
+                + "A,,GENERATE_REPORT,2024-01-01T00:00:00Z,,,,,\n";
+
+        SessionReplay replay = new EventReplayer().replayCsv(new StringReader(csv)).getSession("A");
+
+        GameTurn turn = replay.getTurns().get(0);
+        assertEquals("Loops, Arrays", turn.getCategory());
+        assertEquals(100, turn.getQuestionValue());
+        assertEquals("B, or C", turn.getGivenAnswer());
+        assertEquals(100, replay.getPlayer("Ana").getScore());
+        assertTrue(replay.isFinished());
+    }
+
+    @Test
+    public void malformedCsvLineIsReported() {
+        String csv = CSVEventLogger.HEADER
+                + "A,Ana,SCORE_UPDATED,2024-01-01T00:00:00Z,Science,100,B,CORRECT,100\n"
+                + "A,Ana,SCORE_UPDATED,2024-01-01T00:00:00Z,Science,lots,B,CORRECT,100\n";
+
+        UncheckedIOException e = assertThrows(UncheckedIOException.class,
+                () -> new EventReplayer().replayCsv(new StringReader(csv)));
+        assertTrue(e.getCause().getMessage().contains("line 3"));
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.parser;
+
+import com.example.model.Question;
+import com.example.model.QuestionCatalog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the BankCache class.
+ * Tests hits and misses, single-flight loading, eviction, reloading changed sources
+ * and that QuestionLoader reuses cached banks.
+ *
+ * @author Mahaveer Ragbir
+ */
+public class BankCacheTest {
+
+    @TempDir
+    Path dir;
+
+    private QuestionCatalog catalog(int size) {
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            questions.add(new Question("Science", String.valueOf(i), "Q?", new String[] { "A" }, "A"));
+        }
+        return new QuestionCatalog(questions);
+    }
+
+    @Test
+    public void secondRequestIsServedFromCache() throws Exception {
+        BankCache cache = new BankCache();
+        AtomicInteger loads = new AtomicInteger();
+
+        QuestionCatalog first = cache.get("bank", "v1", () -> { loads.incrementAndGet(); return catalog(2); });
+        QuestionCatalog second = cache.get("bank", "v1", () -> { loads.incrementAndGet(); return catalog(2); });
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getStats().getHits());
+        assertEquals(1, cache.getStats().getMisses());
+    }
+
+    @Test
+    public void changedVersionIsReloaded() throws Exception {
+        BankCache cache = new BankCache();
+
+        QuestionCatalog first = cache.get("bank", "v1", () -> catalog(2));
+        QuestionCatalog second = cache.get("bank", "v2", () -> catalog(3));
+
+        assertNotSame(first, second);
+        assertEquals(1, cache.size());
+        assertEquals(3, cache.getCachedQuestionCount());
+    }
+
+    @Test
+    public void concurrentMissesLoadOnce() throws Exception {
+        BankCache cache = new BankCache();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        QuestionCatalog expected = catalog(2);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<QuestionCatalog>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                results.add(executor.submit(() -> cache.get("bank", "v1", () -> {
+                    loads.incrementAndGet();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        throw new IOException(e);
+                    }
+                    return expected;
+                })));
+            }
+
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<QuestionCatalog> result : results) {
+                assertSame(expected, result.get(5, TimeUnit.SECONDS));
+            }
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(99, cache.getStats().getHits());
+    }
+
+    @Test
+    public void leastRecentlyUsedBankIsEvicted() throws Exception {
+        BankCache cache = new BankCache(5);
+
+        cache.get("a", "v1", () -> catalog(2));
+        cache.get("b", "v1", () -> catalog(2));
+        cache.get("a", "v1", () -> catalog(2));
+        cache.get("c", "v1", () -> catalog(2));
+
+        assertEquals(2, cache.size());
+        assertEquals(4, cache.getCachedQuestionCount());
+        assertEquals(1, cache.getStats().getEvictions());
+
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("a", "v1", () -> { loads.incrementAndGet(); return catalog(2); });
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    public void bankLargerThanBoundIsReturnedButNotKept() throws Exception {
+        BankCache cache = new BankCache(2);
+        cache.get("small", "v1", () -> catalog(1));
+
+        QuestionCatalog big = cache.get("big", "v1", () -> catalog(5));
+
+        assertEquals(5, big.size());
+        assertEquals(1, cache.size(), "Only the small bank should be kept");
+        assertEquals(1, cache.getCachedQuestionCount());
+        assertEquals(0, cache.getStats().getEvictions(), "Other banks should not be evicted for it");
+
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("big", "v1", () -> { loads.incrementAndGet(); return catalog(5); });
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void failedLoadIsNotCached() throws Exception {
+        BankCache cache = new BankCache();
+
+        assertThrows(IOException.class, () -> cache.get("bank", "v1", () -> { throw new IOException("boom"); }));
+        QuestionCatalog loaded = cache.get("bank", "v1", () -> catalog(1));
+
+        assertEquals(1, loaded.size());
+        assertEquals(1, cache.getStats().getLoadFailures());
+        assertEquals(2, cache.getStats().getMisses());
+    }
+
+    @Test
+    public void questionLoaderReusesUnchangedFile() throws Exception {
+        Path csv = dir.resolve("bank.csv");
+        try (InputStream in = getClass().getResourceAsStream("/sample_game_CSV.csv")) {
+            Files.copy(in, csv);
+        }
+        QuestionLoader loader = new QuestionLoader();
+
+        QuestionCatalog first = loader.loadCatalog(csv);
+        QuestionCatalog second = new QuestionLoader().loadCatalog(csv);
+        assertSame(first, second);
+
+        Files.setLastModifiedTime(csv, FileTime.fromMillis(Files.getLastModifiedTime(csv).toMillis() + 60_000));
+        assertNotSame(first, loader.loadCatalog(csv));
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.parser;
+
+import com.example.model.QuestionBoard;
+import com.example.model.QuestionCatalog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BankReloader class.
+ * Tests that edited banks are published as new snapshots, that existing snapshots
+ * are left untouched and that a broken edit keeps the previous snapshot.
+ *
+ * @author Mahaveer Ragbir
+ */
+public class BankReloaderTest {
+
+    private static final String HEADER = "Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n";
+
+    @TempDir
+    Path dir;
+
+    private static String rows(int count) {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < count; i++) {
+            csv.append("Science,").append(100 * (i + 1)).append(",Question ").append(i).append("?,a,b,c,d,A\n");
+        }
+        return csv.toString();
+    }
+
+    @Test
+    public void editedBankIsPublishedWhileOldSnapshotIsKept() throws Exception {
+        Path file = dir.resolve("bank.csv");
+        Files.writeString(file, rows(2));
+
+        try (BankReloader reloader = new BankReloader(file, 50)) {
+            BlockingQueue<QuestionCatalog> published = new ArrayBlockingQueue<>(8);
+            reloader.addListener(published::add);
+
+            QuestionCatalog before = reloader.current();
+            QuestionBoard inFlight = new QuestionBoard(before);
+            inFlight.markPicked(inFlight.findQuestion("Science", 100));
+
+            // replace the file the way most editors save it
+            Path temp = dir.resolve("bank.csv.tmp");
+            Files.writeString(temp, rows(3));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+
+            QuestionCatalog after = published.poll(10, TimeUnit.SECONDS);
+            assertNotNull(after, "The edit should have been published");
+            assertSame(after, reloader.current());
+            assertEquals(3, after.size());
+            assertEquals(1, reloader.getGeneration());
+
+            assertEquals(2, before.size());
+            assertSame(before, inFlight.getCatalog());
+            assertEquals(1, inFlight.getRemainingCount());
+        }
+    }
+
+    @Test
+    public void brokenEditKeepsPreviousSnapshot() throws Exception {
+        Path file = dir.resolve("bank.csv");
+        Files.writeString(file, rows(2));
+
+        // a long quiet period keeps the watcher out of the way of the manual reloads
+        try (BankReloader reloader = new BankReloader(file, 60_000)) {
+            QuestionCatalog before = reloader.current();
+
+            Files.writeString(file, "Wrong,Header\n1,2\n");
+
+            assertThrows(IllegalArgumentException.class, reloader::reload);
+            assertSame(before, reloader.current());
+            assertNotNull(reloader.getLastFailure());
+
+            Files.writeString(file, rows(4));
+            assertEquals(4, reloader.reload().size());
+            assertNull(reloader.getLastFailure());
+        }
+    }
+
+    @Test
+    public void unchangedFileDoesNotPublish() throws Exception {
+        Path file = dir.resolve("bank.csv");
+        Files.writeString(file, rows(2));
+
+        try (BankReloader reloader = new BankReloader(file, 50)) {
+            QuestionCatalog before = reloader.current();
+
+            assertSame(before, reloader.reload());
+            assertEquals(0, reloader.getGeneration());
+        }
+    }
+
+    @Test
+    public void sameSizeEditWithinTimestampResolutionIsPublished() throws Exception {
+        Path file = dir.resolve("bank.csv");
+        Files.writeString(file, rows(2));
+
+        try (BankReloader reloader = new BankReloader(file, 60_000)) {
+            QuestionCatalog before = reloader.current();
+            FileTime modified = Files.getLastModifiedTime(file);
+
+            // same length, and the modification time put back as a coarse file system would leave it
+            Files.writeString(file, rows(2).replace("Question 1?", "Question 9?"));
+            Files.setLastModifiedTime(file, modified);
+
+            QuestionCatalog after = reloader.reload();
+            assertNotSame(before, after);
+            assertEquals("Question 9?", after.findQuestion("Science", 200).getQuestionText());
+            assertEquals(1, reloader.getGeneration());
+            assertSame(after, new QuestionLoader().loadCatalog(file), "The stale cache entry should be replaced");
+        }
+    }
+}
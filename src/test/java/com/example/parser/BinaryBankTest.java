@@ -0,0 +1,140 @@
+package com.example.parser;
+
+import com.example.model.LazyQuestion;
+import com.example.model.Question;
+import com.example.model.QuestionCatalog;
+import com.example.parser.binary.BankCompiler;
+import com.example.parser.binary.BinaryQuestionBank;
+import com.example.parser.strategy.BinaryFileParser;
+import com.example.parser.strategy.CSVFileParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BankCompiler and BinaryQuestionBank classes.
+ * Tests that a compiled bank round-trips the sample CSV file and rejects corrupt data.
+ *
+ * @author Mahaveer Ragbir
+ */
+public class BinaryBankTest {
+
+    @TempDir
+    Path dir;
+
+    private List<Question> sample() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/sample_game_CSV.csv")) {
+            return new CSVFileParser().parse(in);
+        }
+    }
+
+    private Path compileSample() throws IOException {
+        Path output = dir.resolve("bank.jqb");
+        BankCompiler.compile(sample().stream(), output);
+        return output;
+    }
+
+    @Test
+    public void compiledBankMatchesCsv() throws Exception {
+        List<Question> expected = sample();
+        List<Question> actual = BinaryQuestionBank.open(compileSample()).questions();
+
+        assertFalse(actual.isEmpty(), "Sample file should contain questions");
+        assertEquals(expected.size(), actual.size());
+
+        for (int i = 0; i < expected.size(); i++) {
+            Question e = expected.get(i);
+            Question a = actual.get(i);
+            assertEquals(e.getCategory(), a.getCategory());
+            assertEquals(e.getValue(), a.getValue());
+            assertEquals(e.getQuestionText(), a.getQuestionText());
+            assertArrayEquals(e.getOptions(), a.getOptions());
+            assertEquals(e.getCorrectAnswer(), a.getCorrectAnswer());
+        }
+    }
+
+    @Test
+    public void questionsAreCreatedOnce() throws Exception {
+        BinaryQuestionBank bank = BinaryQuestionBank.open(compileSample());
+        assertSame(bank.question(0), bank.questions().get(0));
+    }
+
+    @Test
+    public void findQuestionUsesIndexIgnoringCase() throws Exception {
+        Question first = sample().get(0);
+        BinaryQuestionBank bank = BinaryQuestionBank.open(compileSample());
+
+        Question found = bank.findQuestion(first.getCategory().toUpperCase(), first.getValue());
+
+        assertNotNull(found);
+        assertEquals(first.getQuestionText(), found.getQuestionText());
+        assertNull(bank.findQuestion(first.getCategory(), 12345));
+        assertNull(bank.findQuestion("No such category", first.getValue()));
+    }
+
+    @Test
+    public void compilesFromFileAndLoadsThroughQuestionLoader() throws Exception {
+        Path csv = dir.resolve("bank.csv");
+        try (InputStream in = getClass().getResourceAsStream("/sample_game_CSV.csv")) {
+            Files.copy(in, csv);
+        }
+        Path jqb = dir.resolve("bank.jqb");
+
+        int count = BankCompiler.compile(csv, jqb);
+
+        assertEquals(sample().size(), count);
+        assertEquals(count, new QuestionLoader().initQuestions(jqb).size());
+    }
+
+    @Test
+    public void loadedCatalogDecodesNoBodies() throws Exception {
+        Path file = compileSample();
+
+        QuestionCatalog catalog = new QuestionLoader().loadCatalog(file);
+
+        LazyQuestion first = assertInstanceOf(LazyQuestion.class, catalog.get(0));
+        BinaryQuestionBank bank = assertInstanceOf(BinaryQuestionBank.class, first.getSource());
+        assertEquals(sample().size(), catalog.size());
+        assertEquals(0, bank.getCreatedQuestionCount(), "Loading should only read categories and values");
+        assertFalse(catalog.getIndex().getCategories().isEmpty());
+
+        Question expected = sample().get(3);
+        assertEquals(expected.getQuestionText(), catalog.get(3).getQuestionText());
+        assertEquals(1, bank.getCreatedQuestionCount());
+        assertThrows(UnsupportedOperationException.class, () -> catalog.getQuestions().set(0, null));
+    }
+
+    @Test
+    public void parserStrategyReadsStream() throws Exception {
+        byte[] bytes = Files.readAllBytes(compileSample());
+        List<Question> questions = new BinaryFileParser().parse(new ByteArrayInputStream(bytes));
+        assertEquals(sample().size(), questions.size());
+    }
+
+    @Test
+    public void corruptBankIsRejected() throws Exception {
+        Path bank = compileSample();
+        byte[] bytes = Files.readAllBytes(bank);
+        bytes[bytes.length / 2] ^= 0x55;
+        Files.write(bank, bytes);
+
+        IOException e = assertThrows(IOException.class, () -> BinaryQuestionBank.open(bank));
+        assertTrue(e.getMessage().contains("checksum"));
+    }
+
+    @Test
+    public void nonBankFileIsRejected() throws Exception {
+        Path file = dir.resolve("text.jqb");
+        Files.writeString(file, "Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n");
+
+        assertThrows(IOException.class, () -> BinaryQuestionBank.open(file));
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.parser;
+
+import com.example.model.Question;
+import com.example.parser.strategy.ByteCSVFileParser;
+import com.example.parser.strategy.CSVFileParser;
+import com.example.parser.strategy.FileParserStrategy;
+import com.example.parser.strategy.ParallelCSVFileParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.example.parser.ParserAssertions.assertSameQuestions;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ByteCSVFileParser class.
+ * Tests that the byte tokenizer produces the same questions as the OpenCSV parser,
+ * including backslash escapes, and reports malformed input.
+ *
+ * @author Mahaveer Ragbir
+ */
+public class ByteCSVFileParserTest {
+
+    private static final String HEADER = "Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n";
+
+    @TempDir
+    Path dir;
+
+    private List<Question> parse(FileParserStrategy parser, String csv) {
+        return parser.parse(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void matchesOpenCsvOnSampleFile() throws Exception {
+        byte[] sample;
+        try (InputStream in = getClass().getResourceAsStream("/sample_game_CSV.csv")) {
+            sample = in.readAllBytes();
+        }
+
+        List<Question> expected = new CSVFileParser().parse(new ByteArrayInputStream(sample));
+        List<Question> actual = new ByteCSVFileParser().parse(new ByteArrayInputStream(sample));
+
+        assertFalse(actual.isEmpty(), "Sample file should contain questions");
+        assertSameQuestions(expected, actual);
+    }
+
+    @Test
+    public void quotedCellsMatchOpenCsv() {
+        String csv = HEADER
+                + "\"Loops, Arrays\",200,\"Say \"\"hi\"\"\nover two lines\",\"a,b\",\"\",c,déjà vu,B\r\n"
+                + "Plain,-5,What is a very long question text that spans more than eight bytes?,1,2,3,4,C\r\n"
+                + "Strings,abc,Q?,w,x,y,z,D";
+
+        List<Question> expected = parse(new CSVFileParser(), csv);
+        List<Question> actual = parse(new ByteCSVFileParser(), csv);
+
+        assertEquals(3, actual.size());
+        assertSameQuestions(expected, actual);
+        assertEquals("Say \"hi\"\nover two lines", actual.get(0).getQuestionText());
+        assertEquals(-5, actual.get(1).getValue());
+        assertEquals(0, actual.get(2).getValue());
+    }
+
+    @Test
+    public void backslashEscapesMatchOpenCsv() {
+        String csv = HEADER
+                + "Strings,100,\"say \\\"hi\\\" there\",\"x\\\\y\",b\\\"c,\"q\\,r\",x\\,y,A\n"
+                + "Strings,200,\"esc\\\"\nnext line\",\"end\\\\\",\\\"lead,\"\\\"\",plain,B\r\n"
+                + "Strings,3\\00,Q?,a,b,c,d,C\\\nStrings,400,Q?,a,b,c,d,D\n";
+
+        List<Question> expected = parse(new CSVFileParser(), csv);
+        List<Question> actual = parse(new ByteCSVFileParser(), csv);
+
+        assertEquals(4, expected.size(), "An escaped line break outside quotes still ends the row");
+        assertSameQuestions(expected, actual);
+        assertEquals("say \"hi\" there", actual.get(0).getQuestionText());
+        assertArrayEquals(new String[] { "x\\y", "b\"c", "q,r", "x,y" }, actual.get(0).getOptions());
+        assertEquals("esc\"\nnext line", actual.get(1).getQuestionText());
+        assertEquals(300, actual.get(2).getValue());
+        assertEquals("C", actual.get(2).getCorrectAnswer());
+    }
+
+    @Test
+    public void everyCsvPathReadsTheSameDialect() throws Exception {
+        StringBuilder sb = new StringBuilder(HEADER);
+        for (int i = 0; i < 400; i++) {
+            sb.append("Quotes,").append(i).append(",\"say \\\"hi\\\" there\",a,b,c,d,A\n");
+        }
+        Path file = dir.resolve("escaped.csv");
+        Files.writeString(file, sb);
+
+        List<Question> expected = parse(new CSVFileParser(), sb.toString());
+
+        assertEquals(400, expected.size());
+        assertSameQuestions(expected, parse(new ByteCSVFileParser(), sb.toString()));
+        assertSameQuestions(expected, new ByteCSVFileParser().parse(file));
+        assertSameQuestions(expected, new ParallelCSVFileParser().parse(file));
+    }
+
+    @Test
+    public void mappedFileMatchesStream() throws Exception {
+        String csv = HEADER + "Science,100,\"Q1, first\",a,b,c,d,A\nHistory,200,Q2?,a,b,c,d,B\n";
+        Path file = dir.resolve("bank.csv");
+        Files.writeString(file, csv);
+
+        assertSameQuestions(parse(new ByteCSVFileParser(), csv), new ByteCSVFileParser().parse(file));
+    }
+
+    @Test
+    public void malformedRowStopsStream() {
+        String csv = HEADER + "Science,100,Q1?,a,b,c,d,A\nHistory,200,\"Q2?,a,b,c,d,B\n";
+
+        try (Stream<Question> stream = new ByteCSVFileParser().stream(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)))) {
+            assertThrows(UncheckedIOException.class, stream::toList);
+        }
+
+        assertEquals(1, parse(new ByteCSVFileParser(), csv).size());
+        assertEquals(0, parse(new ByteCSVFileParser(), HEADER + "Science,100,Q1?,a,b\n").size());
+    }
+
+    @Test
+    public void streamReadsOnlyTheRowsItIsAskedFor() {
+        byte[] row = "Science,100,Q?,a,b,c,d,A\n".getBytes(StandardCharsets.UTF_8);
+        long[] served = new long[1];
+
+        // a header followed by rows that never end, so buffering the whole input could not finish
+        InputStream endless = new InputStream() {
+            private final byte[] header = HEADER.getBytes(StandardCharsets.UTF_8);
+
+            @Override
+            public int read() {
+                long position = served[0]++;
+                if (position < header.length) {
+                    return header[(int) position];
+                }
+                return row[(int) ((position - header.length) % row.length)];
+            }
+        };
+
+        try (Stream<Question> stream = new ByteCSVFileParser().stream(endless)) {
+            assertEquals(5, stream.limit(5).count());
+        }
+        assertTrue(served[0] < 1 << 20, "Only a bounded prefix should be read, read " + served[0]);
+    }
+
+    @Test
+    public void wrongHeaderIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> parse(new ByteCSVFileParser(), "A,B,C\n1,2,3\n"));
+        assertThrows(IllegalArgumentException.class,
+                () -> parse(new ByteCSVFileParser(), ""));
+    }
+}
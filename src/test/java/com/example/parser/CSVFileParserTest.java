@@ -0,0 +1,70 @@
+package com.example.parser;
+
+import com.example.model.Question;
+import com.example.parser.strategy.CSVFileParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CSVFileParser class.
+ * Tests list parsing, lazy streaming and header validation.
+ *
+ * @author Mahaveer Ragbir
+ */
+public class CSVFileParserTest {
+
+    private static final String HEADER = "Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n";
+
+    private InputStream csv(String body) {
+        return new ByteArrayInputStream((HEADER + body).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void parseReturnsAllRows() {
+        List<Question> questions = new CSVFileParser().parse(csv(
+                "Science,100,What is H2O?,Water,Fire,Air,Earth,A\n"
+                        + "History,200,\"Who, when?\",A,B,C,D,B\n"));
+
+        assertEquals(2, questions.size());
+        assertEquals("Who, when?", questions.get(1).getQuestionText());
+        assertEquals(200, questions.get(1).getValue());
+    }
+
+    @Test
+    public void streamCanBeFilteredByCategory() {
+        try (Stream<Question> stream = new CSVFileParser().stream(csv(
+                "Science,100,Q1?,A,B,C,D,A\n"
+                        + "History,100,Q2?,A,B,C,D,B\n"
+                        + "Science,200,Q3?,A,B,C,D,C\n"))) {
+            List<String> texts = stream
+                    .filter(q -> q.getCategory().equals("Science"))
+                    .map(Question::getQuestionText)
+                    .collect(Collectors.toList());
+
+            assertEquals(List.of("Q1?", "Q3?"), texts);
+        }
+    }
+
+    @Test
+    public void streamStopsEarlyWhenLimited() {
+        try (Stream<Question> stream = new CSVFileParser().stream(csv(
+                "Science,100,Q1?,A,B,C,D,A\n"
+                        + "Science,200,Q2?,A,B,C,D,B\n"))) {
+            assertEquals(1, stream.limit(1).count());
+        }
+    }
+
+    @Test
+    public void streamRejectsWrongHeader() {
+        InputStream in = new ByteArrayInputStream("a,b,c\n".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalArgumentException.class, () -> new CSVFileParser().stream(in));
+    }
+}
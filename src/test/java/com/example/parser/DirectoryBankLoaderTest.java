@@ -0,0 +1,108 @@
+package com.example.parser;
+
+import com.example.model.Question;
+import com.example.model.QuestionBoard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the DirectoryBankLoader class.
+ * Tests that banks of every format in a directory are merged without duplicate category
+ * and value pairs, that globs select files and that a broken file is reported without
+ * stopping the others.
+ *
+ * @author Mahaveer Ragbir
+ */
+public class DirectoryBankLoaderTest {
+
+    private static final String HEADER = "Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n";
+
+    @TempDir
+    Path dir;
+
+    private void copy(String resource, Path target) throws Exception {
+        Files.createDirectories(target.getParent());
+        try (InputStream in = getClass().getResourceAsStream(resource)) {
+            Files.copy(in, target);
+        }
+    }
+
+    @BeforeEach
+    public void setup() throws Exception {
+        copy("/sample_game_CSV.csv", dir.resolve("a.csv"));
+        copy("/sample_game_JSON.json", dir.resolve("b.json"));
+        copy("/sample_game_XML.xml", dir.resolve("science/c.xml"));
+        Files.writeString(dir.resolve("d.csv"), HEADER + "Extra,100,Q?,a,b,c,d,A\n");
+        Files.writeString(dir.resolve("notes.txt"), "not a bank");
+    }
+
+    @Test
+    public void loadsAndMergesEverySupportedFile() throws Exception {
+        DirectoryBankLoader.Report report = new DirectoryBankLoader(2).load(dir);
+
+        assertEquals(4, report.getFiles().size());
+        assertTrue(report.getFailures().isEmpty());
+
+        int total = report.getFiles().stream().mapToInt(DirectoryBankLoader.FileReport::getQuestionCount).sum();
+        int duplicates = report.getFiles().stream().mapToInt(DirectoryBankLoader.FileReport::getDuplicateCount).sum();
+        assertEquals(total - duplicates, report.getCatalog().size());
+        assertNotNull(report.getCatalog().findQuestion("extra", 100));
+    }
+
+    @Test
+    public void overlappingFilesKeepTheFirstQuestionOfEachPair() throws Exception {
+        Path first = dir.resolve("overlap/1.csv");
+        Path second = dir.resolve("overlap/2.csv");
+        Files.createDirectories(first.getParent());
+        Files.writeString(first, HEADER + "Science,100,First?,a,b,c,d,A\nScience,200,Q2?,a,b,c,d,B\n");
+        Files.writeString(second, HEADER + "science,100,Second?,a,b,c,d,C\nHistory,100,Q3?,a,b,c,d,D\n"
+                + "History,100,Again?,a,b,c,d,D\n");
+
+        DirectoryBankLoader.Report report = new DirectoryBankLoader(2).load(List.of(first, second));
+
+        assertEquals(3, report.getCatalog().size());
+        assertEquals("First?", report.getCatalog().findQuestion("Science", 100).getQuestionText());
+        assertEquals("Q3?", report.getCatalog().findQuestion("History", 100).getQuestionText());
+        assertEquals(0, report.getFiles().get(0).getDuplicateCount());
+        assertEquals(2, report.getFiles().get(1).getDuplicateCount());
+        assertEquals(3, report.getFiles().get(1).getQuestionCount());
+
+        QuestionBoard board = new QuestionBoard(report.getCatalog());
+        for (Question q : report.getCatalog().getQuestions()) {
+            assertSame(q, board.findQuestion(q.getCategory(), q.getValue()));
+            board.markPicked(q);
+        }
+        assertEquals(0, board.getRemainingCount(), "Every merged question should be pickable");
+    }
+
+    @Test
+    public void globSelectsFiles() throws Exception {
+        DirectoryBankLoader.Report report = new DirectoryBankLoader(2).load(dir, "*.csv");
+
+        List<Path> files = report.getFiles().stream().map(DirectoryBankLoader.FileReport::getFile).toList();
+        assertEquals(List.of(dir.resolve("a.csv"), dir.resolve("d.csv")), files);
+    }
+
+    @Test
+    public void brokenFileIsReportedWithoutStoppingOthers() throws Exception {
+        Files.writeString(dir.resolve("broken.csv"), "Wrong,Header\n1,2\n");
+
+        DirectoryBankLoader.Report report = new DirectoryBankLoader(2).load(dir, "*.csv");
+
+        assertEquals(1, report.getFailures().size());
+        DirectoryBankLoader.FileReport failed = report.getFailures().get(0);
+        assertEquals(dir.resolve("broken.csv"), failed.getFile());
+        assertInstanceOf(IllegalArgumentException.class, failed.getFailure());
+
+        Question extra = report.getCatalog().findQuestion("Extra", 100);
+        assertNotNull(extra);
+    }
+}
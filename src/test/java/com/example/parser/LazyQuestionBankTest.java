@@ -0,0 +1,99 @@
+package com.example.parser;
+
+import com.example.model.LazyQuestion;
+import com.example.model.Question;
+import com.example.model.QuestionBoard;
+import com.example.parser.binary.BankCompiler;
+import com.example.parser.strategy.ByteCSVFileParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.example.parser.ParserAssertions.assertSameQuestions;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LazyQuestionBank class.
+ * Tests that lazily loaded questions match eagerly parsed ones for CSV and compiled banks
+ * and that only a bounded number of bodies is kept in memory.
+ *
+ * @author Mahaveer Ragbir
+ */
+public class LazyQuestionBankTest {
+
+    private static final String HEADER = "Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n";
+
+    @TempDir
+    Path dir;
+
+    private Path writeBank(int rows) throws Exception {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < rows; i++) {
+            csv.append("Category ").append(i % 5).append(',').append(100 * (i / 5 + 1))
+               .append(",\"Question, number ").append(i).append("\"\"?\"\"\",a,b,\"c\nc\",d,")
+               .append("ABCD".charAt(i % 4)).append("\r\n");
+        }
+        Path file = dir.resolve("bank.csv");
+        Files.writeString(file, csv);
+        return file;
+    }
+
+    @Test
+    public void csvBankMatchesEagerParse() throws Exception {
+        Path file = writeBank(50);
+
+        LazyQuestionBank bank = LazyQuestionBank.open(file);
+
+        assertInstanceOf(LazyQuestion.class, bank.getCatalog().get(0));
+        assertEquals(0, bank.getLoads(), "Opening should not read any bodies");
+        assertSameQuestions(new ByteCSVFileParser().parse(file), bank.getCatalog().getQuestions());
+    }
+
+    @Test
+    public void compiledBankMatchesEagerParse() throws Exception {
+        Path csv = writeBank(20);
+        Path compiled = dir.resolve("bank.jqb");
+        BankCompiler.compile(csv, compiled);
+
+        LazyQuestionBank bank = LazyQuestionBank.open(compiled);
+
+        assertSameQuestions(new ByteCSVFileParser().parse(csv), bank.getCatalog().getQuestions());
+    }
+
+    @Test
+    public void bodyCacheIsBounded() throws Exception {
+        LazyQuestionBank bank = LazyQuestionBank.open(writeBank(100), 4);
+        List<Question> questions = bank.getCatalog().getQuestions();
+
+        for (Question q : questions) {
+            q.getQuestionText();
+            q.getOptions();
+        }
+
+        assertEquals(4, bank.getCachedBodyCount());
+        assertEquals(100, bank.getLoads());
+        assertEquals(100, bank.getHits());
+    }
+
+    @Test
+    public void boardWorksOverLazyCatalog() throws Exception {
+        LazyQuestionBank bank = LazyQuestionBank.open(writeBank(10));
+        QuestionBoard board = new QuestionBoard(bank.getCatalog());
+
+        Question q = board.findQuestion("category 2", 100);
+        assertNotNull(q);
+        board.markPicked(q);
+
+        assertTrue(board.isPicked(q));
+        assertEquals(9, board.getRemainingCount());
+        assertEquals("Question, number 2\"?\"", q.getQuestionText());
+    }
+
+    @Test
+    public void unsupportedFormatIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> LazyQuestionBank.open(dir.resolve("bank.json")));
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.parser;
+
+import com.example.model.Question;
+import com.example.parser.strategy.CSVFileParser;
+import com.example.parser.strategy.ParallelCSVFileParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.example.parser.ParserAssertions.assertSameQuestions;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ParallelCSVFileParser class.
+ * Tests that parallel chunked parsing produces the same questions as the sequential parser,
+ * including cells with quoted newlines and commas that straddle chunk boundaries.
+ *
+ * @author Mahaveer Ragbir
+ */
+public class ParallelCSVFileParserTest {
+
+    @TempDir
+    Path dir;
+
+    private List<Question> sequential(Path file) throws Exception {
+        try (InputStream in = Files.newInputStream(file)) {
+            return new CSVFileParser().parse(in);
+        }
+    }
+
+    @Test
+    public void matchesSequentialParserOnSampleFile() throws Exception {
+        Path csv = dir.resolve("sample.csv");
+        try (InputStream in = getClass().getResourceAsStream("/sample_game_CSV.csv")) {
+            Files.copy(in, csv);
+        }
+
+        ParallelCSVFileParser parser = new ParallelCSVFileParser(ForkJoinPool.commonPool(), 64);
+        assertSameQuestions(sequential(csv), parser.parse(csv));
+    }
+
+    @Test
+    public void quotedNewlinesAcrossChunksAreKept() throws Exception {
+        StringBuilder sb = new StringBuilder("Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n");
+        for (int i = 0; i < 2000; i++) {
+            sb.append("Cat ").append(i % 7).append(',')
+              .append((i % 5 + 1) * 100).append(',')
+              .append("\"Line one of ").append(i).append("\nline \"\"two\"\", with comma\n\"").append(',')
+              .append("a").append(',')
+              .append("\"b,\nb\"").append(',')
+              .append("c").append(',')
+              .append("d é").append(',')
+              .append("A\n");
+        }
+        Path csv = dir.resolve("quoted.csv");
+        Files.writeString(csv, sb.toString(), StandardCharsets.UTF_8);
+
+        List<Question> expected = sequential(csv);
+        assertEquals(2000, expected.size());
+
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            for (int chunkSize : new int[] { 1, 7, 100, 4096 }) {
+                ParallelCSVFileParser parser = new ParallelCSVFileParser(pool, chunkSize);
+                assertSameQuestions(expected, parser.parse(csv));
+            }
+        }
+    }
+
+    @Test
+    public void backslashEscapedQuotesAcrossChunksAreKept() throws Exception {
+        StringBuilder sb = new StringBuilder("Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n");
+        for (int i = 0; i < 2000; i++) {
+            // one escaped quote per cell, so counting it as a real quote flips the parity
+            sb.append("Cat ").append(i % 7).append(',')
+              .append((i % 5 + 1) * 100).append(',')
+              .append("\"Line ").append(i).append(" \\\" opens\nstill inside, C:\\\\\"").append(',')
+              .append("a\\\"").append(',')
+              .append("\"b,\nb\"").append(',')
+              .append("c").append(',')
+              .append("d").append(',')
+              .append("A\n");
+        }
+        Path csv = dir.resolve("escaped.csv");
+        Files.writeString(csv, sb.toString(), StandardCharsets.UTF_8);
+
+        List<Question> expected = sequential(csv);
+        assertEquals(2000, expected.size());
+        assertEquals("Line 0 \" opens\nstill inside, C:\\", expected.get(0).getQuestionText());
+
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            for (int chunkSize : new int[] { 1, 7, 100, 4096 }) {
+                ParallelCSVFileParser parser = new ParallelCSVFileParser(pool, chunkSize);
+                assertSameQuestions(expected, parser.parse(csv));
+            }
+        }
+    }
+
+    @Test
+    public void headerOnlyFileHasNoQuestions() throws Exception {
+        Path csv = dir.resolve("empty.csv");
+        Files.writeString(csv, "Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n");
+
+        assertTrue(new ParallelCSVFileParser().parse(csv).isEmpty());
+    }
+
+    @Test
+    public void wrongHeaderIsRejected() throws Exception {
+        Path csv = dir.resolve("wrong.csv");
+        Files.writeString(csv, "A,B,C\n1,2,3\n");
+
+        assertThrows(IllegalArgumentException.class, () -> new ParallelCSVFileParser().parse(csv));
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.parser;
+
+import com.example.model.Question;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Assertions shared by the parser tests.
+ *
+ * @author Mahaveer Ragbir
+ */
+final class ParserAssertions {
+
+    private ParserAssertions() {
+    }
+
+    /**
+     * Asserts that two parses hold the same questions in the same order, comparing every field.
+     *
+     * @param expected the questions of the reference parse
+     * @param actual   the questions of the parse under test
+     */
+    static void assertSameQuestions(List<Question> expected, List<Question> actual) {
+        assertEquals(expected.size(), actual.size());
+
+        for (int i = 0; i < expected.size(); i++) {
+            Question e = expected.get(i);
+            Question a = actual.get(i);
+            assertEquals(e.getCategory(), a.getCategory());
+            assertEquals(e.getValue(), a.getValue());
+            assertEquals(e.getQuestionText(), a.getQuestionText());
+            assertArrayEquals(e.getOptions(), a.getOptions());
+            assertEquals(e.getCorrectAnswer(), a.getCorrectAnswer());
+            assertEquals(e.getCorrectAnswerIndex(), a.getCorrectAnswerIndex());
+        }
+    }
+}
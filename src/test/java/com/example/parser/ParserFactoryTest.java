@@ -2,9 +2,10 @@ package com.example.parser;
 
 import com.example.parser.factory.ParserFactory;
 import com.example.parser.strategy.FileParserStrategy;
-import com.example.parser.strategy.CSVFileParser;
-import com.example.parser.strategy.JSONFileParser;
-import com.example.parser.strategy.XMLFileParser;
+import com.example.parser.strategy.ByteCSVFileParser;
+import com.example.parser.strategy.StreamingJSONFileParser;
+import com.example.parser.strategy.StAXXMLFileParser;
+import com.example.parser.strategy.BinaryFileParser;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -19,18 +20,24 @@ public class ParserFactoryTest {
     @Test
     public void csvParserReturned() {
         FileParserStrategy p = ParserFactory.createParser("data/questions.csv");
-        assertTrue(p instanceof CSVFileParser);
+        assertTrue(p instanceof ByteCSVFileParser);
     }
 
     @Test
     public void jsonParserReturned() {
         FileParserStrategy p = ParserFactory.createParser("data/questions.json");
-        assertTrue(p instanceof JSONFileParser);
+        assertTrue(p instanceof StreamingJSONFileParser);
     }
 
     @Test
     public void xmlParserReturned() {
         FileParserStrategy p = ParserFactory.createParser("data/questions.xml");
-        assertTrue(p instanceof XMLFileParser);
+        assertTrue(p instanceof StAXXMLFileParser);
+    }
+
+    @Test
+    public void binaryParserReturned() {
+        FileParserStrategy p = ParserFactory.createParser("data/questions.jqb");
+        assertTrue(p instanceof BinaryFileParser);
     }
 }
@@ -0,0 +1,52 @@
+package com.example.parser;
+
+import com.example.model.Question;
+import com.example.parser.strategy.FileParserStrategy;
+import com.example.parser.strategy.StAXXMLFileParser;
+import com.example.parser.strategy.XMLFileParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for StAXXMLFileParser class.
+ * Tests that the streaming parser produces the same questions as the DOM parser.
+ *
+ * @author Mahaveer Ragbir
+ */
+public class StAXXMLFileParserTest {
+
+    private List<Question> parse(FileParserStrategy parser) throws Exception {
+        try (InputStream in = getClass().getResourceAsStream("/sample_game_XML.xml")) {
+            return parser.parse(in);
+        }
+    }
+
+    @Test
+    public void streamingParserMatchesDomParser() throws Exception {
+        List<Question> expected = parse(new XMLFileParser());
+        List<Question> actual = parse(new StAXXMLFileParser());
+
+        assertFalse(actual.isEmpty(), "Sample file should contain questions");
+        assertEquals(expected.size(), actual.size());
+
+        for (int i = 0; i < expected.size(); i++) {
+            Question e = expected.get(i);
+            Question a = actual.get(i);
+            assertEquals(e.getCategory(), a.getCategory());
+            assertEquals(e.getValue(), a.getValue());
+            assertEquals(e.getQuestionText(), a.getQuestionText());
+            assertArrayEquals(e.getOptions(), a.getOptions());
+            assertEquals(e.getCorrectAnswer(), a.getCorrectAnswer());
+        }
+    }
+
+    @Test
+    public void entitiesAreDecoded() throws Exception {
+        Question first = parse(new StAXXMLFileParser()).get(0);
+        assertEquals("Variables & Data Types", first.getCategory());
+    }
+}
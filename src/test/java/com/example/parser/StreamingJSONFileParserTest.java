@@ -0,0 +1,78 @@
+package com.example.parser;
+
+import com.example.model.Question;
+import com.example.parser.strategy.FileParserStrategy;
+import com.example.parser.strategy.StreamingJSONFileParser;
+import com.example.parser.strategy.JSONFileParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for StreamingJSONFileParser class.
+ * Tests that the streaming parser produces the same questions as the json-simple object model parser.
+ *
+ * @author Mahaveer Ragbir
+ */
+public class StreamingJSONFileParserTest {
+
+    private List<Question> parse(FileParserStrategy parser) throws Exception {
+        try (InputStream in = getClass().getResourceAsStream("/sample_game_JSON.json")) {
+            return parser.parse(in);
+        }
+    }
+
+    @Test
+    public void streamingParserMatchesDomParser() throws Exception {
+        List<Question> expected = parse(new JSONFileParser());
+        List<Question> actual = parse(new StreamingJSONFileParser());
+
+        assertFalse(actual.isEmpty(), "Sample file should contain questions");
+        assertEquals(expected.size(), actual.size());
+
+        for (int i = 0; i < expected.size(); i++) {
+            Question e = expected.get(i);
+            Question a = actual.get(i);
+            assertEquals(e.getCategory(), a.getCategory());
+            assertEquals(e.getValue(), a.getValue());
+            assertEquals(e.getQuestionText(), a.getQuestionText());
+            assertArrayEquals(e.getOptions(), a.getOptions());
+            assertEquals(e.getCorrectAnswer(), a.getCorrectAnswer());
+        }
+    }
+
+    @Test
+    public void streamEmitsQuestionBeforeReadingRestOfArray() {
+        String json = "[{\"Category\":\"Science\",\"Value\":100,\"Question\":\"Q1?\","
+                + "\"Options\":{\"A\":\"a\",\"B\":\"b\",\"C\":\"c\",\"D\":\"d\"},\"CorrectAnswer\":\"A\"},"
+                + "{ this is not valid json";
+        InputStream in = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+
+        try (Stream<Question> stream = new StreamingJSONFileParser().stream(in)) {
+            Question first = stream.findFirst().orElseThrow();
+            assertEquals("Science", first.getCategory());
+            assertEquals(100, first.getValue());
+            assertArrayEquals(new String[] { "a", "b", "c", "d" }, first.getOptions());
+        }
+    }
+
+    @Test
+    public void valuesWithoutKeysAreIgnored() {
+        String json = "[[1], {\"Category\":\"Science\",\"Value\":100,\"Question\":\"Q1?\","
+                + "\"Options\":[\"x\"],\"CorrectAnswer\":\"A\"}, [\"y\"]]";
+        InputStream in = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+
+        List<Question> questions = new StreamingJSONFileParser().parse(in);
+
+        assertEquals(1, questions.size());
+        assertEquals("Science", questions.get(0).getCategory());
+        assertEquals("Q1?", questions.get(0).getQuestionText());
+        assertArrayEquals(new String[4], questions.get(0).getOptions());
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.parser;
+
+import com.example.model.Question;
+import com.example.parser.strategy.ByteCSVFileParser;
+import com.example.parser.strategy.FileParserStrategy;
+import com.example.parser.strategy.StAXXMLFileParser;
+import com.example.parser.strategy.StreamingJSONFileParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for StringPool class.
+ * Tests that pooled parsers share repeated strings, that correct answers stored as an index
+ * retain no strings of their own and that the pool respects its bounds.
+ *
+ * @author Mahaveer Ragbir
+ */
+public class StringPoolTest {
+
+    private static final String HEADER = "Category,Value,Question,OptionA,OptionB,OptionC,OptionD,CorrectAnswer\n";
+    private static final String[] CATEGORIES = { "Variables", "Loops", "Arrays", "Methods", "Classes", "Exceptions" };
+    private static final String[] OPTIONS = { "int", "double", "String", "boolean", "char", "long", "None of these" };
+
+    private static String bank(int rows) {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < rows; i++) {
+            csv.append(CATEGORIES[i % CATEGORIES.length]).append(',')
+               .append(100 * (1 + i % 5)).append(',')
+               .append("Which type fits question ").append(i).append("?,");
+            for (int o = 0; o < 4; o++) {
+                csv.append(OPTIONS[(i + o) % OPTIONS.length]).append(',');
+            }
+            csv.append("ABCD".charAt(i % 4)).append('\n');
+        }
+        return csv.toString();
+    }
+
+    private static List<Question> parse(FileParserStrategy parser, String csv) {
+        return parser.parse(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Estimates the bytes held by the strings of a bank, counting each distinct instance once:
+     * a 24-byte String plus a 16-byte array header and its Latin-1 contents, rounded to 8 bytes.
+     */
+    private static long retainedStringBytes(List<Question> questions, boolean answers) {
+        Set<String> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        long bytes = 0;
+
+        for (Question q : questions) {
+            bytes += size(seen, q.getCategory()) + size(seen, q.getQuestionText());
+            for (String option : q.getOptions()) {
+                bytes += size(seen, option);
+            }
+            if (answers) {
+                bytes += size(seen, q.getCorrectAnswer());
+            }
+        }
+        return bytes;
+    }
+
+    private static long size(Set<String> seen, String s) {
+        if (s == null || !seen.add(s)) return 0;
+        return size(s);
+    }
+
+    private static long size(String s) {
+        return 24 + ((16 + s.length() + 7) & ~7);
+    }
+
+    @Test
+    public void pooledParseRetainsFarLessString() {
+        String csv = bank(10_000);
+
+        List<Question> plain = parse(new ByteCSVFileParser(StringPool.disabled()), csv);
+        List<Question> pooled = parse(new ByteCSVFileParser(new StringPool(1024, 64)), csv);
+
+        long before = retainedStringBytes(plain, true);
+        long after = retainedStringBytes(pooled, true);
+
+        assertEquals(plain.size(), pooled.size());
+        assertTrue(after * 2 < before, "Pooled bank should retain under half the string bytes: "
+                + after + " vs " + before);
+    }
+
+    @Test
+    public void correctAnswersRetainNoStringsOfTheirOwn() {
+        List<Question> questions = parse(new ByteCSVFileParser(StringPool.disabled()), bank(10_000));
+
+        long answers = retainedStringBytes(questions, true) - retainedStringBytes(questions, false);
+        long copies = questions.stream().mapToLong(q -> size(q.getCorrectAnswer())).sum();
+
+        assertTrue(answers <= 4 * size("A"), "Only the four shared labels should be retained: " + answers);
+        assertTrue(answers * 1000 < copies, "A string per answer would retain " + copies + " bytes");
+    }
+
+    @Test
+    public void everyParserSharesCategoriesAndOptions() throws Exception {
+        StringPool pool = new StringPool(1024, 64);
+        String[] resources = { "/sample_game_CSV.csv", "/sample_game_JSON.json", "/sample_game_XML.xml" };
+        FileParserStrategy[] parsers = {
+            new ByteCSVFileParser(pool), new StreamingJSONFileParser(pool), new StAXXMLFileParser(pool)
+        };
+
+        Question first = null;
+        for (int i = 0; i < parsers.length; i++) {
+            try (InputStream in = getClass().getResourceAsStream(resources[i])) {
+                Question q = parsers[i].parse(in).get(0);
+                if (first == null) {
+                    first = q;
+                } else {
+                    assertSame(first.getCategory(), q.getCategory());
+                }
+                assertSame(pool.canonical(q.getOptions()[0]), q.getOptions()[0]);
+            }
+        }
+    }
+
+    @Test
+    public void poolRespectsBounds() {
+        StringPool pool = new StringPool(2, 5);
+
+        String a = new String("alpha");
+        assertSame(a, pool.canonical(a));
+        assertSame(a, pool.canonical(new String("alpha")));
+
+        String longer = new String("too long");
+        assertSame(longer, pool.canonical(longer));
+        assertNotSame(longer, pool.canonical(new String("too long")));
+
+        pool.canonical("beta");
+        String full = new String("gamma");
+        assertSame(full, pool.canonical(full));
+        assertEquals(2, pool.size());
+
+        assertNull(pool.canonical((String) null));
+        assertEquals(0, StringPool.disabled().size());
+    }
+}
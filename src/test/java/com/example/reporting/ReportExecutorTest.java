@@ -1,6 +1,8 @@
 package com.example.reporting;
 
 import com.example.report.ReportExecutor;
+import com.example.report.ReportGenerationException;
+import com.example.report.ReportGenerator;
 import com.example.gameplay.state.GameEngine;
 import com.example.model.Player;
 import com.example.model.Question;
@@ -69,6 +71,49 @@ public class ReportExecutorTest {
         assertDoesNotThrow(() -> ReportExecutor.executeReports(gameEngine));
     }
 
+    @Test
+    public void executeReportsConcurrentlyCreatesFiles() throws ReportGenerationException {
+        ReportExecutor.executeReportsConcurrently(gameEngine, ReportExecutor.DEFAULT_TIMEOUT_MILLIS);
+
+        assertTrue(new File("jeopardy_report.txt").exists(), "TXT report should be created");
+        assertTrue(new File("jeopardy_report.pdf").exists(), "PDF report should be created");
+        assertTrue(new File("jeopardy_report.docx").exists(), "DOCX report should be created");
+    }
+
+    @Test
+    public void executeReportsConcurrentlyAggregatesFailures() {
+        ReportGenerator failing = (session, path) -> {
+            throw new ReportGenerationException("cannot write " + path);
+        };
+
+        ReportGenerationException e = assertThrows(ReportGenerationException.class,
+                () -> ReportExecutor.executeReportsConcurrently(gameEngine,
+                        List.of(failing, failing), List.of("a", "b"), 5000));
+
+        assertEquals("cannot write a", e.getMessage());
+        assertEquals(1, e.getSuppressed().length);
+        assertEquals("cannot write b", e.getSuppressed()[0].getMessage());
+    }
+
+    @Test
+    public void executeReportsConcurrentlyTimesOutSlowGenerator() {
+        ReportGenerator slow = (session, path) -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        long start = System.nanoTime();
+        ReportGenerationException e = assertThrows(ReportGenerationException.class,
+                () -> ReportExecutor.executeReportsConcurrently(gameEngine, List.of(slow), List.of("slow"), 100));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(e.getMessage().contains("timed out"), "Failure should report the timeout");
+        assertTrue(elapsedMillis < 5000, "Slow generator should be cancelled");
+    }
+
     private void deleteFileIfExists(String filename) {
         File file = new File(filename);
         if (file.exists()) {